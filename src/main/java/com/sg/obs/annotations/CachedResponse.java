@@ -0,0 +1,20 @@
+package com.sg.obs.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JSON GET endpoint whose successful response body is cached as serialized bytes, keyed by path and query,
+ * and written straight to the servlet response on a hit.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+
+    /**
+     * Sort properties that change without a tagged write; pages sorted on them are never cached.
+     */
+    String[] uncachedSorts() default {};
+}
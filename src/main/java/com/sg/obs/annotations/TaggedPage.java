@@ -0,0 +1,16 @@
+package com.sg.obs.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code @Cacheable} read whose cached pages are tagged with the entity ids they contain,
+ * so writes can evict only the pages they affect. A page loaded while a write invalidated its cache
+ * is dropped again right after it is cached.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TaggedPage {
+}
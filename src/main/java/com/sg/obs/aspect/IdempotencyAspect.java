@@ -0,0 +1,137 @@
+package com.sg.obs.aspect;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.IdempotentResponse;
+import com.sg.obs.exception.IdempotencyConflictException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+@Slf4j
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final ObjectMapper mapper;
+    private final IMap<String, IdempotentResponse> responses;
+    private final Duration ttl;
+    private final Duration lockWait;
+    private final Duration lockLease;
+
+    public IdempotencyAspect(ObjectMapper mapper,
+                             HazelcastInstance hazelcastInstance,
+                             @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                             @Value("${app.idempotency.lock-wait:10s}") Duration lockWait,
+                             @Value("${app.idempotency.lock-lease:30s}") Duration lockLease) {
+        this.mapper = mapper;
+        this.responses = hazelcastInstance.getMap(HazelcastConfig.IDEMPOTENCY_MAP);
+        this.ttl = ttl;
+        this.lockWait = lockWait;
+        this.lockLease = lockLease;
+    }
+
+
+    @Around("execution(@com.sg.obs.annotations.Idempotent * *(..))")
+    public Object replayOrProceed(ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = Optional.ofNullable((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
+                .map(ServletRequestAttributes::getRequest)
+                .orElse(null);
+        String idempotencyKey = Optional.ofNullable(request)
+                .map(req -> req.getHeader(IDEMPOTENCY_KEY_HEADER))
+                .filter(StringUtils::isNotBlank)
+                .orElse(null);
+        if (idempotencyKey == null) {
+            return joinPoint.proceed();
+        }
+
+        // The same key sent to another endpoint is a different request
+        String key = request.getMethod() + " " + request.getServletPath() + " " + idempotencyKey;
+        String fingerprint = fingerprint(getRequestBodyParameter(joinPoint));
+
+        // Concurrent duplicates queue on the key lock and then find the stored response
+        if (!responses.tryLock(key, lockWait.toMillis(), TimeUnit.MILLISECONDS, lockLease.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IdempotencyConflictException(409, "A request with this Idempotency-Key is still being processed");
+        }
+        try {
+            IdempotentResponse stored = responses.get(key);
+            if (stored != null) {
+                if (!stored.fingerprint().equals(fingerprint)) {
+                    throw new IdempotencyConflictException(422, "Idempotency-Key was already used with a different payload");
+                }
+                log.debug("Replaying stored response for {}", key);
+                return ResponseEntity.status(stored.status())
+                        .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(mapper.readTree(stored.body()));
+            }
+
+            Object response = joinPoint.proceed();
+            if (response instanceof ResponseEntity<?> entity) {
+                responses.set(key, new IdempotentResponse(entity.getStatusCode().value(), fingerprint,
+                        mapper.writeValueAsBytes(entity.getBody())), ttl.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            return response;
+        } finally {
+            release(key);
+        }
+    }
+
+    private void release(String key) {
+        // The lease may have run out while the request was processed; the lock is then gone or held by a
+        // duplicate, and unlocking must not replace this request's outcome with an IllegalMonitorStateException
+        try {
+            responses.unlock(key);
+        } catch (IllegalMonitorStateException e) {
+            log.warn("Idempotency lock on {} outlived its {} lease; a duplicate may have run concurrently", key, lockLease);
+        }
+    }
+
+    private String fingerprint(Object payload) throws JsonProcessingException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(mapper.writeValueAsBytes(payload)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object getRequestBodyParameter(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < args.length; i++) {
+            for (Annotation annotation : method.getParameterAnnotations()[i]) {
+                if (annotation instanceof RequestBody) {
+                    return args[i];
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sg.obs.aspect;
+
+import com.sg.obs.service.CacheInvalidationService;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs outside the cache interceptor, so it sees a tagged page after the interceptor has put it. A write that
+ * committed while the page was loading may have found nothing to evict yet; any page {@link PageTagAspect}
+ * loaded under a cache generation that has since moved is dropped again.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+public class PageLoadGuardAspect {
+
+    private static final ThreadLocal<List<LoadedPage>> LOADED = new ThreadLocal<>();
+
+    private final CacheInvalidationService cacheInvalidationService;
+
+
+    static void loaded(String cache, String key, long generation) {
+        Optional.ofNullable(LOADED.get()).ifPresent(pages -> pages.add(new LoadedPage(cache, key, generation)));
+    }
+
+    @Around("execution(@com.sg.obs.annotations.TaggedPage * *(..))")
+    public Object checkLoadedPages(ProceedingJoinPoint joinPoint) throws Throwable {
+        List<LoadedPage> enclosing = LOADED.get();
+        List<LoadedPage> pages = new ArrayList<>();
+        LOADED.set(pages);
+        try {
+            Object result = joinPoint.proceed();
+            pages.forEach(page -> cacheInvalidationService.evictIfInvalidatedSince(page.cache(), page.key(), page.generation()));
+            return result;
+        } finally {
+            if (enclosing == null) {
+                LOADED.remove();
+            } else {
+                LOADED.set(enclosing);
+            }
+        }
+    }
+
+    private record LoadedPage(String cache, String key, long generation) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.sg.obs.aspect;
+
+import com.sg.obs.config.CacheTags;
+import com.sg.obs.service.CacheInvalidationService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs inside the cache interceptor, so it only sees cache misses: the page about to be cached is tagged
+ * under the same key the interceptor stores it with. The cache's generation is read before the page is loaded
+ * and handed to {@link PageLoadGuardAspect}, which drops the page after the put if a write invalidated the
+ * cache in between. Pages are keyed by {@code pageableKeyGenerator}, or by the default key when the
+ * {@code @Cacheable} names no key generator.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class PageTagAspect {
+
+    private static final KeyGenerator DEFAULT_KEY_GENERATOR = new SimpleKeyGenerator();
+
+    private final CacheInvalidationService cacheInvalidationService;
+    private final KeyGenerator keyGenerator;
+
+    public PageTagAspect(CacheInvalidationService cacheInvalidationService,
+                         @Qualifier("pageableKeyGenerator") KeyGenerator keyGenerator) {
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.keyGenerator = keyGenerator;
+    }
+
+
+    @Around("execution(@com.sg.obs.annotations.TaggedPage * *(..))")
+    public Object tagPage(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Optional<Cacheable> cacheable = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Cacheable.class));
+        Map<String, Long> generations = cacheable
+                .map(annotation -> Arrays.stream(annotation.cacheNames())
+                        .collect(Collectors.toMap(Function.identity(), cacheInvalidationService::generation)))
+                .orElse(Map.of());
+
+        Object result = joinPoint.proceed();
+
+        Object[] args = joinPoint.getArgs();
+        KeyGenerator pageKeys = cacheable.map(Cacheable::keyGenerator).filter(String::isEmpty).isPresent()
+                ? DEFAULT_KEY_GENERATOR
+                : keyGenerator;
+        String key = String.valueOf(pageKeys.generate(joinPoint.getTarget(), method, args));
+        Pageable pageable = Arrays.stream(args)
+                .filter(Pageable.class::isInstance)
+                .map(Pageable.class::cast)
+                .findFirst()
+                .orElse(null);
+        Set<String> tags = CacheTags.of(result, pageable);
+        generations.forEach((cache, generation) -> {
+            cacheInvalidationService.tagPage(cache, key, tags);
+            PageLoadGuardAspect.loaded(cache, key, generation);
+        });
+        return result;
+    }
+}
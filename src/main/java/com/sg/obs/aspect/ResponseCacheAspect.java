@@ -0,0 +1,114 @@
+package com.sg.obs.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg.obs.annotations.CachedResponse;
+import com.sg.obs.config.CacheTags;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.SerializedResponse;
+import com.sg.obs.service.CacheInvalidationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link CachedResponse} endpoints from their serialized JSON body, skipping the service call, the cached
+ * object round trip and Jackson on a hit. Bodies are tagged like cached pages, so the writes that evict the
+ * underlying entries evict them too; stock is part of the body, so stock movements evict the item's responses as well.
+ */
+@Aspect
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.cache.response.enabled", havingValue = "true")
+public class ResponseCacheAspect {
+
+    private final ObjectMapper mapper;
+    private final Cache responses;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final int firstPages;
+
+    public ResponseCacheAspect(ObjectMapper mapper,
+                               CacheManager cacheManager,
+                               CacheInvalidationService cacheInvalidationService,
+                               @Value("${app.cache.response.first-pages:1}") int firstPages) {
+        this.mapper = mapper;
+        this.responses = Objects.requireNonNull(cacheManager.getCache(HazelcastConfig.RESPONSE_CACHE));
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.firstPages = firstPages;
+    }
+
+
+    @Around("execution(@com.sg.obs.annotations.CachedResponse * *(..)) && @annotation(cachedResponse)")
+    public Object serveOrCache(ProceedingJoinPoint joinPoint, CachedResponse cachedResponse) throws Throwable {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        Pageable pageable = Arrays.stream(joinPoint.getArgs())
+                .filter(Pageable.class::isInstance)
+                .map(Pageable.class::cast)
+                .findFirst()
+                .orElse(null);
+        if (attributes == null || attributes.getResponse() == null || !isCacheable(pageable, cachedResponse)) {
+            return joinPoint.proceed();
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        String key = request.getRequestURI() + Optional.ofNullable(request.getQueryString()).map(query -> "?" + query).orElse("");
+        SerializedResponse cached = responses.get(key, SerializedResponse.class);
+        if (cached != null) {
+            if (cached.eTag() == null || !new ServletWebRequest(request, attributes.getResponse()).checkNotModified(cached.eTag())) {
+                write(attributes.getResponse(), cached);
+            }
+            // Nothing left for the return value handler to write
+            return null;
+        }
+
+        long generation = cacheInvalidationService.generation(HazelcastConfig.RESPONSE_CACHE);
+        Object response = joinPoint.proceed();
+        if (response instanceof ResponseEntity<?> entity && entity.getStatusCode().isSameCodeAs(HttpStatus.OK)) {
+            cacheInvalidationService.tagPage(HazelcastConfig.RESPONSE_CACHE, key, CacheTags.of(entity.getBody(), pageable));
+            responses.put(key, new SerializedResponse(mapper.writeValueAsBytes(entity.getBody()), entity.getHeaders().getETag()));
+            // A write landing between the read above and this put may have found nothing to evict yet
+            cacheInvalidationService.evictIfInvalidatedSince(HazelcastConfig.RESPONSE_CACHE, key, generation);
+        }
+        return response;
+    }
+
+    private boolean isCacheable(Pageable pageable, CachedResponse cachedResponse) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return true;
+        }
+        return pageable.getPageNumber() < firstPages && Arrays.stream(cachedResponse.uncachedSorts())
+                .noneMatch(property -> pageable.getSort().getOrderFor(property) != null);
+    }
+
+    private void write(HttpServletResponse response, SerializedResponse cached) throws IOException {
+        byte[] body = cached.body();
+        response.setStatus(HttpStatus.OK.value());
+        if (cached.eTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, cached.eTag());
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        log.debug("Served {} cached response bytes", body.length);
+    }
+}
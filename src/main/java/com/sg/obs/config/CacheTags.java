@@ -0,0 +1,60 @@
+package com.sg.obs.config;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.dto.order.OrderInfo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+public final class CacheTags {
+
+    // Pages sorted on a property an update can change; any update may move rows across them
+    public static final String MUTABLE_SORT = "sort:mutable";
+
+    private static final Set<String> STABLE_SORT_PROPERTIES = Set.of("id", "orderNo", "createdDate", "createdBy");
+
+    private CacheTags() {
+    }
+
+    public static String item(Long id) {
+        return "item:" + id;
+    }
+
+    public static String order(String orderNo) {
+        return "order:" + orderNo;
+    }
+
+    public static Set<String> of(Object result, Pageable pageable) {
+        Set<String> tags = new TreeSet<>();
+        Object data = result instanceof ApiResponse<?> response ? response.getData() : result;
+        if (data instanceof PageWrapper<?> page) {
+            page.getContent().forEach(row -> addRowTags(tags, row));
+        } else if (data != null) {
+            addRowTags(tags, data);
+        }
+        if (pageable != null && isSortedOnMutableProperty(pageable.getSort())) {
+            tags.add(MUTABLE_SORT);
+        }
+        return tags;
+    }
+
+    private static void addRowTags(Set<String> tags, Object row) {
+        switch (row) {
+            case ItemInfo item -> tags.add(item(item.getId()));
+            // Order rows show the item name, so they are tagged with their item as well
+            case OrderInfo order -> {
+                tags.add(order(order.getOrderNo()));
+                tags.add(item(order.getItemId()));
+            }
+            default -> throw new IllegalArgumentException("No cache tags defined for " + row.getClass().getSimpleName());
+        }
+    }
+
+    private static boolean isSortedOnMutableProperty(Sort sort) {
+        return sort.stream().anyMatch(order -> !STABLE_SORT_PROPERTIES.contains(order.getProperty()));
+    }
+}
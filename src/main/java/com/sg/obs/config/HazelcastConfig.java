@@ -2,16 +2,42 @@ package com.sg.obs.config;
 
 
 import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.config.JoinConfig;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.MapStore;
+import com.hazelcast.spi.merge.PutIfAbsentMergePolicy;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import com.sg.obs.config.serialization.AcceptedOrderSerializer;
+import com.sg.obs.config.serialization.ApiResponseSerializer;
+import com.sg.obs.config.serialization.InventoryMovementSerializer;
+import com.sg.obs.config.serialization.ItemInfoSerializer;
+import com.sg.obs.config.serialization.OrderInfoSerializer;
+import com.sg.obs.config.serialization.PageWrapperSerializer;
+import com.sg.obs.config.serialization.SalesEventSerializer;
+import com.sg.obs.config.serialization.SalesRollupSerializer;
+import com.sg.obs.config.serialization.SerializedResponseSerializer;
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.dto.order.AcceptedOrder;
+import com.sg.obs.enums.SalesWindow;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Configuration
 public class HazelcastConfig {
 
@@ -19,40 +45,179 @@ public class HazelcastConfig {
     public static final String ORDER_CACHE = "orderCache";
     public static final String PAGED_ITEM_CACHE = "pagedItemCache";
     public static final String PAGED_ORDER_CACHE = "pagedOrderCache";
+    public static final String IDEMPOTENCY_MAP = "idempotencyKeys";
+    public static final String PAGE_TAGS_MAP = "pageTags";
+    public static final String CACHE_GENERATIONS_MAP = "cacheGenerations";
+    public static final String STOCK_CACHE = "stockCache";
+    public static final String RESPONSE_CACHE = "responseCache";
+    public static final String STOCK_BALANCE_MAP = "stockBalances";
+    public static final String INVENTORY_LEDGER_MAP = "inventoryLedger";
+    public static final String ORDER_OUTBOX_MAP = "orderOutbox";
+    public static final String SALES_EVENT_MAP = "salesEvents";
+    public static final String SALES_EVENT_ID_GENERATOR = "salesEventIds";
+    public static final int SALES_EVENT_JOURNAL_CAPACITY = 200_000;
+    public static final String CACHE_INVALIDATION_TOPIC = "cacheInvalidations";
+    public static final String INSTANCE_NAME = "embedded-hazelcast";
+
+    /**
+     * Membership and replication settings. Standalone members never join anyone; clustered members join the listed
+     * TCP-IP addresses, keep {@code backupCount} synchronous backups of every map and resolve entries that diverged
+     * during a split brain with {@code mergePolicy} once the halves meet again.
+     */
+    public record ClusterSettings(boolean enabled, String name, List<String> members, int port, int backupCount,
+                                  String mergePolicy, Set<String> nearCaches, int nearCacheMaxSize) {
+
+        public static ClusterSettings standalone() {
+            return new ClusterSettings(false, null, List.of(), 5701, 1, PutIfAbsentMergePolicy.class.getName(),
+                    Set.of(), 0);
+        }
+    }
 
     @Bean
-    public HazelcastInstance hazelcastInstance() {
-        HazelcastInstance existing = Hazelcast.getHazelcastInstanceByName("embedded-hazelcast");
+    public HazelcastInstance hazelcastInstance(@Value("${app.hazelcast.cluster.enabled:false}") boolean clustered,
+                                               @Value("${app.hazelcast.cluster.name:obs-inventory-service}") String clusterName,
+                                               @Value("${app.hazelcast.cluster.members:}") List<String> members,
+                                               @Value("${app.hazelcast.cluster.port:5701}") int port,
+                                               @Value("${app.hazelcast.cluster.backup-count:1}") int backupCount,
+                                               @Value("${app.hazelcast.cluster.merge-policy:com.hazelcast.spi.merge.PutIfAbsentMergePolicy}") String mergePolicy,
+                                               @Value("${app.hazelcast.near-cache.enabled:false}") boolean nearCacheEnabled,
+                                               @Value("${app.hazelcast.near-cache.caches:itemCache,orderCache}") Set<String> nearCaches,
+                                               @Value("${app.hazelcast.near-cache.max-size:10000}") int nearCacheMaxSize,
+                                               Optional<MapStore<Long, InventoryMovement>> inventoryLedgerStore,
+                                               @Value("${app.inventory.write-behind.delay-seconds:1}") int writeDelaySeconds,
+                                               @Value("${app.inventory.write-behind.batch-size:500}") int writeBatchSize,
+                                               Optional<MapStore<Long, AcceptedOrder>> orderOutboxStore,
+                                               @Value("${app.stock.reservation.grid.write-delay-seconds:1}") int outboxDelaySeconds,
+                                               @Value("${app.stock.reservation.grid.write-batch-size:500}") int outboxBatchSize) {
+        HazelcastInstance existing = Hazelcast.getHazelcastInstanceByName(INSTANCE_NAME);
         if (existing != null) {
             return existing;
         }
+        ClusterSettings cluster = new ClusterSettings(clustered, clusterName, members, port, backupCount, mergePolicy,
+                nearCacheEnabled ? nearCaches : Set.of(), nearCacheMaxSize);
+        Config config = config(INSTANCE_NAME, cluster);
+        inventoryLedgerStore.ifPresent(store -> addInventoryLedgerStore(config, store, writeDelaySeconds, writeBatchSize));
+        orderOutboxStore.ifPresent(store -> addOrderOutboxStore(config, store, outboxDelaySeconds, outboxBatchSize));
+        return Hazelcast.newHazelcastInstance(config);
+    }
+
+    public static Config config(String instanceName, ClusterSettings cluster) {
         Config config = new Config();
-        config.setInstanceName("embedded-hazelcast");
+        config.setInstanceName(instanceName);
 
-        // Configure for embedded single-node setup
         NetworkConfig networkConfig = config.getNetworkConfig();
-        networkConfig.setPort(5701).setPortAutoIncrement(true);
+        networkConfig.setPort(cluster.port()).setPortAutoIncrement(true);
 
-        // Disable clustering for embedded mode
+        // Only explicit TCP-IP members join; multicast and auto-detection stay off in both modes
         JoinConfig joinConfig = networkConfig.getJoin();
         joinConfig.getMulticastConfig().setEnabled(false);
-        joinConfig.getTcpIpConfig().setEnabled(false);
         joinConfig.getAutoDetectionConfig().setEnabled(false);
+        joinConfig.getTcpIpConfig().setEnabled(cluster.enabled());
+        if (cluster.enabled()) {
+            config.setClusterName(cluster.name());
+            joinConfig.getTcpIpConfig().setMembers(cluster.members());
+        }
 
         // Add cache configurations with TTL
         addCacheConfigurations(config);
+        if (cluster.enabled()) {
+            addClusterPolicies(config, cluster);
+        }
+        addNearCaches(config, cluster);
+        addCompactSerializers(config);
 
         config.getJetConfig().setEnabled(true);
 
-        return Hazelcast.newHazelcastInstance(config);
+        // Shut down with the Spring context rather than from Hazelcast's own JVM hook, so beans that still need the
+        // instance on shutdown (the cache snapshot) run first
+        config.setProperty("hazelcast.shutdownhook.enabled", "false");
+
+        return config;
     }
 
     @Bean
-    public CacheManager cacheManager(HazelcastInstance hazelcastInstance) {
-        return new HazelcastCacheManager(hazelcastInstance);
+    public CacheManager cacheManager(HazelcastInstance hazelcastInstance,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.instance-id}") String instanceId,
+                                     @Value("${app.cache.l1.enabled:false}") boolean l1Enabled,
+                                     @Value("${app.cache.l1.caches:itemCache,orderCache}") Set<String> l1Caches,
+                                     @Value("${app.cache.l1.maximum-size:10000}") long l1MaximumSize,
+                                     @Value("${app.cache.l1.expire-after-write:30s}") Duration l1ExpireAfterWrite) {
+        CacheManager cacheManager = new HazelcastCacheManager(hazelcastInstance);
+        if (l1Enabled) {
+            cacheManager = new TwoLevelCacheManager(cacheManager, hazelcastInstance.getTopic(CACHE_INVALIDATION_TOPIC),
+                    instanceId, l1Caches, l1MaximumSize, l1ExpireAfterWrite, meterRegistry);
+        }
+        return new MeteredCacheManager(cacheManager, meterRegistry);
+    }
+
+    /**
+     * Writes the inventory ledger map behind: entries are queued (and backed up with the map) and handed to the store
+     * every {@code writeDelaySeconds} in batches of up to {@code writeBatchSize}.
+     */
+    public static void addInventoryLedgerStore(Config config, MapStore<Long, InventoryMovement> store,
+                                               int writeDelaySeconds, int writeBatchSize) {
+        addWriteBehindStore(config, INVENTORY_LEDGER_MAP, store, writeDelaySeconds, writeBatchSize);
+    }
+
+    /**
+     * Writes the order outbox map behind, like the inventory ledger: orders reserved in the grid are written to ORDERS
+     * every {@code writeDelaySeconds} in batches of up to {@code writeBatchSize}.
+     */
+    public static void addOrderOutboxStore(Config config, MapStore<Long, AcceptedOrder> store,
+                                           int writeDelaySeconds, int writeBatchSize) {
+        addWriteBehindStore(config, ORDER_OUTBOX_MAP, store, writeDelaySeconds, writeBatchSize);
+    }
+
+    private static void addWriteBehindStore(Config config, String mapName, MapStore<Long, ?> store,
+                                            int writeDelaySeconds, int writeBatchSize) {
+        config.getMapConfig(mapName).getMapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(store)
+                .setWriteDelaySeconds(Math.max(1, writeDelaySeconds))
+                .setWriteBatchSize(writeBatchSize)
+                .setWriteCoalescing(true)
+                .setInitialLoadMode(MapStoreConfig.InitialLoadMode.LAZY);
+    }
+
+    private static void addClusterPolicies(Config config, ClusterSettings cluster) {
+        config.getMapConfigs().values().forEach(mapConfig -> {
+            mapConfig.setBackupCount(cluster.backupCount());
+            mapConfig.getMergePolicyConfig().setPolicy(cluster.mergePolicy());
+        });
+    }
+
+    // Members keep a copy of entries owned by other members; a write anywhere publishes an invalidation event that
+    // drops it. Local entries are already on-heap, and BINARY hands every reader its own deserialized copy
+    private static void addNearCaches(Config config, ClusterSettings cluster) {
+        for (String cacheName : cluster.nearCaches()) {
+            NearCacheConfig nearCache = new NearCacheConfig(cacheName)
+                    .setInMemoryFormat(InMemoryFormat.BINARY)
+                    .setInvalidateOnChange(true)
+                    .setCacheLocalEntries(false);
+            nearCache.getEvictionConfig()
+                    .setEvictionPolicy(com.hazelcast.config.EvictionPolicy.LRU)
+                    .setMaxSizePolicy(com.hazelcast.config.MaxSizePolicy.ENTRY_COUNT)
+                    .setSize(cluster.nearCacheMaxSize());
+            config.getMapConfig(cacheName).setNearCacheConfig(nearCache);
+        }
+    }
+
+    // Cached values are written as Compact instead of java.io.Serializable: field values only, no class descriptors
+    private static void addCompactSerializers(Config config) {
+        config.getSerializationConfig().getCompactSerializationConfig()
+                .addSerializer(new ApiResponseSerializer())
+                .addSerializer(new PageWrapperSerializer())
+                .addSerializer(new ItemInfoSerializer())
+                .addSerializer(new OrderInfoSerializer())
+                .addSerializer(new SerializedResponseSerializer())
+                .addSerializer(new InventoryMovementSerializer())
+                .addSerializer(new AcceptedOrderSerializer())
+                .addSerializer(new SalesEventSerializer())
+                .addSerializer(new SalesRollupSerializer());
     }
 
-    private void addCacheConfigurations(Config config) {
+    private static void addCacheConfigurations(Config config) {
         // Item cache - 10 minutes TTL
         MapConfig itemCache = new MapConfig();
         itemCache
@@ -99,5 +264,84 @@ public class HazelcastConfig {
                 .setMaxSizePolicy(com.hazelcast.config.MaxSizePolicy.FREE_HEAP_SIZE)
                 .setSize(500);
         config.addMapConfig(orderCache);
+
+        // Idempotency keys - TTL is set per entry from app.idempotency.ttl
+        MapConfig idempotencyMap = new MapConfig();
+        idempotencyMap
+                .setName(IDEMPOTENCY_MAP)
+                .getEvictionConfig()
+                .setEvictionPolicy(com.hazelcast.config.EvictionPolicy.LRU)
+                .setMaxSizePolicy(com.hazelcast.config.MaxSizePolicy.FREE_HEAP_SIZE)
+                .setSize(500);
+        config.addMapConfig(idempotencyMap);
+
+        // Ids contained in each cached page; kept longer than the paged caches so no live page loses its tags
+        MapConfig pageTags = new MapConfig();
+        pageTags
+                .setName(PAGE_TAGS_MAP)
+                .setTimeToLiveSeconds(900)
+                .addIndexConfig(new IndexConfig(IndexType.HASH, "tags[any]"));
+        config.addMapConfig(pageTags);
+
+        // Remaining stock - evicted by writers after commit; the TTL bounds drift from writes made outside the service
+        MapConfig stockCache = new MapConfig();
+        stockCache
+                .setName(STOCK_CACHE)
+                .setTimeToLiveSeconds(300)
+                .getEvictionConfig()
+                .setEvictionPolicy(com.hazelcast.config.EvictionPolicy.LFU)
+                .setMaxSizePolicy(com.hazelcast.config.MaxSizePolicy.FREE_HEAP_SIZE)
+                .setSize(500);
+        config.addMapConfig(stockCache);
+
+        // Serialized response bodies - they include stock, so keep them short-lived
+        MapConfig responseCache = new MapConfig();
+        responseCache
+                .setName(RESPONSE_CACHE)
+                .setTimeToLiveSeconds(60)
+                .getEvictionConfig()
+                .setEvictionPolicy(com.hazelcast.config.EvictionPolicy.LFU)
+                .setMaxSizePolicy(com.hazelcast.config.MaxSizePolicy.FREE_HEAP_SIZE)
+                .setSize(500);
+        config.addMapConfig(responseCache);
+
+        // Balances reserved against by the grid reservation strategy - authoritative, so they never expire or evict
+        MapConfig stockBalances = new MapConfig();
+        stockBalances.setName(STOCK_BALANCE_MAP);
+        config.addMapConfig(stockBalances);
+
+        // Inventory movements accepted ahead of the write-behind store; they only need to outlive its queue
+        MapConfig inventoryLedger = new MapConfig();
+        inventoryLedger
+                .setName(INVENTORY_LEDGER_MAP)
+                .setTimeToLiveSeconds(600);
+        config.addMapConfig(inventoryLedger);
+
+        // Orders reserved against the grid balances ahead of the write-behind store, kept as long as the ledger's
+        MapConfig orderOutbox = new MapConfig();
+        orderOutbox
+                .setName(ORDER_OUTBOX_MAP)
+                .setTimeToLiveSeconds(600);
+        config.addMapConfig(orderOutbox);
+
+        // Sales events are read from the event journal by the rollup job; the entries themselves are not needed once
+        // journaled. The journal is a ring buffer per partition, so a job that falls this far behind loses events
+        MapConfig salesEvents = new MapConfig();
+        salesEvents
+                .setName(SALES_EVENT_MAP)
+                .setTimeToLiveSeconds(60)
+                .getEventJournalConfig()
+                .setEnabled(true)
+                .setCapacity(SALES_EVENT_JOURNAL_CAPACITY);
+        config.addMapConfig(salesEvents);
+
+        // Sales rollups - one map per window, each entry kept for the window's retention
+        for (SalesWindow window : SalesWindow.values()) {
+            MapConfig salesRollups = new MapConfig();
+            salesRollups
+                    .setName(window.getMapName())
+                    .setTimeToLiveSeconds((int) window.getRetention().toSeconds());
+            config.addMapConfig(salesRollups);
+        }
     }
 }
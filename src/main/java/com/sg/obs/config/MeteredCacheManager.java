@@ -0,0 +1,37 @@
+package com.sg.obs.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the delegate in a {@link MeteredCache} so hit rates are visible per cache.
+ */
+@RequiredArgsConstructor
+public class MeteredCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        return Optional.ofNullable(caches.get(name))
+                .or(() -> Optional.ofNullable(delegate.getCache(name))
+                        .map(cache -> caches.computeIfAbsent(name, n -> new MeteredCache(cache, meterRegistry))))
+                .orElse(null);
+    }
+
+    @Override
+    public @NonNull Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,171 @@
+package com.sg.obs.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * An on-heap L1 in front of a shared L2 cache. Reads fill L1 from L2; every write goes to L2, drops or replaces the
+ * local L1 entry and is announced through {@code invalidations} so other nodes drop theirs.
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private final org.springframework.cache.Cache l2;
+    private final Cache<Object, ValueWrapper> l1;
+    private final BiConsumer<String, Object> invalidations;
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoLevelCache(org.springframework.cache.Cache l2,
+                         Cache<Object, ValueWrapper> l1,
+                         BiConsumer<String, Object> invalidations,
+                         MeterRegistry meterRegistry) {
+        this.l2 = l2;
+        this.l1 = l1;
+        this.invalidations = invalidations;
+        this.l1Hits = gets(meterRegistry, "l1", "hit");
+        this.l1Misses = gets(meterRegistry, "l1", "miss");
+        this.l2Hits = gets(meterRegistry, "l2", "hit");
+        this.l2Misses = gets(meterRegistry, "l2", "miss");
+        Gauge.builder("cache.level.size", l1, Cache::estimatedSize)
+                .description("Entries held in the in-process L1")
+                .tag("cache", l2.getName())
+                .tag("level", "l1")
+                .register(meterRegistry);
+    }
+
+
+    @Override
+    public @NonNull String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public @NonNull Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(@NonNull Object key) {
+        ValueWrapper local = l1.getIfPresent(key);
+        if (local != null) {
+            l1Hits.increment();
+            return local;
+        }
+        l1Misses.increment();
+        ValueWrapper shared = l2.get(key);
+        if (shared == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        l1.put(key, shared);
+        return shared;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, Class<T> type) {
+        Object value = Optional.ofNullable(get(key)).map(ValueWrapper::get).orElse(null);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper local = get(key);
+        if (local != null) {
+            return (T) local.get();
+        }
+        T value = l2.get(key, valueLoader);
+        l1.put(key, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(@NonNull Object key) {
+        return l2.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(@NonNull Object key, @NonNull Supplier<CompletableFuture<T>> valueLoader) {
+        return l2.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        l2.put(key, value);
+        l1.put(key, new SimpleValueWrapper(value));
+        invalidations.accept(getName(), key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        if (existing == null) {
+            l1.put(key, new SimpleValueWrapper(value));
+            invalidations.accept(getName(), key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        l2.evict(key);
+        l1.invalidate(key);
+        invalidations.accept(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+        l1.invalidate(key);
+        invalidations.accept(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidations.accept(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l2.invalidate();
+        l1.invalidateAll();
+        invalidations.accept(getName(), null);
+        return invalidated;
+    }
+
+    void invalidateLocal(Object key) {
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    private Counter gets(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("cache.level.gets")
+                .tag("cache", l2.getName())
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sg.obs.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.topic.ITopic;
+import com.sg.obs.dto.CacheInvalidationMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Puts a bounded Caffeine L1 in front of the configured caches of the delegate. Caffeine's W-TinyLFU only admits
+ * a new entry over the eviction candidate when it has been requested more often, so one-off reads cannot flush
+ * the hot set. L1 copies are kept coherent across nodes through an {@link ITopic}; the expire-after-write bound
+ * covers the window before a peer's invalidation arrives.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final ITopic<CacheInvalidationMessage> invalidationTopic;
+    private final String instanceId;
+    private final Set<String> l1CacheNames;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager delegate,
+                                ITopic<CacheInvalidationMessage> invalidationTopic,
+                                String instanceId,
+                                Set<String> l1CacheNames,
+                                long maximumSize,
+                                Duration expireAfterWrite,
+                                MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.invalidationTopic = invalidationTopic;
+        this.instanceId = instanceId;
+        this.l1CacheNames = l1CacheNames;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.meterRegistry = meterRegistry;
+        invalidationTopic.addMessageListener(message -> onInvalidation(message.getMessageObject()));
+    }
+
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        if (!l1CacheNames.contains(name)) {
+            return delegate.getCache(name);
+        }
+        return Optional.ofNullable(caches.get(name))
+                .or(() -> Optional.ofNullable(delegate.getCache(name))
+                        .map(cache -> caches.computeIfAbsent(name, n -> new TwoLevelCache(cache,
+                                Caffeine.newBuilder()
+                                        .maximumSize(maximumSize)
+                                        .expireAfterWrite(expireAfterWrite)
+                                        .build(),
+                                this::publish, meterRegistry))))
+                .orElse(null);
+    }
+
+    @Override
+    public @NonNull Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private void publish(String cache, Object key) {
+        invalidationTopic.publish(new CacheInvalidationMessage(instanceId, cache, key));
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (instanceId.equals(message.origin())) {
+            return;
+        }
+        log.debug("Dropping L1 {} entry {} changed on {}", message.cache(), message.key(), message.origin());
+        if (caches.get(message.cache()) instanceof TwoLevelCache cache) {
+            cache.invalidateLocal(message.key());
+        }
+    }
+}
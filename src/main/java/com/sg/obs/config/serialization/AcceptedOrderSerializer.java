@@ -0,0 +1,38 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.order.AcceptedOrder;
+
+public class AcceptedOrderSerializer implements CompactSerializer<AcceptedOrder> {
+
+    @Override
+    public AcceptedOrder read(CompactReader reader) {
+        return new AcceptedOrder(
+                reader.readInt64("orderNo"),
+                reader.readInt64("itemId"),
+                reader.readInt32("qty"),
+                reader.readFloat64("price"),
+                reader.readInt64("acceptedAt"));
+    }
+
+    @Override
+    public void write(CompactWriter writer, AcceptedOrder order) {
+        writer.writeInt64("orderNo", order.orderNo());
+        writer.writeInt64("itemId", order.itemId());
+        writer.writeInt32("qty", order.qty());
+        writer.writeFloat64("price", order.price());
+        writer.writeInt64("acceptedAt", order.acceptedAt());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "AcceptedOrder";
+    }
+
+    @Override
+    public Class<AcceptedOrder> getCompactClass() {
+        return AcceptedOrder.class;
+    }
+}
@@ -0,0 +1,35 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.ApiResponse;
+
+/**
+ * Only cached responses go through this, and their data is always a registered Compact type.
+ */
+@SuppressWarnings("rawtypes")
+public class ApiResponseSerializer implements CompactSerializer<ApiResponse> {
+
+    @Override
+    public ApiResponse read(CompactReader reader) {
+        return new ApiResponse<>(reader.readNullableInt32("code"), reader.readString("message"), reader.readCompact("data"));
+    }
+
+    @Override
+    public void write(CompactWriter writer, ApiResponse response) {
+        writer.writeNullableInt32("code", response.getCode());
+        writer.writeString("message", response.getMessage());
+        writer.writeCompact("data", response.getData());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "ApiResponse";
+    }
+
+    @Override
+    public Class<ApiResponse> getCompactClass() {
+        return ApiResponse.class;
+    }
+}
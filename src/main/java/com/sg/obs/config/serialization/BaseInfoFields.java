@@ -0,0 +1,31 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.BaseInfo;
+
+/**
+ * Audit and version fields shared by every cached DTO, written under the same names in each schema.
+ */
+final class BaseInfoFields {
+
+    private BaseInfoFields() {
+    }
+
+    static void write(CompactWriter writer, BaseInfo info) {
+        writer.writeTimestamp("createdDate", info.getCreatedDate());
+        writer.writeTimestamp("updatedDate", info.getUpdatedDate());
+        writer.writeString("createdBy", info.getCreatedBy());
+        writer.writeString("updatedBy", info.getUpdatedBy());
+        writer.writeNullableInt64("version", info.getVersion());
+    }
+
+    static <T extends BaseInfo> T read(CompactReader reader, T info) {
+        info.setCreatedDate(reader.readTimestamp("createdDate"));
+        info.setUpdatedDate(reader.readTimestamp("updatedDate"));
+        info.setCreatedBy(reader.readString("createdBy"));
+        info.setUpdatedBy(reader.readString("updatedBy"));
+        info.setVersion(reader.readNullableInt64("version"));
+        return info;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.enums.InventoryType;
+
+public class InventoryMovementSerializer implements CompactSerializer<InventoryMovement> {
+
+    @Override
+    public InventoryMovement read(CompactReader reader) {
+        return new InventoryMovement(
+                reader.readInt64("id"),
+                reader.readInt64("itemId"),
+                reader.readInt32("quantity"),
+                InventoryType.valueOf(reader.readString("type")),
+                reader.readInt64("acceptedAt"));
+    }
+
+    @Override
+    public void write(CompactWriter writer, InventoryMovement movement) {
+        writer.writeInt64("id", movement.id());
+        writer.writeInt64("itemId", movement.itemId());
+        writer.writeInt32("quantity", movement.quantity());
+        writer.writeString("type", movement.type().name());
+        writer.writeInt64("acceptedAt", movement.acceptedAt());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "InventoryMovement";
+    }
+
+    @Override
+    public Class<InventoryMovement> getCompactClass() {
+        return InventoryMovement.class;
+    }
+}
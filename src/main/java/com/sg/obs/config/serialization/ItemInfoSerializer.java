@@ -0,0 +1,38 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.item.ItemInfo;
+
+public class ItemInfoSerializer implements CompactSerializer<ItemInfo> {
+
+    @Override
+    public ItemInfo read(CompactReader reader) {
+        ItemInfo item = BaseInfoFields.read(reader, new ItemInfo());
+        item.setId(reader.readNullableInt64("id"));
+        item.setName(reader.readString("name"));
+        item.setPrice(reader.readNullableFloat64("price"));
+        item.setRemainingStock(reader.readNullableInt32("remainingStock"));
+        return item;
+    }
+
+    @Override
+    public void write(CompactWriter writer, ItemInfo item) {
+        writer.writeNullableInt64("id", item.getId());
+        writer.writeString("name", item.getName());
+        writer.writeNullableFloat64("price", item.getPrice());
+        writer.writeNullableInt32("remainingStock", item.getRemainingStock());
+        BaseInfoFields.write(writer, item);
+    }
+
+    @Override
+    public String getTypeName() {
+        return "ItemInfo";
+    }
+
+    @Override
+    public Class<ItemInfo> getCompactClass() {
+        return ItemInfo.class;
+    }
+}
@@ -0,0 +1,45 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.enums.OrderStatus;
+
+import java.util.Optional;
+
+public class OrderInfoSerializer implements CompactSerializer<OrderInfo> {
+
+    @Override
+    public OrderInfo read(CompactReader reader) {
+        OrderInfo order = BaseInfoFields.read(reader, new OrderInfo());
+        order.setOrderNo(reader.readString("orderNo"));
+        order.setItemId(reader.readNullableInt64("itemId"));
+        order.setItemName(reader.readString("itemName"));
+        order.setQty(reader.readNullableInt32("qty"));
+        order.setPrice(reader.readNullableFloat64("price"));
+        order.setStatus(Optional.ofNullable(reader.readString("status")).map(OrderStatus::valueOf).orElse(null));
+        return order;
+    }
+
+    @Override
+    public void write(CompactWriter writer, OrderInfo order) {
+        writer.writeString("orderNo", order.getOrderNo());
+        writer.writeNullableInt64("itemId", order.getItemId());
+        writer.writeString("itemName", order.getItemName());
+        writer.writeNullableInt32("qty", order.getQty());
+        writer.writeNullableFloat64("price", order.getPrice());
+        writer.writeString("status", Optional.ofNullable(order.getStatus()).map(OrderStatus::name).orElse(null));
+        BaseInfoFields.write(writer, order);
+    }
+
+    @Override
+    public String getTypeName() {
+        return "OrderInfo";
+    }
+
+    @Override
+    public Class<OrderInfo> getCompactClass() {
+        return OrderInfo.class;
+    }
+}
@@ -0,0 +1,50 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.PageWrapper;
+
+import java.util.Arrays;
+
+/**
+ * Rows are written as an array of Compact objects, so the content type must itself be registered as Compact.
+ * The page metadata is flattened into the page schema.
+ */
+@SuppressWarnings("rawtypes")
+public class PageWrapperSerializer implements CompactSerializer<PageWrapper> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PageWrapper read(CompactReader reader) {
+        PageWrapper.PageMetadata metadata = new PageWrapper.PageMetadata();
+        metadata.setNumber(reader.readInt64("number"));
+        metadata.setSize(reader.readInt64("size"));
+        metadata.setTotalElements(reader.readInt64("totalElements"));
+        metadata.setTotalPages(reader.readInt64("totalPages"));
+        metadata.setEstimated(reader.readBoolean("estimated"));
+        Object[] content = reader.readArrayOfCompact("content", Object.class);
+        return new PageWrapper(content == null ? null : Arrays.asList(content), metadata);
+    }
+
+    @Override
+    public void write(CompactWriter writer, PageWrapper page) {
+        PageWrapper.PageMetadata metadata = page.getMetadata();
+        writer.writeInt64("number", metadata.getNumber());
+        writer.writeInt64("size", metadata.getSize());
+        writer.writeInt64("totalElements", metadata.getTotalElements());
+        writer.writeInt64("totalPages", metadata.getTotalPages());
+        writer.writeBoolean("estimated", metadata.isEstimated());
+        writer.writeArrayOfCompact("content", page.getContent() == null ? null : page.getContent().toArray());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "PageWrapper";
+    }
+
+    @Override
+    public Class<PageWrapper> getCompactClass() {
+        return PageWrapper.class;
+    }
+}
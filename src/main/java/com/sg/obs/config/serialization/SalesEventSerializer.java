@@ -0,0 +1,38 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.sales.SalesEvent;
+
+public class SalesEventSerializer implements CompactSerializer<SalesEvent> {
+
+    @Override
+    public SalesEvent read(CompactReader reader) {
+        return new SalesEvent(
+                reader.readInt64("itemId"),
+                reader.readInt32("units"),
+                reader.readFloat64("revenue"),
+                reader.readInt32("stockDelta"),
+                reader.readInt64("timestamp"));
+    }
+
+    @Override
+    public void write(CompactWriter writer, SalesEvent event) {
+        writer.writeInt64("itemId", event.itemId());
+        writer.writeInt32("units", event.units());
+        writer.writeFloat64("revenue", event.revenue());
+        writer.writeInt32("stockDelta", event.stockDelta());
+        writer.writeInt64("timestamp", event.timestamp());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "SalesEvent";
+    }
+
+    @Override
+    public Class<SalesEvent> getCompactClass() {
+        return SalesEvent.class;
+    }
+}
@@ -0,0 +1,40 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.sales.SalesRollup;
+
+public class SalesRollupSerializer implements CompactSerializer<SalesRollup> {
+
+    @Override
+    public SalesRollup read(CompactReader reader) {
+        return new SalesRollup(
+                reader.readInt64("itemId"),
+                reader.readInt64("windowStart"),
+                reader.readInt64("windowEnd"),
+                reader.readInt64("units"),
+                reader.readFloat64("revenue"),
+                reader.readInt64("stockDelta"));
+    }
+
+    @Override
+    public void write(CompactWriter writer, SalesRollup rollup) {
+        writer.writeInt64("itemId", rollup.itemId());
+        writer.writeInt64("windowStart", rollup.windowStart());
+        writer.writeInt64("windowEnd", rollup.windowEnd());
+        writer.writeInt64("units", rollup.units());
+        writer.writeFloat64("revenue", rollup.revenue());
+        writer.writeInt64("stockDelta", rollup.stockDelta());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "SalesRollup";
+    }
+
+    @Override
+    public Class<SalesRollup> getCompactClass() {
+        return SalesRollup.class;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sg.obs.config.serialization;
+
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import com.sg.obs.dto.SerializedResponse;
+
+public class SerializedResponseSerializer implements CompactSerializer<SerializedResponse> {
+
+    @Override
+    public SerializedResponse read(CompactReader reader) {
+        return new SerializedResponse(reader.readArrayOfInt8("body"), reader.readString("eTag"));
+    }
+
+    @Override
+    public void write(CompactWriter writer, SerializedResponse response) {
+        writer.writeArrayOfInt8("body", response.body());
+        writer.writeString("eTag", response.eTag());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "SerializedResponse";
+    }
+
+    @Override
+    public Class<SerializedResponse> getCompactClass() {
+        return SerializedResponse.class;
+    }
+}
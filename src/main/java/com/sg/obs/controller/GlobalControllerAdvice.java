@@ -17,6 +17,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -104,6 +105,16 @@ public class GlobalControllerAdvice {
         return ResponseUtil.build(response);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<String>> methodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        ApiResponse<String> response = new ApiResponse<>();
+        response.setCode(400);
+        response.setMessage(String.format("Invalid value '%s' for parameter %s", ex.getValue(), ex.getName()));
+        response.setData(ex.getName());
+
+        return ResponseUtil.build(response);
+    }
+
 
     @ExceptionHandler({InvalidFormatException.class, JsonParseException.class})
     public ResponseEntity<ApiResponse<String>> jsonExceptionHandler(Exception ex) {
@@ -1,7 +1,9 @@
 package com.sg.obs.controller;
 
+import com.sg.obs.annotations.Idempotent;
 import com.sg.obs.annotations.LogRequestResponse;
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.inventory.CreateInventoryRequest;
 import com.sg.obs.dto.inventory.InventoryInfo;
@@ -13,6 +15,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,7 +25,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/v1/inventories")
@@ -35,19 +40,33 @@ public class InventoryController {
 
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get inventory by ID")
-    public ResponseEntity<ApiResponse<InventoryInfo>> getInventoryById(@PathVariable Long id) {
-        return ResponseUtil.build(inventoryService.getInventoryById(id));
+    public ResponseEntity<ApiResponse<InventoryInfo>> getInventoryById(@PathVariable Long id, WebRequest request) {
+        // Revalidation reads only the version; checkNotModified answers 304 with the ETag
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null && request.checkNotModified(inventoryService.getInventoryETag(id))) {
+            return null;
+        }
+        return ResponseUtil.buildTagged(inventoryService.getInventoryById(id));
     }
 
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get all inventories with pagination")
-    public ResponseEntity<ApiResponse<PageWrapper<InventoryInfo>>> getInventoryList(@ParameterObject Pageable pageable) {
-        return ResponseUtil.build(inventoryService.getInventoryList(pageable));
+    public ResponseEntity<ApiResponse<PageWrapper<InventoryInfo>>> getInventoryList(@ParameterObject Pageable pageable,
+                                                                                  @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseUtil.buildTagged(inventoryService.getInventoryList(pageable, estimateTotal));
+    }
+
+
+    @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Scroll inventories by ID using an opaque cursor, without a total count")
+    public ResponseEntity<ApiResponse<CursorPage<InventoryInfo>>> scrollInventories(@RequestParam(required = false) String after,
+                                                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseUtil.buildTagged(inventoryService.scrollInventories(after, size));
     }
 
 
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Idempotent
     @Operation(summary = "Create new inventory record (Top-Up or Withdrawal)")
     public ResponseEntity<ApiResponse<InventoryInfo>> addInventory(@RequestBody @Valid CreateInventoryRequest payload) {
         return ResponseUtil.build(inventoryService.addInventory(payload));
@@ -55,6 +74,7 @@ public class InventoryController {
 
 
     @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Idempotent
     @Operation(summary = "Update an existing inventory record")
     public ResponseEntity<ApiResponse<InventoryInfo>> updateInventory(@RequestBody @Valid UpdateInventoryRequest payload) {
         return ResponseUtil.build(inventoryService.updateInventory(payload));
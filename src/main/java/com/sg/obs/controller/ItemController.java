@@ -1,12 +1,16 @@
 package com.sg.obs.controller;
 
+import com.sg.obs.annotations.CachedResponse;
 import com.sg.obs.annotations.LogRequestResponse;
 import com.sg.obs.dto.ApiResponse;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.item.CreateItemRequest;
 import com.sg.obs.dto.item.ItemInfo;
 import com.sg.obs.dto.item.UpdateItemRequest;
+import com.sg.obs.dto.sales.SalesRollupInfo;
+import com.sg.obs.enums.SalesWindow;
 import com.sg.obs.service.ItemService;
+import com.sg.obs.service.SalesRollupService;
 import com.sg.obs.utility.ResponseUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -23,8 +27,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/v1/items")
 @RequiredArgsConstructor
@@ -33,18 +40,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class ItemController {
 
     private final ItemService itemService;
+    private final SalesRollupService salesRollupService;
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get All items with pagination")
-    public ResponseEntity<ApiResponse<PageWrapper<ItemInfo>>> getItems(@ParameterObject Pageable pageable) {
-        return ResponseUtil.build(itemService.getItemsList(pageable));
+    @CachedResponse(uncachedSorts = "remainingStock")
+    public ResponseEntity<ApiResponse<PageWrapper<ItemInfo>>> getItems(@ParameterObject Pageable pageable,
+                                                                       @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseUtil.buildTagged(itemService.getItemsList(pageable, estimateTotal));
     }
 
 
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get item by id")
+    @CachedResponse
     public ResponseEntity<ApiResponse<ItemInfo>> getItemById(@PathVariable Long id) {
-        return ResponseUtil.build(itemService.getItemById(id));
+        return ResponseUtil.buildTagged(itemService.getItemById(id));
+    }
+
+
+    @GetMapping(value = "/{id}/sales", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get units, revenue and stock movement of an item for the last count windows (UTC), newest first")
+    public ResponseEntity<ApiResponse<List<SalesRollupInfo>>> getItemSales(@PathVariable Long id,
+                                                                           @RequestParam(defaultValue = "HOUR") SalesWindow window,
+                                                                           @RequestParam(defaultValue = "24") int count) {
+        return ResponseUtil.build(salesRollupService.getSalesRollups(id, window, count));
     }
 
 
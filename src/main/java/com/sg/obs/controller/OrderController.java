@@ -1,9 +1,13 @@
 package com.sg.obs.controller;
 
+import com.sg.obs.annotations.Idempotent;
 import com.sg.obs.annotations.LogRequestResponse;
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.order.CreateOrderBatchRequest;
 import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderBatchResult;
 import com.sg.obs.dto.order.OrderInfo;
 import com.sg.obs.dto.order.UpdateOrderRequest;
 import com.sg.obs.service.OrderService;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -34,23 +39,40 @@ public class OrderController {
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get all orders with pagination")
-    public ResponseEntity<ApiResponse<PageWrapper<OrderInfo>>> getOrders(@ParameterObject Pageable pageable) {
-        return ResponseUtil.build(orderService.getOrderList(pageable));
+    public ResponseEntity<ApiResponse<PageWrapper<OrderInfo>>> getOrders(@ParameterObject Pageable pageable,
+                                                                  @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseUtil.buildTagged(orderService.getOrderList(pageable, estimateTotal));
+    }
+
+    @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Scroll orders by order number using an opaque cursor, without a total count")
+    public ResponseEntity<ApiResponse<CursorPage<OrderInfo>>> scrollOrders(@RequestParam(required = false) String after,
+                                                                          @RequestParam(defaultValue = "20") int size) {
+        return ResponseUtil.buildTagged(orderService.scrollOrders(after, size));
     }
 
     @GetMapping(value = "/{orderNo}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get order by order number")
     public ResponseEntity<ApiResponse<OrderInfo>> getOrderByNo(@PathVariable String orderNo) {
-        return ResponseUtil.build(orderService.getOrderByOrderNo(orderNo));
+        return ResponseUtil.buildTagged(orderService.getOrderByOrderNo(orderNo));
     }
 
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Idempotent
     @Operation(summary = "Create new order")
     public ResponseEntity<ApiResponse<OrderInfo>> addOrder(@RequestBody @Valid CreateOrderRequest payload) {
         return ResponseUtil.build(orderService.createOrder(payload));
     }
 
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Idempotent
+    @Operation(summary = "Create multiple orders with per-line results")
+    public ResponseEntity<ApiResponse<OrderBatchResult>> addOrders(@RequestBody @Valid CreateOrderBatchRequest payload) {
+        return ResponseUtil.build(orderService.createOrders(payload));
+    }
+
     @PutMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Idempotent
     @Operation(summary = "Update existing order")
     public ResponseEntity<ApiResponse<OrderInfo>> updateOrder(@RequestBody @Valid UpdateOrderRequest payload) {
         return ResponseUtil.build(orderService.updateOrder(payload));
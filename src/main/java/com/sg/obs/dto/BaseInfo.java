@@ -2,6 +2,7 @@ package com.sg.obs.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sg.obs.config.constant.DatetimePattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -30,4 +31,8 @@ public class BaseInfo implements Serializable {
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private String createdBy;
+
+    // Read from the entity but sent as the ETag, not in the body
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    private Long version;
 }
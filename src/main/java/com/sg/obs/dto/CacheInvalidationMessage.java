@@ -0,0 +1,9 @@
+package com.sg.obs.dto;
+
+import java.io.Serializable;
+
+/**
+ * Published when a node changes a cache entry; other nodes drop their L1 copy. A null key clears the whole cache.
+ */
+public record CacheInvalidationMessage(String origin, String cache, Object key) implements Serializable {
+}
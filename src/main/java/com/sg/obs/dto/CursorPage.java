@@ -0,0 +1,36 @@
+package com.sg.obs.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sg.obs.utility.CursorUtil;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> implements Serializable {
+
+    private List<T> content;
+
+    private int size;
+
+    // Opaque token for the next call, null on the last page
+    private String next;
+
+    /**
+     * Builds a page from rows fetched with {@code size + 1}; the extra row only tells whether a next page exists.
+     */
+    @JsonIgnore
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, ToLongFunction<E> key, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? CursorUtil.encode(key.applyAsLong(page.getLast())) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), page.size(), next);
+    }
+}
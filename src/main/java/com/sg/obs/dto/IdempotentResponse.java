@@ -0,0 +1,6 @@
+package com.sg.obs.dto;
+
+import java.io.Serializable;
+
+public record IdempotentResponse(int status, String fingerprint, byte[] body) implements Serializable {
+}
@@ -0,0 +1,16 @@
+package com.sg.obs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class PageTags implements Serializable {
+
+    private String cache;
+    private String key;
+    private Set<String> tags;
+}
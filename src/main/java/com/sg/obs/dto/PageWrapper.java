@@ -36,6 +36,13 @@ public class PageWrapper<T> implements Serializable {
         return new PageWrapper<>(pagedModel);
     }
 
+    @JsonIgnore
+    public static <T> PageWrapper<T> of(PagedModel<T> pagedModel, boolean estimated) {
+        PageWrapper<T> wrapper = new PageWrapper<>(pagedModel);
+        wrapper.page.setEstimated(estimated);
+        return wrapper;
+    }
+
     @JsonIgnore
     public PageMetadata getMetadata() {
         return page;
@@ -48,5 +55,7 @@ public class PageWrapper<T> implements Serializable {
         private long size;
         private long totalElements;
         private long totalPages;
+        // Totals come from maintained row counts instead of COUNT(*)
+        private boolean estimated;
     }
 }
@@ -0,0 +1,6 @@
+package com.sg.obs.dto;
+
+import java.io.Serializable;
+
+public record SerializedResponse(byte[] body, String eTag) implements Serializable {
+}
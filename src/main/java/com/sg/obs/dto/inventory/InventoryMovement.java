@@ -0,0 +1,10 @@
+package com.sg.obs.dto.inventory;
+
+import com.sg.obs.enums.InventoryType;
+
+/**
+ * An inventory movement accepted into the write-behind ledger, not yet written to INVENTORY.
+ * {@code acceptedAt} is epoch millis.
+ */
+public record InventoryMovement(Long id, Long itemId, int quantity, InventoryType type, long acceptedAt) {
+}
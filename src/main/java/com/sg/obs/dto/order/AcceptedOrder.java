@@ -0,0 +1,8 @@
+package com.sg.obs.dto.order;
+
+/**
+ * An order whose stock was reserved in the grid and that is waiting in the order outbox to be written to ORDERS.
+ * {@code orderNo} is the packed order number, {@code acceptedAt} is epoch millis.
+ */
+public record AcceptedOrder(long orderNo, Long itemId, int qty, double price, long acceptedAt) {
+}
@@ -0,0 +1,23 @@
+package com.sg.obs.dto.order;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateOrderBatchRequest implements Serializable {
+
+    @NotEmpty(message = "Orders are required")
+    @Size(max = 500, message = "A batch may contain at most 500 orders")
+    private List<@Valid CreateOrderRequest> orders;
+}
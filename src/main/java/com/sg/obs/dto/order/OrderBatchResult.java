@@ -0,0 +1,20 @@
+package com.sg.obs.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchResult implements Serializable {
+
+    private Integer accepted;
+    private Integer rejected;
+    private List<OrderLineResult> lines;
+}
@@ -1,6 +1,8 @@
 package com.sg.obs.dto.order;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sg.obs.dto.BaseInfo;
+import com.sg.obs.enums.OrderStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -22,5 +24,9 @@ public class OrderInfo extends BaseInfo implements Serializable {
     private String itemName;
     private Integer qty;
     private Double price;
+
+    // Only set where the order's lifecycle is known: the async queue and settlement results
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private OrderStatus status;
 }
 
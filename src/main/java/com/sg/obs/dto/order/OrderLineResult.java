@@ -0,0 +1,35 @@
+package com.sg.obs.dto.order;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sg.obs.exception.ApiException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineResult implements Serializable {
+
+    private Integer line;
+    private Integer code;
+    private String message;
+    private OrderInfo order;
+
+    public static OrderLineResult accepted(int line, OrderInfo order) {
+        return new OrderLineResult(line, 201, "Success", order);
+    }
+
+    @JsonIgnore
+    public boolean isAccepted() {
+        return order != null;
+    }
+
+    public static OrderLineResult rejected(int line, ApiException cause) {
+        return new OrderLineResult(line, cause.getHttpCode(), cause.getMessage(), null);
+    }
+}
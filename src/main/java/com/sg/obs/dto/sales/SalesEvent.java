@@ -0,0 +1,16 @@
+package com.sg.obs.dto.sales;
+
+/**
+ * One committed sale or stock movement, published to the salesEvents journal for the rollup job.
+ * {@code stockDelta} is the signed change to the item's stock; {@code timestamp} is epoch millis.
+ */
+public record SalesEvent(Long itemId, int units, double revenue, int stockDelta, long timestamp) {
+
+    public static SalesEvent sale(Long itemId, int units, double revenue, long timestamp) {
+        return new SalesEvent(itemId, units, revenue, 0, timestamp);
+    }
+
+    public static SalesEvent stockMoved(Long itemId, int stockDelta, long timestamp) {
+        return new SalesEvent(itemId, 0, 0, stockDelta, timestamp);
+    }
+}
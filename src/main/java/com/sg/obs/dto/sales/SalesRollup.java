@@ -0,0 +1,12 @@
+package com.sg.obs.dto.sales;
+
+/**
+ * Totals of one item's sales events in one window, as written by the rollup job. Window bounds are epoch millis.
+ */
+public record SalesRollup(Long itemId, long windowStart, long windowEnd, long units, double revenue, long stockDelta) {
+
+    // Tumbling windows are keyed by their start and sliding ones by their end
+    public static String key(Long itemId, long windowBound) {
+        return itemId + ":" + windowBound;
+    }
+}
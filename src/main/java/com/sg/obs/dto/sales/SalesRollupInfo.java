@@ -0,0 +1,32 @@
+package com.sg.obs.dto.sales;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sg.obs.config.constant.DatetimePattern;
+import com.sg.obs.enums.SalesWindow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollupInfo implements Serializable {
+
+    private Long itemId;
+    private SalesWindow window;
+
+    @JsonFormat(pattern = DatetimePattern.YYYY_MM_DD_HH_MM_SS)
+    private LocalDateTime windowStart;
+
+    @JsonFormat(pattern = DatetimePattern.YYYY_MM_DD_HH_MM_SS)
+    private LocalDateTime windowEnd;
+
+    private Long units;
+    private Double revenue;
+    private Long stockDelta;
+}
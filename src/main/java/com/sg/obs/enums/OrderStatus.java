@@ -0,0 +1,7 @@
+package com.sg.obs.enums;
+
+public enum OrderStatus {
+    PENDING,
+    CONFIRMED,
+    REJECTED
+}
@@ -0,0 +1,40 @@
+package com.sg.obs.enums;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Windows the sales rollup job aggregates into, aligned to the epoch (UTC) and kept for {@code retention}. The trailing
+ * hour slides every minute and is read one window at a time: the one ending at the next slide.
+ */
+@Getter
+public enum SalesWindow {
+    MINUTE(Duration.ofMinutes(1), null, Duration.ofDays(1)),
+    HOUR(Duration.ofHours(1), null, Duration.ofDays(31)),
+    DAY(Duration.ofDays(1), null, Duration.ofDays(400)),
+    TRAILING_HOUR(Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofHours(2));
+
+    private final Duration size;
+    private final Duration slide;
+    private final Duration retention;
+
+    SalesWindow(Duration size, Duration slide, Duration retention) {
+        this.size = size;
+        this.slide = slide;
+        this.retention = retention;
+    }
+
+    public boolean isSliding() {
+        return slide != null;
+    }
+
+    public String getMapName() {
+        return "salesRollups-" + name().toLowerCase();
+    }
+
+    // Tumbling windows readable per item; a sliding window is only read for its current end
+    public int getMaxWindows() {
+        return isSliding() ? 1 : (int) retention.dividedBy(size);
+    }
+}
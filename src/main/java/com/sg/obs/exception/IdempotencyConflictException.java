@@ -0,0 +1,8 @@
+package com.sg.obs.exception;
+
+public class IdempotencyConflictException extends ApiException {
+
+    public IdempotencyConflictException(int httpCode, String message) {
+        super(httpCode, message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sg.obs.exception;
+
+public class StockConflictException extends ApiException {
+
+    public StockConflictException() {
+        super(409, "Stock is being updated concurrently, please retry");
+    }
+}
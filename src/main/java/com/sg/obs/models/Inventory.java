@@ -1,11 +1,12 @@
 package com.sg.obs.models;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sg.obs.enums.InventoryType;
 import com.sg.obs.models.converter.InventoryTypeConverter;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -31,12 +32,12 @@ public class Inventory extends BaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "INVENTORY_SEQ")
-    @SequenceGenerator(name = "INVENTORY_SEQ", sequenceName = "INVENTORY_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "INVENTORY_SEQ", sequenceName = "INVENTORY_SEQ", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ITEM_ID", referencedColumnName = "ID")
-    @JsonBackReference
+    @JsonIgnore
     private Item item;
 
     @Column(name = "QTY", nullable = false)
@@ -47,4 +48,9 @@ public class Inventory extends BaseEntity {
     @Column(name = "TYPE", nullable = false, length = 1)
     @Comment(on = "TYPE", value = "Inventory type. T = Top-Up, W = Withdrawal")
     private InventoryType type;
+
+    @Column(name = "CHECKPOINT_ID", insertable = false, updatable = false)
+    @Comment(on = "CHECKPOINT_ID", value = "Checkpoint that folded this row into INVENTORY_SNAPSHOT, null until then")
+    @JsonIgnore
+    private Long checkpointId;
 }
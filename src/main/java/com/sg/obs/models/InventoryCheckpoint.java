@@ -0,0 +1,48 @@
+package com.sg.obs.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "INVENTORY_CHECKPOINT")
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class InventoryCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "INVENTORY_CHECKPOINT_SEQ")
+    @SequenceGenerator(name = "INVENTORY_CHECKPOINT_SEQ", sequenceName = "INVENTORY_CHECKPOINT_SEQ", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "CREATED_BEFORE", nullable = false)
+    @Comment(on = "CREATED_BEFORE", value = "Only inventory rows created before this time were eligible")
+    private LocalDateTime createdBefore;
+
+    @Column(name = "INVENTORY_COUNT", nullable = false)
+    @Comment(on = "INVENTORY_COUNT", value = "Number of inventory rows folded into INVENTORY_SNAPSHOT by this checkpoint")
+    private Integer inventoryCount;
+
+    @Column(name = "ITEM_COUNT", nullable = false)
+    @Comment(on = "ITEM_COUNT", value = "Number of item snapshots written by this checkpoint")
+    private Integer itemCount;
+
+    @Column(name = "ARCHIVED_COUNT", nullable = false)
+    @Comment(on = "ARCHIVED_COUNT", value = "Number of inventory rows moved to INVENTORY_HISTORY")
+    private Integer archivedCount;
+}
@@ -0,0 +1,34 @@
+package com.sg.obs.models;
+
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.models.converter.InventoryTypeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Table(name = "INVENTORY_HISTORY")
+@Getter
+@Setter
+public class InventoryHistory extends BaseEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "ITEM_ID")
+    private Long itemId;
+
+    @Column(name = "QTY", nullable = false)
+    @Comment(on = "QTY", value = "Inventory quantity")
+    private Integer quantity;
+
+    @Convert(converter = InventoryTypeConverter.class)
+    @Column(name = "TYPE", nullable = false, length = 1)
+    @Comment(on = "TYPE", value = "Inventory type. T = Top-Up, W = Withdrawal")
+    private InventoryType type;
+}
@@ -0,0 +1,34 @@
+package com.sg.obs.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Table(name = "INVENTORY_SNAPSHOT")
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class InventorySnapshot extends BaseEntity {
+
+    @Id
+    @Column(name = "ITEM_ID")
+    private Long itemId;
+
+    @Column(name = "QTY", nullable = false)
+    @Comment(on = "QTY", value = "Stock balance derived from every checkpointed inventory row of the item")
+    private Integer quantity;
+
+    @Column(name = "LAST_CHECKPOINT_ID", nullable = false)
+    @Comment(on = "LAST_CHECKPOINT_ID", value = "Checkpoint that last folded inventory rows into this snapshot")
+    private Long lastCheckpointId;
+}
@@ -1,8 +1,6 @@
 package com.sg.obs.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonManagedReference;
-import com.sg.obs.enums.InventoryType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -27,7 +25,7 @@ public class Item extends BaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ITEM_SEQ")
-    @SequenceGenerator(name = "ITEM_SEQ", sequenceName = "ITEM_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "ITEM_SEQ", sequenceName = "ITEM_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "NAME")
@@ -40,19 +38,10 @@ public class Item extends BaseEntity {
     private Double price;
 
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "item", orphanRemoval = true)
-    @JsonManagedReference
+    @JsonIgnore
     private List<Order> orders;
 
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "item", orphanRemoval = true)
-    @JsonManagedReference
-    private List<Inventory> inventory = new ArrayList<>();
-
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "item", orphanRemoval = true)
     @JsonIgnore
-    public int getRemainingStock() {
-        return inventory.parallelStream()
-                .map(i -> i.getType() == InventoryType.T ? i.getQuantity() : -i.getQuantity())
-                .mapToInt(Integer::intValue)
-                .sum();
-    }
-
+    private List<Inventory> inventory = new ArrayList<>();
 }
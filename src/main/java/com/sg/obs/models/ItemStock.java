@@ -0,0 +1,30 @@
+package com.sg.obs.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Table(name = "ITEM_STOCK")
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class ItemStock extends BaseEntity {
+
+    @Id
+    @Column(name = "ITEM_ID")
+    private Long itemId;
+
+    @Column(name = "QTY", nullable = false)
+    @Comment(on = "QTY", value = "Current stock balance. Sum of all top-ups minus withdrawals for the item")
+    private Integer quantity;
+}
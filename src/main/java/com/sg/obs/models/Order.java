@@ -1,8 +1,10 @@
 package com.sg.obs.models;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sg.obs.models.converter.OrderNoJavaType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -10,6 +12,7 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.JavaType;
 
 import java.util.Optional;
 
@@ -20,11 +23,13 @@ import java.util.Optional;
 public class Order extends BaseEntity {
 
     @Id
-    private String orderNo;
+    @Column(name = "ORDER_NO")
+    @JavaType(OrderNoJavaType.class)
+    private OrderNo orderNo;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ITEM_ID", referencedColumnName = "ID")
-    @JsonBackReference
+    @JsonIgnore
     private Item item;
 
     @Column(name = "QTY", nullable = false)
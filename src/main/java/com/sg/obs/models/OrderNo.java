@@ -0,0 +1,102 @@
+package com.sg.obs.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Order number stored as a packed BIGINT: {@code (year * 12 + month - 1) << 46 | sequence}.
+ * It is rendered as the 21-character {@code yyyyMM} + 15-digit sequence text only at the API boundary.
+ */
+public record OrderNo(long value) implements Serializable, Comparable<OrderNo> {
+
+    private static final int SEQUENCE_BITS = 46;
+    public static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int MONTH_END = 6;
+    private static final int LENGTH = MONTH_END + 15;
+
+    public OrderNo {
+        if (value < 0) {
+            throw new IllegalArgumentException("Order number must not be negative");
+        }
+    }
+
+    public static OrderNo of(YearMonth month, long sequence) {
+        if (sequence < 0 || sequence > MAX_SEQUENCE) {
+            throw new IllegalArgumentException("Order sequence out of range: " + sequence);
+        }
+        if (month.getYear() < 0 || month.getYear() > 9999) {
+            throw new IllegalArgumentException("Order month out of range: " + month);
+        }
+        long months = month.getYear() * 12L + month.getMonthValue() - 1;
+        return new OrderNo(months << SEQUENCE_BITS | sequence);
+    }
+
+    @JsonCreator
+    public static OrderNo parse(String text) {
+        if (text == null || text.length() != LENGTH) {
+            throw new IllegalArgumentException("Invalid order number: " + text);
+        }
+        int year = (int) parseDigits(text, 0, 4);
+        int month = (int) parseDigits(text, 4, MONTH_END);
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid order number: " + text);
+        }
+        return of(YearMonth.of(year, month), parseDigits(text, MONTH_END, LENGTH));
+    }
+
+    public static Optional<OrderNo> tryParse(String text) {
+        try {
+            return Optional.of(parse(text));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public YearMonth month() {
+        long months = value >>> SEQUENCE_BITS;
+        return YearMonth.of((int) (months / 12), (int) (months % 12) + 1);
+    }
+
+    public long sequence() {
+        return value & MAX_SEQUENCE;
+    }
+
+    @Override
+    public int compareTo(OrderNo other) {
+        return Long.compare(value, other.value);
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        long months = value >>> SEQUENCE_BITS;
+        char[] chars = new char[LENGTH];
+        writeDigits(chars, 0, 4, months / 12);
+        writeDigits(chars, 4, MONTH_END, months % 12 + 1);
+        writeDigits(chars, MONTH_END, LENGTH, sequence());
+        return new String(chars);
+    }
+
+    private static long parseDigits(String text, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid order number: " + text);
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static void writeDigits(char[] chars, int from, int to, long number) {
+        for (int i = to - 1; i >= from; i--) {
+            chars[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+    }
+}
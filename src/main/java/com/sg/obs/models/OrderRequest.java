@@ -0,0 +1,48 @@
+package com.sg.obs.models;
+
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.models.converter.OrderNoJavaType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.JavaType;
+
+@Entity
+@Table(name = "ORDER_REQUEST", indexes = @Index(name = "IDX_ORDER_REQUEST_STATUS", columnList = "STATUS, ORDER_NO"))
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class OrderRequest extends BaseEntity {
+
+    @Id
+    @Column(name = "ORDER_NO")
+    @JavaType(OrderNoJavaType.class)
+    private OrderNo orderNo;
+
+    @Column(name = "ITEM_ID", nullable = false)
+    private Long itemId;
+
+    @Column(name = "QTY", nullable = false)
+    @Comment(on = "QTY", value = "Requested quantity")
+    private Integer qty;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false, length = 10)
+    private OrderStatus status;
+
+    @Column(name = "REASON")
+    @Comment(on = "REASON", value = "Why a rejected request could not be settled")
+    private String reason;
+}
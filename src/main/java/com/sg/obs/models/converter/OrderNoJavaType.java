@@ -0,0 +1,66 @@
+package com.sg.obs.models.converter;
+
+import com.sg.obs.models.OrderNo;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.sql.Types;
+
+public class OrderNoJavaType extends AbstractClassJavaType<OrderNo> {
+
+    public OrderNoJavaType() {
+        super(OrderNo.class);
+    }
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return indicators.getJdbcType(Types.BIGINT);
+    }
+
+    @Override
+    public String toString(OrderNo value) {
+        return value.toString();
+    }
+
+    @Override
+    public OrderNo fromString(CharSequence string) {
+        return OrderNo.parse(string.toString());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <X> X unwrap(OrderNo value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (OrderNo.class.isAssignableFrom(type)) {
+            return (X) value;
+        }
+        if (Long.class.isAssignableFrom(type)) {
+            return (X) Long.valueOf(value.value());
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return (X) value.toString();
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> OrderNo wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof OrderNo orderNo) {
+            return orderNo;
+        }
+        if (value instanceof Number number) {
+            return new OrderNo(number.longValue());
+        }
+        if (value instanceof String string) {
+            return OrderNo.parse(string);
+        }
+        throw unknownWrap(value.getClass());
+    }
+}
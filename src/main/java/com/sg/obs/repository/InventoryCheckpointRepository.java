@@ -0,0 +1,7 @@
+package com.sg.obs.repository;
+
+import com.sg.obs.models.InventoryCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface InventoryCheckpointRepository extends JpaRepository<InventoryCheckpoint, Long> {
+}
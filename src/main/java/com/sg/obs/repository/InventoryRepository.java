@@ -1,9 +1,72 @@
 package com.sg.obs.repository;
 
 import com.sg.obs.models.Inventory;
+import com.sg.obs.repository.projection.InventoryVersion;
+import com.sg.obs.repository.projection.StockDelta;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
+    @Query(value = "SELECT NEXT VALUE FOR INVENTORY_SEQ", nativeQuery = true)
+    long getNextInventorySeq();
+
+    @Query("SELECT i.id FROM Inventory i WHERE i.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
     int removeById(Long id);
+
+    @EntityGraph(attributePaths = "item")
+    @Override
+    Page<Inventory> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "item")
+    @Override
+    Optional<Inventory> findById(Long id);
+
+    @EntityGraph(attributePaths = "item")
+    List<Inventory> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "item")
+    List<Inventory> findAllByOrderById(Limit limit);
+
+    @EntityGraph(attributePaths = "item")
+    List<Inventory> findByIdGreaterThanOrderById(Long id, Limit limit);
+
+    @Query("SELECT i.id AS id, it.name AS itemName, i.version AS version FROM Inventory i LEFT JOIN i.item it WHERE i.id = :id")
+    Optional<InventoryVersion> findInventoryVersion(@Param("id") Long id);
+
+    @Query("SELECT i.id FROM Inventory i WHERE i.checkpointId IS NULL AND i.createdDate < :before ORDER BY i.id")
+    List<Long> findUncheckpointedIds(@Param("before") LocalDateTime before, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Inventory i SET i.checkpointId = :checkpointId, i.version = i.version + 1 " +
+            "WHERE i.checkpointId IS NULL AND i.createdDate < :before AND i.id <= :toId")
+    int markCheckpointed(@Param("checkpointId") Long checkpointId, @Param("before") LocalDateTime before, @Param("toId") long toId);
+
+    @Query("SELECT i.item.id AS itemId, " +
+            "SUM(CASE WHEN i.type = com.sg.obs.enums.InventoryType.T THEN i.quantity ELSE -i.quantity END) AS quantity " +
+            "FROM Inventory i WHERE i.checkpointId = :checkpointId AND i.item IS NOT NULL GROUP BY i.item.id")
+    List<StockDelta> sumQuantityByCheckpoint(@Param("checkpointId") Long checkpointId);
+
+    @Modifying
+    @Query(value = "INSERT INTO INVENTORY_HISTORY (ID, ITEM_ID, QTY, TYPE, CHECKPOINT_ID, CREATED_BY, CREATED_DATE, UPDATED_BY, UPDATED_DATE, VERSION) " +
+            "SELECT ID, ITEM_ID, QTY, TYPE, CHECKPOINT_ID, CREATED_BY, CREATED_DATE, UPDATED_BY, UPDATED_DATE, VERSION " +
+            "FROM INVENTORY WHERE CHECKPOINT_ID = :checkpointId", nativeQuery = true)
+    int archiveByCheckpoint(@Param("checkpointId") Long checkpointId);
+
+    @Modifying
+    @Query("DELETE FROM Inventory i WHERE i.checkpointId = :checkpointId")
+    int removeByCheckpoint(@Param("checkpointId") Long checkpointId);
 }
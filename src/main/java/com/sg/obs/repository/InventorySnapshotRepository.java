@@ -0,0 +1,19 @@
+package com.sg.obs.repository;
+
+import com.sg.obs.models.InventorySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    @Modifying
+    @Query("UPDATE InventorySnapshot s SET s.quantity = s.quantity + :delta, s.version = s.version + 1 " +
+            "WHERE s.itemId = :itemId")
+    int amendQuantity(@Param("itemId") Long itemId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("DELETE FROM InventorySnapshot s WHERE NOT EXISTS (SELECT 1 FROM Item i WHERE i.id = s.itemId)")
+    int removeOrphans();
+}
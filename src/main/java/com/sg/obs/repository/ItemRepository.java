@@ -1,9 +1,40 @@
 package com.sg.obs.repository;
 
 import com.sg.obs.models.Item;
+import com.sg.obs.repository.projection.ItemSummary;
+import com.sg.obs.repository.projection.ItemVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
+    String ITEM_SUMMARY_SELECT = "SELECT i.id AS id, i.name AS name, i.price AS price, " +
+            "COALESCE(s.quantity, 0) AS remainingStock, " +
+            "i.createdDate AS createdDate, i.updatedDate AS updatedDate, " +
+            "i.createdBy AS createdBy, i.updatedBy AS updatedBy, i.version AS version " +
+            "FROM Item i LEFT JOIN ItemStock s ON s.itemId = i.id";
+
     int removeById(Long id);
+
+    @Query(value = ITEM_SUMMARY_SELECT, countQuery = "SELECT COUNT(i) FROM Item i")
+    Page<ItemSummary> findItemSummaries(Pageable pageable);
+
+    @Query(ITEM_SUMMARY_SELECT)
+    List<ItemSummary> findItemSummaryList(Pageable pageable);
+
+    @Query(ITEM_SUMMARY_SELECT + " WHERE i.id = :id")
+    Optional<ItemSummary> findItemSummaryById(@Param("id") Long id);
+
+    @Query("SELECT i.id FROM Item i WHERE i.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.id AS id, i.name AS name, i.version AS version FROM Item i WHERE i.id IN :ids")
+    List<ItemVersion> findItemVersions(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,42 @@
+package com.sg.obs.repository;
+
+import com.sg.obs.models.ItemStock;
+import com.sg.obs.repository.projection.ItemStockVersion;
+import com.sg.obs.repository.projection.StockVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemStockRepository extends JpaRepository<ItemStock, Long> {
+
+    @Modifying
+    @Query("UPDATE ItemStock s SET s.quantity = s.quantity + :delta, s.version = s.version + 1 WHERE s.itemId = :itemId")
+    int adjustQuantity(@Param("itemId") Long itemId, @Param("delta") int delta);
+
+    @Query("SELECT s.quantity AS quantity, s.version AS version FROM ItemStock s WHERE s.itemId = :itemId")
+    Optional<StockVersion> findStockVersion(@Param("itemId") Long itemId);
+
+    @Query("SELECT s.itemId AS itemId, s.quantity AS quantity, s.version AS version FROM ItemStock s WHERE s.itemId IN :itemIds")
+    List<ItemStockVersion> findStockVersions(@Param("itemIds") Collection<Long> itemIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ItemStock s WHERE s.itemId = :itemId")
+    Optional<ItemStock> findByIdForUpdate(@Param("itemId") Long itemId);
+
+    @Modifying
+    @Query("UPDATE ItemStock s SET s.quantity = :quantity, s.version = s.version + 1 " +
+            "WHERE s.itemId = :itemId AND s.version = :version")
+    int compareAndSetQuantity(@Param("itemId") Long itemId, @Param("quantity") int quantity, @Param("version") Long version);
+
+    @Modifying
+    @Query("UPDATE ItemStock s SET s.quantity = s.quantity - :qty, s.version = s.version + 1 " +
+            "WHERE s.itemId = :itemId AND s.quantity >= :qty")
+    int decrementIfAvailable(@Param("itemId") Long itemId, @Param("qty") int qty);
+}
@@ -1,14 +1,45 @@
 package com.sg.obs.repository;
 
 import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.projection.OrderVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OrderRepository extends JpaRepository<Order, String> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
+public interface OrderRepository extends JpaRepository<Order, OrderNo> {
 
-    @Query(value = "SELECT NEXT VALUE FOR ORDER_SEQ", nativeQuery = true)
-    Long getNextOrderSeq();
 
-    int removeByOrderNo(String orderNo);
+    @Query(value = "SELECT NEXT VALUE FOR ORDER_SEQ FROM SYSTEM_RANGE(1, :count)", nativeQuery = true)
+    List<Long> getNextOrderSeqs(@Param("count") int count);
+
+    int removeByOrderNo(OrderNo orderNo);
+
+    @EntityGraph(attributePaths = "item")
+    @Override
+    Page<Order> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "item")
+    @Override
+    Optional<Order> findById(OrderNo orderNo);
+
+    @EntityGraph(attributePaths = "item")
+    List<Order> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "item")
+    List<Order> findAllByOrderByOrderNo(Limit limit);
+
+    @EntityGraph(attributePaths = "item")
+    List<Order> findByOrderNoGreaterThanOrderByOrderNo(OrderNo orderNo, Limit limit);
+
+    @Query("SELECT o.orderNo AS orderNo, o.version AS version FROM Order o WHERE o.orderNo IN :orderNos")
+    List<OrderVersion> findOrderVersions(@Param("orderNos") Collection<OrderNo> orderNos);
 }
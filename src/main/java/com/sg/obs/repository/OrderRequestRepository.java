@@ -0,0 +1,19 @@
+package com.sg.obs.repository;
+
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.models.OrderRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface OrderRequestRepository extends JpaRepository<OrderRequest, OrderNo> {
+
+    @Query(value = "SELECT * FROM ORDER_REQUEST WHERE STATUS = 'PENDING' ORDER BY ORDER_NO " +
+            "FETCH FIRST :limit ROWS ONLY FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OrderRequest> claimPending(@Param("limit") int limit);
+
+    long countByStatus(OrderStatus status);
+}
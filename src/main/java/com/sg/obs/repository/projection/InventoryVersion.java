@@ -0,0 +1,10 @@
+package com.sg.obs.repository.projection;
+
+public interface InventoryVersion {
+
+    Long getId();
+
+    String getItemName();
+
+    Long getVersion();
+}
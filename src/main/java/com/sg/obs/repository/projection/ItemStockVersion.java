@@ -0,0 +1,6 @@
+package com.sg.obs.repository.projection;
+
+public interface ItemStockVersion extends StockVersion {
+
+    Long getItemId();
+}
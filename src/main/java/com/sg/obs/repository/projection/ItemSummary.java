@@ -0,0 +1,24 @@
+package com.sg.obs.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ItemSummary {
+
+    Long getId();
+
+    String getName();
+
+    Double getPrice();
+
+    Integer getRemainingStock();
+
+    LocalDateTime getCreatedDate();
+
+    LocalDateTime getUpdatedDate();
+
+    String getCreatedBy();
+
+    String getUpdatedBy();
+
+    Long getVersion();
+}
@@ -0,0 +1,10 @@
+package com.sg.obs.repository.projection;
+
+public interface ItemVersion {
+
+    Long getId();
+
+    String getName();
+
+    Long getVersion();
+}
@@ -0,0 +1,10 @@
+package com.sg.obs.repository.projection;
+
+import com.sg.obs.models.OrderNo;
+
+public interface OrderVersion {
+
+    OrderNo getOrderNo();
+
+    Long getVersion();
+}
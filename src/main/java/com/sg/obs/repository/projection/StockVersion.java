@@ -0,0 +1,8 @@
+package com.sg.obs.repository.projection;
+
+public interface StockVersion {
+
+    Integer getQuantity();
+
+    Long getVersion();
+}
@@ -0,0 +1,44 @@
+package com.sg.obs.scheduler;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.service.InventoryCheckpointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.inventory.checkpoint.enabled", havingValue = "true")
+public class InventoryCheckpointJob {
+
+    public static final String JOB_LOCK_MAP = "jobLocks";
+    private static final String LOCK_KEY = "inventoryCheckpoint";
+
+    private final InventoryCheckpointService checkpointService;
+    private final HazelcastInstance hazelcastInstance;
+
+
+    @Scheduled(fixedDelayString = "${app.inventory.checkpoint.interval:PT1H}",
+            initialDelayString = "${app.inventory.checkpoint.interval:PT1H}")
+    public void run() {
+        IMap<String, String> locks = hazelcastInstance.getMap(JOB_LOCK_MAP);
+        if (!locks.tryLock(LOCK_KEY)) {
+            log.debug("Inventory checkpoint is running on another member, skipping");
+            return;
+        }
+        try {
+            boolean advanced;
+            do {
+                advanced = checkpointService.checkpoint();
+            } while (advanced);
+        } catch (Exception e) {
+            log.error("Inventory checkpoint failed: {}", e.getMessage(), e);
+        } finally {
+            locks.unlock(LOCK_KEY);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.sg.obs.scheduler;
+
+import com.sg.obs.service.OrderQueueService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order.mode", havingValue = "async")
+public class OrderQueueWorker {
+
+    private final OrderQueueService orderQueueService;
+
+    @Value("${app.order.async.workers:2}")
+    private final int workers;
+
+    @Value("${app.order.async.batch-size:100}")
+    private final int batchSize;
+
+    @Value("${app.order.async.poll-interval:200ms}")
+    private final Duration pollInterval;
+
+    private final Semaphore signal = new Semaphore(0);
+    private ExecutorService executor;
+    private volatile boolean running;
+
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("order-queue-", 0).daemon().factory());
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::drain);
+        }
+    }
+
+    public void wakeUp() {
+        if (signal.availablePermits() < workers) {
+            signal.release();
+        }
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                // Keep settling while there is a backlog, otherwise sleep until woken or the next poll
+                if (orderQueueService.settleNext(batchSize) == 0) {
+                    signal.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Order settlement failed: {}", e.getMessage(), e);
+                pause();
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollInterval);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        signal.release(workers);
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Order queue workers did not stop in time, interrupting");
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sg.obs.scheduler;
+
+import com.sg.obs.service.RowCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RowCountRefreshJob {
+
+    private final RowCountService rowCountService;
+
+
+    @Scheduled(fixedDelayString = "${app.row-count.refresh-interval:PT5M}",
+            initialDelayString = "${app.row-count.refresh-interval:PT5M}")
+    public void run() {
+        try {
+            rowCountService.refresh();
+        } catch (Exception e) {
+            log.error("Row count refresh failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.sg.obs.service;
+
+import java.util.Set;
+
+public interface CacheInvalidationService {
+
+    void tagPage(String cache, String key, Set<String> tags);
+
+    long generation(String cache);
+
+    void evictIfInvalidatedSince(String cache, String key, long generation);
+
+    void itemAdded();
+
+    void itemChanged(Long itemId);
+
+    void itemDeleted(Long itemId);
+
+    void stockChanged(Long itemId);
+
+    void ordersAdded();
+
+    void orderChanged(String orderNo);
+
+    void orderDeleted(String orderNo);
+}
@@ -0,0 +1,8 @@
+package com.sg.obs.service;
+
+public interface CacheSnapshotService {
+
+    void snapshot();
+
+    void restore();
+}
@@ -0,0 +1,10 @@
+package com.sg.obs.service;
+
+import com.sg.obs.models.Inventory;
+
+public interface InventoryCheckpointService {
+
+    boolean checkpoint();
+
+    void amend(Inventory movement, int sign);
+}
@@ -0,0 +1,9 @@
+package com.sg.obs.service;
+
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.enums.InventoryType;
+
+public interface InventoryLedgerService {
+
+    InventoryMovement append(Long itemId, int quantity, InventoryType type);
+}
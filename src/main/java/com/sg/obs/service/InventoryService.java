@@ -1,6 +1,7 @@
 package com.sg.obs.service;
 
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.inventory.CreateInventoryRequest;
 import com.sg.obs.dto.inventory.InventoryInfo;
@@ -14,8 +15,13 @@ public interface InventoryService {
 
     ApiResponse<InventoryInfo> getInventoryById(Long id);
 
+    String getInventoryETag(Long id);
 
-    ApiResponse<PageWrapper<InventoryInfo>> getInventoryList(Pageable pageable);
+
+    ApiResponse<PageWrapper<InventoryInfo>> getInventoryList(Pageable pageable, boolean estimateTotal);
+
+
+    ApiResponse<CursorPage<InventoryInfo>> scrollInventories(String after, int size);
 
 
 
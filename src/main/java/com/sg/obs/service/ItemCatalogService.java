@@ -0,0 +1,15 @@
+package com.sg.obs.service;
+
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Static item attributes only; {@code remainingStock} is left unset and filled in from {@link StockCacheService}.
+ */
+public interface ItemCatalogService {
+
+    PageWrapper<ItemInfo> getItemPage(Pageable pageable, boolean estimateTotal);
+
+    ItemInfo getItem(Long id);
+}
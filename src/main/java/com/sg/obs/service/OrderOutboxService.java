@@ -0,0 +1,9 @@
+package com.sg.obs.service;
+
+import com.sg.obs.dto.order.AcceptedOrder;
+import com.sg.obs.models.Item;
+
+public interface OrderOutboxService {
+
+    AcceptedOrder accept(Item item, int qty);
+}
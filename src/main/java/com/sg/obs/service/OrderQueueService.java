@@ -0,0 +1,17 @@
+package com.sg.obs.service;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.models.OrderNo;
+
+import java.util.Optional;
+
+public interface OrderQueueService {
+
+    OrderInfo enqueue(CreateOrderRequest payload);
+
+    Optional<ApiResponse<OrderInfo>> findQueued(OrderNo orderNo);
+
+    int settleNext(int batchSize);
+}
@@ -1,20 +1,27 @@
 package com.sg.obs.service;
 
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.order.CreateOrderBatchRequest;
 import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderBatchResult;
 import com.sg.obs.dto.order.OrderInfo;
 import com.sg.obs.dto.order.UpdateOrderRequest;
 import org.springframework.data.domain.Pageable;
 
 public interface OrderService {
 
-    ApiResponse<PageWrapper<OrderInfo>> getOrderList(Pageable pageable);
+    ApiResponse<PageWrapper<OrderInfo>> getOrderList(Pageable pageable, boolean estimateTotal);
+
+    ApiResponse<CursorPage<OrderInfo>> scrollOrders(String after, int size);
 
     ApiResponse<OrderInfo> getOrderByOrderNo(String orderNo);
 
     ApiResponse<OrderInfo> createOrder(CreateOrderRequest payload);
 
+    ApiResponse<OrderBatchResult> createOrders(CreateOrderBatchRequest payload);
+
     ApiResponse<String> deleteOrderByOrderNo(String orderNo);
 
     ApiResponse<OrderInfo> updateOrder(UpdateOrderRequest payload);
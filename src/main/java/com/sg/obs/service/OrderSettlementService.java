@@ -0,0 +1,17 @@
+package com.sg.obs.service;
+
+import com.sg.obs.dto.order.OrderLineResult;
+import com.sg.obs.models.OrderNo;
+
+import java.util.List;
+
+public interface OrderSettlementService {
+
+    /**
+     * Order line to settle; {@code orderNo} is null when a number should be allocated on acceptance.
+     */
+    record Line(OrderNo orderNo, Long itemId, int qty) {
+    }
+
+    List<OrderLineResult> settle(List<Line> lines);
+}
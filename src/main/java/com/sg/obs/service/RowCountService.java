@@ -0,0 +1,12 @@
+package com.sg.obs.service;
+
+public interface RowCountService {
+
+    long estimate(Class<?> entity);
+
+    void adjust(Class<?> entity, long delta);
+
+    void invalidate(Class<?> entity);
+
+    void refresh();
+}
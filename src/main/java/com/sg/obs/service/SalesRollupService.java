@@ -0,0 +1,20 @@
+package com.sg.obs.service;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.sales.SalesRollupInfo;
+import com.sg.obs.enums.SalesWindow;
+import com.sg.obs.models.Order;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesRollupService {
+
+    void startRollupJob();
+
+    void ordersPlaced(Collection<Order> orders);
+
+    void stockMoved(Long itemId, int delta);
+
+    ApiResponse<List<SalesRollupInfo>> getSalesRollups(Long itemId, SalesWindow window, int count);
+}
@@ -0,0 +1,13 @@
+package com.sg.obs.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface StockCacheService {
+
+    int getRemainingStock(Long itemId);
+
+    Map<Long, Integer> getRemainingStock(Collection<Long> itemIds);
+
+    void evict(Long itemId);
+}
@@ -0,0 +1,30 @@
+package com.sg.obs.service;
+
+import com.sg.obs.models.Inventory;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface StockService {
+
+    Optional<Integer> findRemainingStock(Long itemId);
+
+    int getRemainingStock(Long itemId);
+
+    Map<Long, Integer> getRemainingStock(Collection<Long> itemIds);
+
+    void apply(Inventory movement);
+
+    void revert(Inventory movement);
+
+    void createStock(Long itemId);
+
+    void adjust(Long itemId, int delta);
+
+    void reserved(Long itemId, int qty);
+
+    void withdrawn(Long itemId, int qty);
+
+    void removeStock(Long itemId);
+}
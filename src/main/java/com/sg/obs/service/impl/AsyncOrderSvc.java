@@ -0,0 +1,85 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.order.CreateOrderBatchRequest;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderBatchResult;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.UpdateOrderRequest;
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.scheduler.OrderQueueWorker;
+import com.sg.obs.service.OrderQueueService;
+import com.sg.obs.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accepts single orders into the ORDER_REQUEST queue and answers 202; {@link OrderQueueWorker} settles them.
+ * Active with app.order.mode=async.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order.mode", havingValue = "async")
+public class AsyncOrderSvc implements OrderService {
+
+    private final OrderSvc orderSvc;
+    private final OrderQueueService orderQueueService;
+    private final OrderQueueWorker orderQueueWorker;
+
+
+    @Override
+    public ApiResponse<PageWrapper<OrderInfo>> getOrderList(Pageable pageable, boolean estimateTotal) {
+        return orderSvc.getOrderList(pageable, estimateTotal);
+    }
+
+    @Override
+    public ApiResponse<CursorPage<OrderInfo>> scrollOrders(String after, int size) {
+        return orderSvc.scrollOrders(after, size);
+    }
+
+    @Override
+    public ApiResponse<OrderInfo> getOrderByOrderNo(String orderNo) {
+        try {
+            // Requests leave the queue once their ORDERS row is written, so a row there is a confirmed order
+            OrderInfo settled = orderSvc.getOrderByOrderNo(orderNo).getData().toBuilder()
+                    .status(OrderStatus.CONFIRMED)
+                    .build();
+            return ApiResponse.setSuccess(settled);
+        } catch (DataNotFoundException e) {
+            // Not settled yet, or rejected: report it from the queue
+            return OrderNo.tryParse(orderNo)
+                    .flatMap(orderQueueService::findQueued)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public ApiResponse<OrderInfo> createOrder(CreateOrderRequest payload) {
+        OrderInfo queued = orderQueueService.enqueue(payload);
+        orderQueueWorker.wakeUp();
+        return ApiResponse.setResponse(queued, 202);
+    }
+
+    @Override
+    public ApiResponse<OrderBatchResult> createOrders(CreateOrderBatchRequest payload) {
+        return orderSvc.createOrders(payload);
+    }
+
+    @Override
+    public ApiResponse<String> deleteOrderByOrderNo(String orderNo) {
+        return orderSvc.deleteOrderByOrderNo(orderNo);
+    }
+
+    @Override
+    public ApiResponse<OrderInfo> updateOrder(UpdateOrderRequest payload) {
+        return orderSvc.updateOrder(payload);
+    }
+}
@@ -0,0 +1,168 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.sg.obs.config.CacheTags;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.PageTags;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.utility.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Evicts only the cache entries a write can affect. Rows changing in place evict the pages tagged with their ids
+ * (plus pages sorted on a mutable property); inserts and deletes shift every page and clear the paged cache.
+ * Evictions run after commit so a concurrent read cannot cache the pre-commit state again. A read that loaded
+ * before such an eviction can still put its entry afterwards, so every eviction also bumps the cache's generation:
+ * loaders read it before loading and drop their entry after the put if it moved. Stock is not part of
+ * the cached item data (see {@link com.sg.obs.service.StockCacheService}), so stock movements evict only the
+ * serialized responses that include it.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationSvc implements CacheInvalidationService {
+
+    private final CacheManager cacheManager;
+    private final IMap<String, PageTags> pageTags;
+    private final IMap<String, Long> generations;
+    private final boolean responseCacheEnabled;
+
+    public CacheInvalidationSvc(CacheManager cacheManager,
+                                HazelcastInstance hazelcastInstance,
+                                @Value("${app.cache.response.enabled:false}") boolean responseCacheEnabled) {
+        this.cacheManager = cacheManager;
+        this.pageTags = hazelcastInstance.getMap(HazelcastConfig.PAGE_TAGS_MAP);
+        this.generations = hazelcastInstance.getMap(HazelcastConfig.CACHE_GENERATIONS_MAP);
+        this.responseCacheEnabled = responseCacheEnabled;
+    }
+
+
+    @Override
+    public void tagPage(String cache, String key, Set<String> tags) {
+        pageTags.set(cache + "|" + key, new PageTags(cache, key, tags));
+    }
+
+    @Override
+    public long generation(String cache) {
+        return Optional.ofNullable(generations.get(cache)).orElse(0L);
+    }
+
+    @Override
+    public void evictIfInvalidatedSince(String cache, String key, long generation) {
+        if (generation(cache) != generation) {
+            // Not a write, so other loads in flight keep their entries
+            cache(cache).ifPresent(loaded -> loaded.evict(key));
+            pageTags.delete(cache + "|" + key);
+            log.debug("Evicted {} from {}: invalidated while it was loading", key, cache);
+        }
+    }
+
+    @Override
+    public void itemAdded() {
+        TransactionUtil.afterCommit(() -> {
+            clear(HazelcastConfig.PAGED_ITEM_CACHE);
+            if (responseCacheEnabled) {
+                clear(HazelcastConfig.RESPONSE_CACHE);
+            }
+        });
+    }
+
+    @Override
+    public void itemChanged(Long itemId) {
+        TransactionUtil.afterCommit(() -> {
+            evict(HazelcastConfig.ITEM_CACHE, itemId);
+            evictTagged(HazelcastConfig.PAGED_ITEM_CACHE, List.of(CacheTags.item(itemId), CacheTags.MUTABLE_SORT));
+            evictTagged(HazelcastConfig.PAGED_ORDER_CACHE, List.of(CacheTags.item(itemId)));
+            evictTagged(HazelcastConfig.ORDER_CACHE, List.of(CacheTags.item(itemId)));
+            if (responseCacheEnabled) {
+                evictTagged(HazelcastConfig.RESPONSE_CACHE, List.of(CacheTags.item(itemId), CacheTags.MUTABLE_SORT));
+            }
+        });
+    }
+
+    @Override
+    public void itemDeleted(Long itemId) {
+        // The item's orders are deleted with it
+        TransactionUtil.afterCommit(() -> {
+            evict(HazelcastConfig.ITEM_CACHE, itemId);
+            clear(HazelcastConfig.PAGED_ITEM_CACHE);
+            clear(HazelcastConfig.PAGED_ORDER_CACHE);
+            clear(HazelcastConfig.ORDER_CACHE);
+            if (responseCacheEnabled) {
+                clear(HazelcastConfig.RESPONSE_CACHE);
+            }
+        });
+    }
+
+    @Override
+    public void stockChanged(Long itemId) {
+        // Only the serialized responses carry stock; without them this would query the tags on every order
+        if (responseCacheEnabled) {
+            TransactionUtil.afterCommit(() -> evictTagged(HazelcastConfig.RESPONSE_CACHE, List.of(CacheTags.item(itemId))));
+        }
+    }
+
+    @Override
+    public void ordersAdded() {
+        TransactionUtil.afterCommit(() -> clear(HazelcastConfig.PAGED_ORDER_CACHE));
+    }
+
+    @Override
+    public void orderChanged(String orderNo) {
+        TransactionUtil.afterCommit(() -> {
+            evict(HazelcastConfig.ORDER_CACHE, orderNo);
+            evictTagged(HazelcastConfig.PAGED_ORDER_CACHE, List.of(CacheTags.order(orderNo), CacheTags.MUTABLE_SORT));
+        });
+    }
+
+    @Override
+    public void orderDeleted(String orderNo) {
+        TransactionUtil.afterCommit(() -> {
+            evict(HazelcastConfig.ORDER_CACHE, orderNo);
+            clear(HazelcastConfig.PAGED_ORDER_CACHE);
+        });
+    }
+
+    private void evict(String cacheName, Object key) {
+        nextGeneration(cacheName);
+        cache(cacheName).ifPresent(cache -> cache.evict(key));
+    }
+
+    private void evictTagged(String cacheName, Collection<String> tags) {
+        Predicate<String, PageTags> tagged = Predicates.and(
+                Predicates.equal("cache", cacheName),
+                Predicates.in("tags[any]", tags.toArray(String[]::new)));
+        nextGeneration(cacheName);
+        Set<Map.Entry<String, PageTags>> pages = pageTags.entrySet(tagged);
+        cache(cacheName).ifPresent(cache -> pages.forEach(page -> cache.evict(page.getValue().getKey())));
+        pages.forEach(page -> pageTags.delete(page.getKey()));
+        log.debug("Evicted {} pages from {} tagged {}", pages.size(), cacheName, tags);
+    }
+
+    private void clear(String cacheName) {
+        nextGeneration(cacheName);
+        cache(cacheName).ifPresent(Cache::clear);
+        pageTags.removeAll(Predicates.equal("cache", cacheName));
+    }
+
+    // Bumped before the entries are looked up and evicted, so any load still in flight sees it after its put
+    private void nextGeneration(String cacheName) {
+        generations.merge(cacheName, 1L, Long::sum);
+    }
+
+    private Optional<Cache> cache(String cacheName) {
+        return Optional.ofNullable(cacheManager.getCache(cacheName));
+    }
+}
@@ -0,0 +1,388 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.PageTags;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.repository.projection.ItemVersion;
+import com.sg.obs.repository.projection.OrderVersion;
+import com.sg.obs.service.CacheSnapshotService;
+import com.sg.obs.service.RowCountService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Warm restarts for the item and order caches. On shutdown each cache's local entries are written to one file
+ * with Hazelcast's own serialization (Compact, with the schemas inlined so a fresh member can read them back).
+ * On startup, before the application reports ready, entries whose rows changed since are dropped: an id's
+ * version differs, an order's item was renamed, or a page total no longer matches the row count. The rest are
+ * bulk-loaded together with their page tags.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.cache.snapshot.enabled", havingValue = "true")
+public class CacheSnapshotSvc implements CacheSnapshotService {
+
+    private static final int MAGIC = 0x4F425343;
+    private static final int FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int QUERY_CHUNK_SIZE = 1000;
+    private static final List<String> CACHES = List.of(HazelcastConfig.ITEM_CACHE, HazelcastConfig.ORDER_CACHE,
+            HazelcastConfig.PAGED_ITEM_CACHE, HazelcastConfig.PAGED_ORDER_CACHE);
+    // Caches whose entries carry page tags; single orders are tagged with their item for renames
+    private static final Set<String> TAGGED_CACHES = Set.of(HazelcastConfig.ORDER_CACHE,
+            HazelcastConfig.PAGED_ITEM_CACHE, HazelcastConfig.PAGED_ORDER_CACHE);
+
+    private final HazelcastInstance hazelcastInstance;
+    private final SerializationService serializationService;
+    private final ItemRepository itemRepository;
+    private final OrderRepository orderRepository;
+    private final RowCountService rowCountService;
+    private final MeterRegistry meterRegistry;
+    private final Path path;
+    private final Duration maxAge;
+
+    public CacheSnapshotSvc(HazelcastInstance hazelcastInstance,
+                            ItemRepository itemRepository,
+                            OrderRepository orderRepository,
+                            RowCountService rowCountService,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.cache.snapshot.path:data/cache-snapshot.bin}") Path path,
+                            @Value("${app.cache.snapshot.max-age:PT1H}") Duration maxAge) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.serializationService = ((SerializationServiceSupport) hazelcastInstance).getSerializationService();
+        this.itemRepository = itemRepository;
+        this.orderRepository = orderRepository;
+        this.rowCountService = rowCountService;
+        this.meterRegistry = meterRegistry;
+        this.path = path;
+        this.maxAge = maxAge;
+    }
+
+
+    // Runs before the beans it needs are destroyed and after the web server has drained
+    @PreDestroy
+    @Override
+    public void snapshot() {
+        long start = System.nanoTime();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Optional.ofNullable(path.toAbsolutePath().getParent()).ifPresent(this::createDirectories);
+            int written = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                SnapshotWriter writer = new SnapshotWriter(channel);
+                writer.writeInt(MAGIC);
+                writer.writeInt(FORMAT_VERSION);
+                writer.writeLong(System.currentTimeMillis());
+                writer.writeInt(CACHES.size() + 1);
+                for (String cache : CACHES) {
+                    written += writer.writeSection(cache, localEntries(cache));
+                }
+                writer.writeSection(HazelcastConfig.PAGE_TAGS_MAP, localPageTags());
+                writer.flush();
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long elapsed = System.nanoTime() - start;
+            timer("write").record(Duration.ofNanos(elapsed));
+            log.info("Wrote {} cached entries to {} in {} ms", written, path, elapsed / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write cache snapshot to {}", path, e);
+        }
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    @Override
+    public void restore() {
+        if (!Files.isRegularFile(path)) {
+            log.info("No cache snapshot at {}, starting cold", path);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Snapshot snapshot = read();
+            Duration age = Duration.between(snapshot.takenAt(), Instant.now());
+            if (age.compareTo(maxAge) > 0) {
+                log.info("Cache snapshot at {} is {} old, starting cold", path, age);
+                return;
+            }
+
+            CurrentRows current = loadCurrentRows(snapshot);
+            int restored = 0;
+            Set<String> restoredPages = new HashSet<>();
+            for (String cache : CACHES) {
+                Map<Object, Object> valid = new HashMap<>();
+                snapshot.entries(cache).forEach((key, value) -> {
+                    if (isCurrent(cache, value, current)) {
+                        valid.put(key, value);
+                    }
+                });
+                hazelcastInstance.getMap(cache).putAll(valid);
+                if (TAGGED_CACHES.contains(cache)) {
+                    valid.keySet().forEach(key -> restoredPages.add(cache + "|" + key));
+                }
+                restored += valid.size();
+                entries(cache, "restored").increment(valid.size());
+                entries(cache, "stale").increment(snapshot.entries(cache).size() - valid.size());
+            }
+            Map<Object, Object> tags = new HashMap<>(snapshot.entries(HazelcastConfig.PAGE_TAGS_MAP));
+            tags.keySet().retainAll(restoredPages);
+            hazelcastInstance.getMap(HazelcastConfig.PAGE_TAGS_MAP).putAll(tags);
+
+            long elapsed = System.nanoTime() - start;
+            timer("restore").record(Duration.ofNanos(elapsed));
+            log.info("Restored {} of {} cached entries from a snapshot taken {} ago in {} ms, {} ms after JVM start",
+                    restored, snapshot.size(), age, elapsed / 1_000_000, ManagementFactory.getRuntimeMXBean().getUptime());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable cache snapshot at {}", path, e);
+        }
+    }
+
+    private Map<Object, Object> localEntries(String cache) {
+        IMap<Object, Object> map = hazelcastInstance.getMap(cache);
+        Map<Object, Object> entries = new HashMap<>(map.getAll(map.localKeySet()));
+        entries.values().removeIf(NullValue.class::isInstance);
+        return entries;
+    }
+
+    private Map<Object, Object> localPageTags() {
+        IMap<Object, Object> pageTags = hazelcastInstance.getMap(HazelcastConfig.PAGE_TAGS_MAP);
+        return pageTags.getAll(pageTags.localKeySet(Predicates.in("cache", TAGGED_CACHES.toArray(String[]::new))));
+    }
+
+    private Snapshot read() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not a cache snapshot or an unsupported format version");
+            }
+            Instant takenAt = Instant.ofEpochMilli(buffer.getLong());
+            Map<String, Map<Object, Object>> sections = new LinkedHashMap<>();
+            for (int section = buffer.getInt(); section > 0; section--) {
+                String cache = new String(readBytes(buffer), StandardCharsets.UTF_8);
+                Map<Object, Object> entries = new HashMap<>();
+                for (int entry = buffer.getInt(); entry > 0; entry--) {
+                    Object key = serializationService.toObject(new HeapData(readBytes(buffer)));
+                    entries.put(key, serializationService.toObject(new HeapData(readBytes(buffer))));
+                }
+                sections.put(cache, entries);
+            }
+            return new Snapshot(takenAt, sections);
+        }
+    }
+
+    private CurrentRows loadCurrentRows(Snapshot snapshot) {
+        Set<Long> itemIds = new HashSet<>();
+        Set<OrderNo> orderNos = new HashSet<>();
+        CACHES.stream()
+                .flatMap(cache -> snapshot.entries(cache).values().stream())
+                .flatMap(CacheSnapshotSvc::rows)
+                .forEach(row -> {
+                    switch (row) {
+                        case ItemInfo item -> itemIds.add(item.getId());
+                        case OrderInfo order -> {
+                            itemIds.add(order.getItemId());
+                            OrderNo.tryParse(order.getOrderNo()).ifPresent(orderNos::add);
+                        }
+                        default -> {
+                        }
+                    }
+                });
+        itemIds.remove(null);
+
+        Map<Long, ItemVersion> items = new HashMap<>();
+        chunks(itemIds).forEach(ids -> itemRepository.findItemVersions(ids)
+                .forEach(item -> items.put(item.getId(), item)));
+        Map<String, Long> orders = new HashMap<>();
+        chunks(orderNos).forEach(nos -> orderRepository.findOrderVersions(nos)
+                .forEach(order -> orders.put(order.getOrderNo().toString(), order.getVersion())));
+        return new CurrentRows(items, orders);
+    }
+
+    private boolean isCurrent(String cache, Object value, CurrentRows current) {
+        Object data = value instanceof ApiResponse<?> response ? response.getData() : value;
+        if (data instanceof PageWrapper<?> page) {
+            // A different total means rows were added or removed and the page may have shifted
+            long total = rowCountService.estimate(HazelcastConfig.PAGED_ITEM_CACHE.equals(cache) ? Item.class : Order.class);
+            return page.getMetadata().getTotalElements() == total && page.getContent().stream().allMatch(current::isCurrent);
+        }
+        return current.isCurrent(data);
+    }
+
+    private static Stream<?> rows(Object value) {
+        Object data = value instanceof ApiResponse<?> response ? response.getData() : value;
+        return data instanceof PageWrapper<?> page ? page.getContent().stream() : Stream.ofNullable(data);
+    }
+
+    private static <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> list = new ArrayList<>(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += QUERY_CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + QUERY_CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Counter entries(String cache, String result) {
+        return Counter.builder("cache.snapshot.entries")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("cache.snapshot.duration")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private record Snapshot(Instant takenAt, Map<String, Map<Object, Object>> sections) {
+
+        Map<Object, Object> entries(String cache) {
+            return sections.getOrDefault(cache, Map.of());
+        }
+
+        int size() {
+            return CACHES.stream().mapToInt(cache -> entries(cache).size()).sum();
+        }
+    }
+
+    private record CurrentRows(Map<Long, ItemVersion> items, Map<String, Long> orders) {
+
+        boolean isCurrent(Object row) {
+            return switch (row) {
+                case ItemInfo item -> Optional.ofNullable(items.get(item.getId()))
+                        .filter(current -> Objects.equals(current.getVersion(), item.getVersion()))
+                        .isPresent();
+                // Order rows carry the item name, which the order's own version does not cover
+                case OrderInfo order -> Objects.equals(orders.get(order.getOrderNo()), order.getVersion())
+                        && Optional.ofNullable(items.get(order.getItemId()))
+                        .filter(current -> Objects.equals(current.getName(), order.getItemName()))
+                        .isPresent();
+                case null, default -> false;
+            };
+        }
+    }
+
+    /**
+     * Sequential writes through one direct buffer; every key and value is length-prefixed Hazelcast data.
+     */
+    private final class SnapshotWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private SnapshotWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        int writeSection(String name, Map<Object, Object> entries) throws IOException {
+            writeBytes(name.getBytes(StandardCharsets.UTF_8));
+            writeInt(entries.size());
+            for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                writeBytes(serializationService.toDataWithSchema(entry.getKey()).toByteArray());
+                writeBytes(serializationService.toDataWithSchema(entry.getValue()).toByteArray());
+            }
+            return entries.size();
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            writeInt(bytes.length);
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining()) {
+                    channel.write(large);
+                }
+                return;
+            }
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.InventoryCheckpoint;
+import com.sg.obs.models.InventorySnapshot;
+import com.sg.obs.repository.InventoryCheckpointRepository;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.InventorySnapshotRepository;
+import com.sg.obs.repository.projection.StockDelta;
+import com.sg.obs.service.InventoryCheckpointService;
+import com.sg.obs.service.RowCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class InventoryCheckpointSvc implements InventoryCheckpointService {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventorySnapshotRepository snapshotRepository;
+    private final InventoryCheckpointRepository checkpointRepository;
+    private final RowCountService rowCountService;
+
+    @Value("${app.inventory.checkpoint.min-age:PT24H}")
+    private final Duration minAge;
+
+    @Value("${app.inventory.checkpoint.batch-size:100000}")
+    private final long batchSize;
+
+    @Value("${app.inventory.checkpoint.archive:false}")
+    private final boolean archive;
+
+
+    @Transactional
+    @Override
+    public boolean checkpoint() {
+        // Rows are claimed by stamping CHECKPOINT_ID rather than by an id watermark: pooled ids and write-behind
+        // flushes commit out of id order, so a row below an earlier watermark may only show up later
+        LocalDateTime before = LocalDateTime.now().minus(minAge);
+        List<Long> eligibleIds = inventoryRepository.findUncheckpointedIds(before, Limit.of(Math.toIntExact(batchSize)));
+        if (eligibleIds.isEmpty()) {
+            return false;
+        }
+
+        InventoryCheckpoint checkpoint = checkpointRepository.save(InventoryCheckpoint.builder()
+                .createdBefore(before)
+                .inventoryCount(0)
+                .itemCount(0)
+                .archivedCount(0)
+                .build());
+        int folded = inventoryRepository.markCheckpointed(checkpoint.getId(), before, eligibleIds.getLast());
+
+        List<StockDelta> deltas = inventoryRepository.sumQuantityByCheckpoint(checkpoint.getId());
+        Map<Long, InventorySnapshot> snapshots = snapshotRepository
+                .findAllById(deltas.stream().map(StockDelta::getItemId).toList())
+                .stream()
+                .collect(Collectors.toMap(InventorySnapshot::getItemId, Function.identity()));
+
+        for (StockDelta delta : deltas) {
+            InventorySnapshot snapshot = Optional.ofNullable(snapshots.get(delta.getItemId()))
+                    .orElseGet(() -> InventorySnapshot.builder().itemId(delta.getItemId()).quantity(0).build());
+            snapshot.setQuantity(snapshot.getQuantity() + delta.getQuantity().intValue());
+            snapshot.setLastCheckpointId(checkpoint.getId());
+            snapshotRepository.save(snapshot);
+        }
+
+        int archived = 0;
+        if (archive) {
+            archived = inventoryRepository.archiveByCheckpoint(checkpoint.getId());
+            rowCountService.adjust(Inventory.class, -inventoryRepository.removeByCheckpoint(checkpoint.getId()));
+        }
+        snapshotRepository.removeOrphans();
+
+        checkpoint.setInventoryCount(folded);
+        checkpoint.setItemCount(deltas.size());
+        checkpoint.setArchivedCount(archived);
+        checkpointRepository.save(checkpoint);
+        log.info("Checkpoint {} folded {} inventory rows created before {}: {} items, {} rows archived",
+                checkpoint.getId(), folded, before, deltas.size(), archived);
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public void amend(Inventory movement, int sign) {
+        if (movement.getCheckpointId() == null || movement.getItem() == null || movement.getItem().getId() == null) {
+            return;
+        }
+        Long itemId = movement.getItem().getId();
+        int qty = sign * (movement.getType() == InventoryType.T ? movement.getQuantity() : -movement.getQuantity());
+        if (snapshotRepository.amendQuantity(itemId, qty) == 0) {
+            // A checkpointed row moved onto an item that has no snapshot yet
+            snapshotRepository.save(InventorySnapshot.builder()
+                    .itemId(itemId)
+                    .quantity(qty)
+                    .lastCheckpointId(movement.getCheckpointId())
+                    .build());
+        }
+    }
+}
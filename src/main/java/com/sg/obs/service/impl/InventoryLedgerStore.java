@@ -0,0 +1,89 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.map.MapStore;
+import com.sg.obs.dto.inventory.InventoryMovement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind store of the inventoryLedger map. Flushes go to {@link InventoryLedgerWriter}; ledger entries are never
+ * loaded back, reads go to INVENTORY.
+ */
+@Component
+@ConditionalOnProperty(name = "app.inventory.write-behind.enabled", havingValue = "true")
+public class InventoryLedgerStore implements MapStore<Long, InventoryMovement> {
+
+    // The writer needs JPA, which starts after the Hazelcast instance this store is configured into
+    private final ObjectProvider<InventoryLedgerWriter> inventoryLedgerWriter;
+    private final Timer lag;
+    private final DistributionSummary batchSize;
+    private final Counter failures;
+
+    public InventoryLedgerStore(ObjectProvider<InventoryLedgerWriter> inventoryLedgerWriter,
+                                MeterRegistry meterRegistry) {
+        this.inventoryLedgerWriter = inventoryLedgerWriter;
+        this.lag = Timer.builder("inventory.ledger.flush.lag")
+                .description("Time from accepting a movement to writing it to INVENTORY")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("inventory.ledger.flush.batch")
+                .description("Movements written per flush")
+                .baseUnit("movements")
+                .register(meterRegistry);
+        this.failures = Counter.builder("inventory.ledger.flush.failures")
+                .description("Flushes that failed and were left for write-behind to retry")
+                .register(meterRegistry);
+    }
+
+
+    @Override
+    public void store(Long id, InventoryMovement movement) {
+        storeAll(Map.of(id, movement));
+    }
+
+    @Override
+    public void storeAll(Map<Long, InventoryMovement> movements) {
+        try {
+            inventoryLedgerWriter.getObject().write(movements.values());
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        }
+        long now = System.currentTimeMillis();
+        batchSize.record(movements.size());
+        movements.values().forEach(movement -> lag.record(now - movement.acceptedAt(), TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void delete(Long id) {
+        // Accepted movements are only removed from INVENTORY through the API
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> ids) {
+        // Accepted movements are only removed from INVENTORY through the API
+    }
+
+    @Override
+    public InventoryMovement load(Long id) {
+        return null;
+    }
+
+    @Override
+    public Map<Long, InventoryMovement> loadAll(Collection<Long> ids) {
+        return Map.of();
+    }
+
+    @Override
+    public Iterable<Long> loadAllKeys() {
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.service.InventoryLedgerService;
+import com.sg.obs.utility.InventoryIdGenerator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accepts inventory movements into the inventoryLedger map, which {@link InventoryLedgerStore} writes to INVENTORY
+ * behind the caller. The write returns once the entry and its backups are in memory.
+ */
+@Service
+@ConditionalOnProperty(name = "app.inventory.write-behind.enabled", havingValue = "true")
+public class InventoryLedgerSvc implements InventoryLedgerService {
+
+    private final InventoryIdGenerator inventoryIdGenerator;
+    private final IMap<Long, InventoryMovement> ledger;
+
+    public InventoryLedgerSvc(InventoryIdGenerator inventoryIdGenerator,
+                              HazelcastInstance hazelcastInstance,
+                              MeterRegistry meterRegistry) {
+        this.inventoryIdGenerator = inventoryIdGenerator;
+        this.ledger = hazelcastInstance.getMap(HazelcastConfig.INVENTORY_LEDGER_MAP);
+        Gauge.builder("inventory.ledger.pending", ledger, map -> map.getLocalMapStats().getDirtyEntryCount())
+                .description("Accepted movements owned by this member and not yet written to INVENTORY")
+                .register(meterRegistry);
+    }
+
+
+    @Override
+    public InventoryMovement append(Long itemId, int quantity, InventoryType type) {
+        InventoryMovement movement = new InventoryMovement(inventoryIdGenerator.nextId(), itemId, quantity, type,
+                System.currentTimeMillis());
+        ledger.set(movement.id(), movement);
+        return movement;
+    }
+}
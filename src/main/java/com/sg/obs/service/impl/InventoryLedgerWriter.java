@@ -0,0 +1,91 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a batch of accepted inventory movements: one JDBC batch insert into INVENTORY and one ITEM_STOCK update per
+ * item, in a single transaction. Write-behind delivers at least once (a promoted backup replays its queue), so
+ * movements whose row already exists are skipped. Movements of items deleted since they were accepted are dropped
+ * with a warning: their ledger went with the item, and a failing insert would hold back every later flush.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.inventory.write-behind.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class InventoryLedgerWriter {
+
+    private static final String INSERT = "INSERT INTO INVENTORY (ID, ITEM_ID, QTY, TYPE, CREATED_BY, CREATED_DATE, "
+            + "UPDATED_BY, UPDATED_DATE, VERSION) VALUES (?, ?, ?, ?, 'SYSTEM', ?, 'SYSTEM', ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryRepository inventoryRepository;
+    private final ItemRepository itemRepository;
+    private final StockService stockService;
+    private final RowCountService rowCountService;
+
+
+    @Transactional
+    public void write(Collection<InventoryMovement> movements) {
+        Set<Long> written = new HashSet<>(inventoryRepository.findIdsByIdIn(
+                movements.stream().map(InventoryMovement::id).toList()));
+        List<InventoryMovement> unwritten = movements.stream()
+                .filter(movement -> !written.contains(movement.id()))
+                .toList();
+        if (unwritten.isEmpty()) {
+            return;
+        }
+        // An item deleted after this check fails the flush; the retry then drops its movements here
+        Set<Long> items = new HashSet<>(itemRepository.findIdsByIdIn(
+                unwritten.stream().map(InventoryMovement::itemId).distinct().toList()));
+        Map<Boolean, List<InventoryMovement>> byItemPresent = unwritten.stream()
+                .collect(Collectors.partitioningBy(movement -> items.contains(movement.itemId())));
+        byItemPresent.get(false).forEach(movement ->
+                log.warn("Dropping inventory movement {} of deleted item {}", movement.id(), movement.itemId()));
+        List<InventoryMovement> pending = byItemPresent.get(true);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT, pending, pending.size(), (statement, movement) -> {
+            statement.setLong(1, movement.id());
+            statement.setLong(2, movement.itemId());
+            statement.setInt(3, movement.quantity());
+            statement.setString(4, movement.type().name());
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+        });
+
+        // Items in id order, so concurrent flushes on other members take ITEM_STOCK row locks in the same order
+        Map<Long, Integer> deltas = new TreeMap<>();
+        pending.forEach(movement -> deltas.merge(movement.itemId(), signedQuantity(movement), Integer::sum));
+        deltas.forEach(stockService::adjust);
+        rowCountService.adjust(Inventory.class, pending.size());
+    }
+
+    private static int signedQuantity(InventoryMovement movement) {
+        return movement.type() == InventoryType.T ? movement.quantity() : -movement.quantity();
+    }
+}
@@ -2,24 +2,37 @@ package com.sg.obs.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.inventory.CreateInventoryRequest;
 import com.sg.obs.dto.inventory.InventoryInfo;
+import com.sg.obs.dto.inventory.InventoryMovement;
 import com.sg.obs.dto.inventory.UpdateInventoryRequest;
 import com.sg.obs.exception.DataNotFoundException;
 import com.sg.obs.models.Inventory;
 import com.sg.obs.models.Item;
 import com.sg.obs.repository.InventoryRepository;
 import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.service.InventoryCheckpointService;
+import com.sg.obs.service.InventoryLedgerService;
 import com.sg.obs.service.InventoryService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.utility.CursorUtil;
+import com.sg.obs.utility.ETagUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.web.PagedModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class InventorySvc implements InventoryService {
@@ -28,6 +41,10 @@ public class InventorySvc implements InventoryService {
 
     private final InventoryRepository inventoryRepository;
     private final ItemRepository itemRepository;
+    private final StockService stockService;
+    private final InventoryCheckpointService checkpointService;
+    private final RowCountService rowCountService;
+    private final Optional<InventoryLedgerService> inventoryLedger;
     private final ObjectMapper mapper;
 
 
@@ -44,9 +61,36 @@ public class InventorySvc implements InventoryService {
 
     @Transactional(readOnly = true)
     @Override
-    public ApiResponse<PageWrapper<InventoryInfo>> getInventoryList(Pageable pageable) {
-        Page<InventoryInfo> page = inventoryRepository.findAll(pageable).map(this::toInfo);
-        return ApiResponse.setSuccess(PageWrapper.of(new PagedModel<>(page)));
+    public String getInventoryETag(Long id) {
+        return inventoryRepository.findInventoryVersion(id)
+                .map(version -> ETagUtil.of(InventoryInfo.builder()
+                        .id(version.getId())
+                        .itemName(version.getItemName())
+                        .version(version.getVersion())
+                        .build()))
+                .orElseThrow(() -> new DataNotFoundException(String.format(NOT_FOUND, id)));
+    }
+
+
+    @Transactional(readOnly = true)
+    @Override
+    public ApiResponse<PageWrapper<InventoryInfo>> getInventoryList(Pageable pageable, boolean estimateTotal) {
+        Page<Inventory> page = estimateTotal
+                ? new PageImpl<>(inventoryRepository.findAllBy(pageable), pageable, rowCountService.estimate(Inventory.class))
+                : inventoryRepository.findAll(pageable);
+        return ApiResponse.setSuccess(PageWrapper.of(new PagedModel<>(page.map(this::toInfo)), estimateTotal));
+    }
+
+
+    @Transactional(readOnly = true)
+    @Override
+    public ApiResponse<CursorPage<InventoryInfo>> scrollInventories(String after, int size) {
+        int limit = CursorUtil.limit(size);
+        Long afterId = CursorUtil.decode(after);
+        List<Inventory> inventories = afterId == null
+                ? inventoryRepository.findAllByOrderById(Limit.of(limit + 1))
+                : inventoryRepository.findByIdGreaterThanOrderById(afterId, Limit.of(limit + 1));
+        return ApiResponse.setSuccess(CursorPage.of(inventories, limit, Inventory::getId, this::toInfo));
     }
 
 
@@ -56,12 +100,22 @@ public class InventorySvc implements InventoryService {
         Item item = itemRepository.findById(payload.getItemId())
                 .orElseThrow(() -> new DataNotFoundException("Item not found"));
 
+        if (inventoryLedger.isPresent()) {
+            // Accepted in memory; the row and the stock change are written by the next write-behind flush
+            InventoryMovement movement = inventoryLedger.get()
+                    .append(item.getId(), payload.getQuantity(), payload.getType());
+            return ApiResponse.setResponse(toInfo(movement, item), 202);
+        }
+
         Inventory inventory = new Inventory();
         inventory.setItem(item);
         inventory.setQuantity(payload.getQuantity());
         inventory.setType(payload.getType());
 
-        return ApiResponse.setResponse(toInfo(inventoryRepository.save(inventory)), 201);
+        Inventory saved = inventoryRepository.save(inventory);
+        stockService.apply(saved);
+        rowCountService.adjust(Inventory.class, 1);
+        return ApiResponse.setResponse(toInfo(saved), 201);
     }
 
 
@@ -70,6 +124,7 @@ public class InventorySvc implements InventoryService {
     public ApiResponse<InventoryInfo> updateInventory(UpdateInventoryRequest payload) {
         Inventory inventory = inventoryRepository.findById(payload.getId())
                 .orElseThrow(() -> new DataNotFoundException(String.format(NOT_FOUND, payload.getId())));
+        Inventory previous = inventory.toBuilder().build();
 
         if (payload.getItemId() != null) {
             Item item = itemRepository.findById(payload.getItemId())
@@ -79,7 +134,12 @@ public class InventorySvc implements InventoryService {
         inventory.setQuantity(payload.getQuantity());
         inventory.setType(payload.getType());
 
-        return ApiResponse.setSuccess(toInfo(inventoryRepository.save(inventory)));
+        Inventory saved = inventoryRepository.save(inventory);
+        stockService.revert(previous);
+        stockService.apply(saved);
+        checkpointService.amend(previous, -1);
+        checkpointService.amend(saved, 1);
+        return ApiResponse.setSuccess(toInfo(saved));
     }
 
 
@@ -87,15 +147,27 @@ public class InventorySvc implements InventoryService {
     @Modifying
     @Override
     public ApiResponse<String> deleteInventoryById(Long id) {
-        int count = inventoryRepository.removeById(id);
-        if (count == 0) {
-            throw new DataNotFoundException(String.format(NOT_FOUND, id));
-        }
+        Inventory inventory = inventoryRepository.findById(id)
+                .orElseThrow(() -> new DataNotFoundException(String.format(NOT_FOUND, id)));
+        inventoryRepository.delete(inventory);
+        rowCountService.adjust(Inventory.class, -1);
+        stockService.revert(inventory);
+        checkpointService.amend(inventory, -1);
         var res = new ApiResponse<String>();
         res.setMessage(String.format("Inventory with id %d deleted successfully", id));
         return res;
     }
 
+    private InventoryInfo toInfo(InventoryMovement movement, Item item) {
+        return InventoryInfo.builder()
+                .id(movement.id())
+                .itemId(item.getId())
+                .itemName(item.getName())
+                .quantity(movement.quantity())
+                .type(movement.type())
+                .build();
+    }
+
     private InventoryInfo toInfo(Inventory inv) {
         InventoryInfo info = mapper.convertValue(inv, InventoryInfo.class);
         if (inv.getItem() != null) {
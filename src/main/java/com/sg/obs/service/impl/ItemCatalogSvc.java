@@ -0,0 +1,67 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.annotations.TaggedPage;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.models.Item;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.projection.ItemSummary;
+import com.sg.obs.service.ItemCatalogService;
+import com.sg.obs.service.RowCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.sg.obs.service.impl.ItemSvc.ITEM_WITH_ID_D_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class ItemCatalogSvc implements ItemCatalogService {
+
+    private final ItemRepository itemRepository;
+    private final RowCountService rowCountService;
+
+
+    // A page ordered by stock goes stale on every order, so it is read through instead of cached
+    @Transactional(readOnly = true)
+    @Cacheable(value = {HazelcastConfig.PAGED_ITEM_CACHE}, keyGenerator = "pageableKeyGenerator", sync = true,
+            condition = "#pageable.sort.getOrderFor('remainingStock') == null")
+    @TaggedPage
+    @Override
+    public PageWrapper<ItemInfo> getItemPage(Pageable pageable, boolean estimateTotal) {
+        Page<ItemSummary> items = estimateTotal
+                ? new PageImpl<>(itemRepository.findItemSummaryList(pageable), pageable, rowCountService.estimate(Item.class))
+                : itemRepository.findItemSummaries(pageable);
+        return PageWrapper.of(new PagedModel<>(items.map(this::convertToItemInfo)), estimateTotal);
+    }
+
+    // sync: concurrent misses wait for one load. HazelcastCache loads under the IMap key lock, so this holds across members
+    @Transactional(readOnly = true)
+    @Cacheable(value = {HazelcastConfig.ITEM_CACHE}, key = "#id", sync = true)
+    @Override
+    public ItemInfo getItem(Long id) {
+        return itemRepository.findItemSummaryById(id)
+                .map(this::convertToItemInfo)
+                .orElseThrow(() -> new DataNotFoundException(String.format(ITEM_WITH_ID_D_NOT_FOUND, id)));
+    }
+
+    private ItemInfo convertToItemInfo(ItemSummary summary) {
+        return ItemInfo.builder()
+                .id(summary.getId())
+                .name(summary.getName())
+                .price(summary.getPrice())
+                .createdDate(summary.getCreatedDate())
+                .updatedDate(summary.getUpdatedDate())
+                .createdBy(summary.getCreatedBy())
+                .updatedBy(summary.getUpdatedBy())
+                .version(summary.getVersion())
+                .build();
+    }
+}
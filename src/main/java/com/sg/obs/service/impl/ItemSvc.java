@@ -1,28 +1,32 @@
 package com.sg.obs.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sg.obs.config.HazelcastConfig;
 import com.sg.obs.dto.ApiResponse;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.item.CreateItemRequest;
 import com.sg.obs.dto.item.ItemInfo;
 import com.sg.obs.dto.item.UpdateItemRequest;
 import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.models.Inventory;
 import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
 import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.ItemCatalogService;
 import com.sg.obs.service.ItemService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.StockCacheService;
+import com.sg.obs.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.web.PagedModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -31,47 +35,61 @@ public class ItemSvc implements ItemService {
     public static final String ITEM_WITH_ID_D_NOT_FOUND = "Item with id %d not found";
     private final ItemRepository itemRepository;
 
+    private final ItemCatalogService itemCatalogService;
+
+    private final StockService stockService;
+
+    private final StockCacheService stockCacheService;
+
+    private final RowCountService rowCountService;
+
+    private final CacheInvalidationService cacheInvalidationService;
+
     private final ObjectMapper mapper;
 
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = {HazelcastConfig.PAGED_ITEM_CACHE}, keyGenerator = "pageableKeyGenerator")
     @Override
-    public ApiResponse<PageWrapper<ItemInfo>> getItemsList(Pageable pageable) {
-        Page<ItemInfo> items = itemRepository.findAll(pageable).map(this::convertToItemInfo);
-        return ApiResponse.setSuccess(PageWrapper.of(new PagedModel<>(items)));
+    public ApiResponse<PageWrapper<ItemInfo>> getItemsList(Pageable pageable, boolean estimateTotal) {
+        PageWrapper<ItemInfo> page = itemCatalogService.getItemPage(pageable, estimateTotal);
+        Map<Long, Integer> stocks = stockCacheService.getRemainingStock(page.getContent().stream()
+                .map(ItemInfo::getId)
+                .toList());
+        List<ItemInfo> items = page.getContent().stream()
+                .map(item -> withStock(item, stocks.getOrDefault(item.getId(), 0)))
+                .toList();
+        return ApiResponse.setSuccess(new PageWrapper<>(items, page.getPage()));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = {HazelcastConfig.ITEM_CACHE}, key = "#id")
     @Override
     public ApiResponse<ItemInfo> getItemById(Long id) {
-        ItemInfo itemInfo = itemRepository.findById(id)
-                .map(this::convertToItemInfo)
-                .orElseThrow(() -> new DataNotFoundException(String.format(ITEM_WITH_ID_D_NOT_FOUND, id)));
-        return ApiResponse.setSuccess(itemInfo);
+        ItemInfo item = itemCatalogService.getItem(id);
+        return ApiResponse.setSuccess(withStock(item, stockCacheService.getRemainingStock(id)));
     }
 
     @Transactional
-    @CacheEvict(value = {HazelcastConfig.PAGED_ITEM_CACHE}, allEntries = true)
     @Override
     public ApiResponse<ItemInfo> addItem(CreateItemRequest payload) {
         Item newItem = itemRepository.save(mapper.convertValue(payload, Item.class));
-        return ApiResponse.setResponse(convertToItemInfo(newItem), 201);
+        stockService.createStock(newItem.getId());
+        rowCountService.adjust(Item.class, 1);
+        cacheInvalidationService.itemAdded();
+        return ApiResponse.setResponse(convertToItemInfo(newItem, 0), 201);
     }
 
     @Transactional
     @Modifying
-    @Caching(evict = {
-            @CacheEvict(value = {HazelcastConfig.ITEM_CACHE}, key = "#id"),
-            @CacheEvict(value = {HazelcastConfig.PAGED_ITEM_CACHE}, allEntries = true)
-    })
     @Override
     public ApiResponse<String> deleteItemById(Long id) {
         int count = itemRepository.removeById(id);
         if (count == 0) {
             throw new DataNotFoundException(String.format(ITEM_WITH_ID_D_NOT_FOUND, id));
         }
+        stockService.removeStock(id);
+        rowCountService.adjust(Item.class, -count);
+        // Orders and inventory rows go with the item; recount them on the next estimate
+        rowCountService.invalidate(Order.class);
+        rowCountService.invalidate(Inventory.class);
+        cacheInvalidationService.itemDeleted(id);
         var response = new ApiResponse<String>();
         response.setMessage(String.format("Item with id %d deleted successfully", id));
         return response;
@@ -79,10 +97,6 @@ public class ItemSvc implements ItemService {
 
     @Transactional
     @Modifying
-    @Caching(evict = {
-            @CacheEvict(value = {HazelcastConfig.ITEM_CACHE}, key = "#payload.id"),
-            @CacheEvict(value = {HazelcastConfig.PAGED_ITEM_CACHE}, allEntries = true)
-    })
     @Override
     public ApiResponse<ItemInfo> updateItem(UpdateItemRequest payload) {
         Item item = itemRepository.findById(payload.getId())
@@ -90,14 +104,20 @@ public class ItemSvc implements ItemService {
         item.setName(payload.getName());
         item.setPrice(payload.getPrice());
         itemRepository.save(item);
-        return ApiResponse.setSuccess(convertToItemInfo(item));
+        cacheInvalidationService.itemChanged(item.getId());
+        return ApiResponse.setSuccess(convertToItemInfo(item, stockService.getRemainingStock(item.getId())));
     }
 
-    private ItemInfo convertToItemInfo(Item item) {
+    private ItemInfo convertToItemInfo(Item item, int remainingStock) {
         ItemInfo itemInfo = mapper.convertValue(item, ItemInfo.class);
-        itemInfo.setRemainingStock(item.getRemainingStock());
+        itemInfo.setRemainingStock(remainingStock);
         return itemInfo;
     }
 
+    // Cached catalog entries are shared, so the stock goes on a copy
+    private static ItemInfo withStock(ItemInfo item, int remainingStock) {
+        return item.toBuilder().remainingStock(remainingStock).build();
+    }
+
 
 }
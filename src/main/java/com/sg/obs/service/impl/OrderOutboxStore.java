@@ -0,0 +1,88 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.map.MapStore;
+import com.sg.obs.dto.order.AcceptedOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind store of the orderOutbox map. Flushes go to {@link OrderOutboxWriter}; outbox entries are never loaded
+ * back, reads go to ORDERS.
+ */
+@Component
+@ConditionalOnProperty(name = "app.stock.reservation.strategy", havingValue = "grid")
+public class OrderOutboxStore implements MapStore<Long, AcceptedOrder> {
+
+    // The writer needs JPA, which starts after the Hazelcast instance this store is configured into
+    private final ObjectProvider<OrderOutboxWriter> orderOutboxWriter;
+    private final Timer lag;
+    private final DistributionSummary batchSize;
+    private final Counter failures;
+
+    public OrderOutboxStore(ObjectProvider<OrderOutboxWriter> orderOutboxWriter, MeterRegistry meterRegistry) {
+        this.orderOutboxWriter = orderOutboxWriter;
+        this.lag = Timer.builder("order.outbox.flush.lag")
+                .description("Time from accepting an order to writing it to ORDERS")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("order.outbox.flush.batch")
+                .description("Orders written per flush")
+                .baseUnit("orders")
+                .register(meterRegistry);
+        this.failures = Counter.builder("order.outbox.flush.failures")
+                .description("Flushes that failed and were left for write-behind to retry")
+                .register(meterRegistry);
+    }
+
+
+    @Override
+    public void store(Long orderNo, AcceptedOrder order) {
+        storeAll(Map.of(orderNo, order));
+    }
+
+    @Override
+    public void storeAll(Map<Long, AcceptedOrder> orders) {
+        try {
+            orderOutboxWriter.getObject().write(orders.values());
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        }
+        long now = System.currentTimeMillis();
+        batchSize.record(orders.size());
+        orders.values().forEach(order -> lag.record(now - order.acceptedAt(), TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void delete(Long orderNo) {
+        // Accepted orders are only removed from ORDERS through the API
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> orderNos) {
+        // Accepted orders are only removed from ORDERS through the API
+    }
+
+    @Override
+    public AcceptedOrder load(Long orderNo) {
+        return null;
+    }
+
+    @Override
+    public Map<Long, AcceptedOrder> loadAll(Collection<Long> orderNos) {
+        return Map.of();
+    }
+
+    @Override
+    public Iterable<Long> loadAllKeys() {
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.order.AcceptedOrder;
+import com.sg.obs.models.Item;
+import com.sg.obs.service.OrderOutboxService;
+import com.sg.obs.service.reservation.StockReservationStrategy;
+import com.sg.obs.utility.OrderNoGenerator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Accepts orders reserved against the grid balance into the orderOutbox map, which {@link OrderOutboxStore} writes to
+ * ORDERS, INVENTORY and ITEM_STOCK behind the caller. The order is accepted once the entry and its backups are in
+ * memory, so creating it takes no row lock.
+ */
+@Service
+@ConditionalOnProperty(name = "app.stock.reservation.strategy", havingValue = "grid")
+public class OrderOutboxSvc implements OrderOutboxService {
+
+    private final StockReservationStrategy stockReservation;
+    private final OrderNoGenerator orderNoGenerator;
+    private final IMap<Long, AcceptedOrder> outbox;
+
+    public OrderOutboxSvc(StockReservationStrategy stockReservation,
+                          OrderNoGenerator orderNoGenerator,
+                          HazelcastInstance hazelcastInstance,
+                          MeterRegistry meterRegistry) {
+        this.stockReservation = stockReservation;
+        this.orderNoGenerator = orderNoGenerator;
+        this.outbox = hazelcastInstance.getMap(HazelcastConfig.ORDER_OUTBOX_MAP);
+        Gauge.builder("order.outbox.pending", outbox, map -> map.getLocalMapStats().getDirtyEntryCount())
+                .description("Accepted orders owned by this member and not yet written to ORDERS")
+                .register(meterRegistry);
+    }
+
+
+    // A failure after the reservation rolls the caller back, which hands the units back to the grid
+    @Override
+    public AcceptedOrder accept(Item item, int qty) {
+        stockReservation.reserve(item.getId(), qty);
+        AcceptedOrder order = new AcceptedOrder(orderNoGenerator.nextOrderNo().value(), item.getId(), qty,
+                item.getPrice(), System.currentTimeMillis());
+        outbox.set(order.orderNo(), order);
+        return order;
+    }
+}
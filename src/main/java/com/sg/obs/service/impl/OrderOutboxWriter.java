@@ -0,0 +1,104 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.order.AcceptedOrder;
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.repository.projection.OrderVersion;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a batch of orders accepted against the grid balance: their ORDERS and INVENTORY withdrawal rows and one
+ * ITEM_STOCK update per item, in a single transaction. Write-behind delivers at least once, so orders whose row
+ * already exists are skipped; orders of items deleted since they were accepted are dropped with a warning.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.stock.reservation.strategy", havingValue = "grid")
+@RequiredArgsConstructor
+public class OrderOutboxWriter {
+
+    private final OrderRepository orderRepository;
+    private final ItemRepository itemRepository;
+    private final InventoryRepository inventoryRepository;
+    private final StockService stockService;
+    private final RowCountService rowCountService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final SalesRollupService salesRollupService;
+
+
+    @Transactional
+    public void write(Collection<AcceptedOrder> accepted) {
+        List<OrderNo> orderNos = accepted.stream().map(order -> new OrderNo(order.orderNo())).toList();
+        Set<OrderNo> written = orderRepository.findOrderVersions(orderNos).stream()
+                .map(OrderVersion::getOrderNo)
+                .collect(Collectors.toSet());
+        List<AcceptedOrder> unwritten = accepted.stream()
+                .filter(order -> !written.contains(new OrderNo(order.orderNo())))
+                .toList();
+        if (unwritten.isEmpty()) {
+            return;
+        }
+        // An item deleted after this lookup fails the flush; the retry then drops its orders here
+        List<Long> itemIds = unwritten.stream().map(AcceptedOrder::itemId).distinct().toList();
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<Order> orders = new ArrayList<>(unwritten.size());
+        List<Inventory> withdrawals = new ArrayList<>(unwritten.size());
+        // Items in id order, so concurrent flushes on other members take ITEM_STOCK row locks in the same order
+        Map<Long, Integer> totals = new TreeMap<>();
+        for (AcceptedOrder line : unwritten) {
+            Item item = items.get(line.itemId());
+            if (item == null) {
+                log.warn("Dropping accepted order {} of deleted item {}", new OrderNo(line.orderNo()), line.itemId());
+                continue;
+            }
+            Order order = new Order();
+            order.setOrderNo(new OrderNo(line.orderNo()));
+            order.setItem(item);
+            order.setQty(line.qty());
+            order.setPrice(line.price());
+            orders.add(order);
+            withdrawals.add(Inventory.builder()
+                    .item(item)
+                    .quantity(line.qty())
+                    .type(InventoryType.W)
+                    .build());
+            totals.merge(item.getId(), line.qty(), Integer::sum);
+        }
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        orderRepository.saveAll(orders);
+        inventoryRepository.saveAll(withdrawals);
+        totals.forEach(stockService::reserved);
+        rowCountService.adjust(Order.class, orders.size());
+        rowCountService.adjust(Inventory.class, withdrawals.size());
+        cacheInvalidationService.ordersAdded();
+        salesRollupService.ordersPlaced(orders);
+    }
+}
@@ -0,0 +1,119 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.OrderLineResult;
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.models.OrderRequest;
+import com.sg.obs.repository.OrderRequestRepository;
+import com.sg.obs.service.OrderQueueService;
+import com.sg.obs.service.OrderSettlementService;
+import com.sg.obs.utility.OrderNoGenerator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@ConditionalOnProperty(name = "app.order.mode", havingValue = "async")
+public class OrderQueueSvc implements OrderQueueService {
+
+    private final OrderRequestRepository orderRequestRepository;
+    private final OrderSettlementService orderSettlementService;
+    private final OrderNoGenerator orderNoGenerator;
+    private final Timer confirmedLatency;
+    private final Timer rejectedLatency;
+
+    public OrderQueueSvc(OrderRequestRepository orderRequestRepository,
+                         OrderSettlementService orderSettlementService,
+                         OrderNoGenerator orderNoGenerator,
+                         MeterRegistry meterRegistry) {
+        this.orderRequestRepository = orderRequestRepository;
+        this.orderSettlementService = orderSettlementService;
+        this.orderNoGenerator = orderNoGenerator;
+        this.confirmedLatency = settleLatency(meterRegistry, OrderStatus.CONFIRMED);
+        this.rejectedLatency = settleLatency(meterRegistry, OrderStatus.REJECTED);
+        Gauge.builder("order.queue.depth", orderRequestRepository, repo -> repo.countByStatus(OrderStatus.PENDING))
+                .description("Order requests waiting to be settled")
+                .register(meterRegistry);
+    }
+
+
+    @Override
+    public OrderInfo enqueue(CreateOrderRequest payload) {
+        OrderRequest request = orderRequestRepository.save(OrderRequest.builder()
+                .orderNo(orderNoGenerator.nextOrderNo())
+                .itemId(payload.getItemId())
+                .qty(payload.getQty())
+                .status(OrderStatus.PENDING)
+                .build());
+        return toOrderInfo(request);
+    }
+
+    @Override
+    public Optional<ApiResponse<OrderInfo>> findQueued(OrderNo orderNo) {
+        return orderRequestRepository.findById(orderNo)
+                .map(request -> ApiResponse.setResponse(toOrderInfo(request),
+                        request.getStatus() == OrderStatus.REJECTED ? request.getReason() : "Success", 200));
+    }
+
+    @Transactional
+    @Override
+    public int settleNext(int batchSize) {
+        // SKIP LOCKED lets every worker claim a disjoint batch without waiting on the others
+        List<OrderRequest> claimed = orderRequestRepository.claimPending(batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        List<OrderLineResult> results = orderSettlementService.settle(claimed.stream()
+                .map(request -> new OrderSettlementService.Line(request.getOrderNo(), request.getItemId(), request.getQty()))
+                .toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderRequest> confirmed = new ArrayList<>(claimed.size());
+        for (int i = 0; i < claimed.size(); i++) {
+            OrderRequest request = claimed.get(i);
+            OrderLineResult result = results.get(i);
+            Duration latency = Duration.between(request.getCreatedDate(), now);
+            if (result.isAccepted()) {
+                confirmed.add(request);
+                confirmedLatency.record(latency);
+            } else {
+                request.setStatus(OrderStatus.REJECTED);
+                request.setReason(result.getMessage());
+                rejectedLatency.record(latency);
+            }
+        }
+        // Confirmed requests now live in ORDERS; only rejections are kept so clients can read the reason
+        orderRequestRepository.deleteAllInBatch(confirmed);
+        return claimed.size();
+    }
+
+    private OrderInfo toOrderInfo(OrderRequest request) {
+        return OrderInfo.builder()
+                .orderNo(request.getOrderNo().toString())
+                .itemId(request.getItemId())
+                .qty(request.getQty())
+                .status(request.getStatus())
+                .createdDate(request.getCreatedDate())
+                .createdBy(request.getCreatedBy())
+                .build();
+    }
+
+    private static Timer settleLatency(MeterRegistry meterRegistry, OrderStatus outcome) {
+        return Timer.builder("order.queue.settle.latency")
+                .description("Time from order acceptance to settlement")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,139 @@
+package com.sg.obs.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.OrderLineResult;
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.OrderSettlementService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.service.reservation.StockReservationStrategy;
+import com.sg.obs.utility.OrderNoGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.sg.obs.service.impl.OrderSvc.ITEM_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class OrderSettlementSvc implements OrderSettlementService {
+
+    private final OrderRepository orderRepository;
+    private final ItemRepository itemRepository;
+    private final InventoryRepository inventoryRepository;
+    private final StockService stockService;
+    private final StockReservationStrategy stockReservation;
+    private final RowCountService rowCountService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final SalesRollupService salesRollupService;
+    private final OrderNoGenerator orderNoGenerator;
+    private final ObjectMapper mapper;
+
+
+    @Transactional
+    @Override
+    public List<OrderLineResult> settle(List<Line> lines) {
+        Set<Long> itemIds = lines.stream()
+                .map(Line::itemId)
+                .collect(Collectors.toSet());
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        // Each line is reserved through the configured strategy, like a single order. Lines are visited by item id so
+        // concurrent batches take stock row locks in the same order, and in line order within an item, so earlier
+        // lines win when they compete for the same stock
+        OrderLineResult[] results = new OrderLineResult[lines.size()];
+        List<Integer> acceptedLines = new ArrayList<>();
+        List<Integer> byItem = IntStream.range(0, lines.size()).boxed()
+                .sorted(Comparator.comparing((Integer i) -> lines.get(i).itemId()).thenComparing(Function.identity()))
+                .toList();
+        for (int i : byItem) {
+            Line line = lines.get(i);
+            if (!items.containsKey(line.itemId())) {
+                results[i] = OrderLineResult.rejected(i, new DataNotFoundException(ITEM_NOT_FOUND));
+                continue;
+            }
+            try {
+                stockReservation.reserve(line.itemId(), line.qty());
+            } catch (InsufficientStockException | DataNotFoundException | StockConflictException e) {
+                results[i] = OrderLineResult.rejected(i, e);
+                continue;
+            }
+            stockService.reserved(line.itemId(), line.qty());
+            acceptedLines.add(i);
+        }
+        Collections.sort(acceptedLines);
+
+        if (!acceptedLines.isEmpty()) {
+            Iterator<OrderNo> orderNos = allocateOrderNos(lines, acceptedLines);
+            List<Order> orders = new ArrayList<>(acceptedLines.size());
+            List<Inventory> withdrawals = new ArrayList<>(acceptedLines.size());
+            for (int i : acceptedLines) {
+                Line line = lines.get(i);
+                Item item = items.get(line.itemId());
+
+                Order order = new Order();
+                order.setOrderNo(Objects.requireNonNullElseGet(line.orderNo(), orderNos::next));
+                order.setItem(item);
+                order.setQty(line.qty());
+                order.setPrice(item.getPrice());
+                orders.add(order);
+                withdrawals.add(Inventory.builder()
+                        .item(item)
+                        .quantity(line.qty())
+                        .type(InventoryType.W)
+                        .build());
+            }
+            orderRepository.saveAll(orders);
+            inventoryRepository.saveAll(withdrawals);
+            rowCountService.adjust(Order.class, orders.size());
+            rowCountService.adjust(Inventory.class, withdrawals.size());
+            cacheInvalidationService.ordersAdded();
+            salesRollupService.ordersPlaced(orders);
+
+            for (int n = 0; n < orders.size(); n++) {
+                int line = acceptedLines.get(n);
+                OrderInfo settled = mapper.convertValue(orders.get(n), OrderInfo.class);
+                settled.setStatus(OrderStatus.CONFIRMED);
+                results[line] = OrderLineResult.accepted(line, settled);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private Iterator<OrderNo> allocateOrderNos(List<Line> lines, List<Integer> acceptedLines) {
+        int missing = (int) acceptedLines.stream()
+                .filter(i -> lines.get(i).orderNo() == null)
+                .count();
+        return missing == 0
+                ? List.<OrderNo>of().iterator()
+                : orderNoGenerator.nextOrderNos(missing).iterator();
+    }
+}
@@ -1,28 +1,43 @@
 package com.sg.obs.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg.obs.annotations.TaggedPage;
 import com.sg.obs.config.HazelcastConfig;
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.order.AcceptedOrder;
+import com.sg.obs.dto.order.CreateOrderBatchRequest;
 import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderBatchResult;
 import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.OrderLineResult;
 import com.sg.obs.dto.order.UpdateOrderRequest;
 import com.sg.obs.enums.InventoryType;
+import com.sg.obs.enums.OrderStatus;
 import com.sg.obs.exception.DataNotFoundException;
-import com.sg.obs.exception.InsufficientStockException;
 import com.sg.obs.models.Inventory;
 import com.sg.obs.models.Item;
 import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
 import com.sg.obs.repository.InventoryRepository;
 import com.sg.obs.repository.ItemRepository;
 import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.OrderOutboxService;
 import com.sg.obs.service.OrderService;
-import com.sg.obs.utility.OrderUtil;
+import com.sg.obs.service.OrderSettlementService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.service.reservation.StockReservationStrategy;
+import com.sg.obs.utility.CursorUtil;
+import com.sg.obs.utility.OrderNoGenerator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.web.PagedModel;
@@ -39,27 +54,53 @@ public class OrderSvc implements OrderService {
 
 
     public static final String ORDER_NOT_FOUND = "Order with orderNo %s not found";
+    public static final String ITEM_NOT_FOUND = "Failed to create order. Item not found";
+    public static final String INVENTORY_NOT_FOUND = "Failed to create order. Item inventory not found";
 
     private final OrderRepository orderRepository;
     private final ItemRepository itemRepository;
     private final InventoryRepository inventoryRepository;
+    private final StockService stockService;
+    private final StockReservationStrategy stockReservation;
+    private final OrderNoGenerator orderNoGenerator;
+    private final OrderSettlementService orderSettlementService;
+    private final Optional<OrderOutboxService> orderOutbox;
+    private final RowCountService rowCountService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final SalesRollupService salesRollupService;
     private final ObjectMapper mapper;
 
 
     @Transactional(readOnly = true)
-    @Cacheable(value = {HazelcastConfig.PAGED_ORDER_CACHE}, keyGenerator = "pageableKeyGenerator")
+    @Cacheable(value = {HazelcastConfig.PAGED_ORDER_CACHE}, keyGenerator = "pageableKeyGenerator", sync = true)
+    @TaggedPage
     @Override
-    public ApiResponse<PageWrapper<OrderInfo>> getOrderList(Pageable pageable) {
-        Page<OrderInfo> orders = orderRepository.findAll(pageable)
-                .map(this::convertToOrderInfo);
-        return ApiResponse.setSuccess(PageWrapper.of(new PagedModel<>(orders)));
+    public ApiResponse<PageWrapper<OrderInfo>> getOrderList(Pageable pageable, boolean estimateTotal) {
+        Page<Order> orders = estimateTotal
+                ? new PageImpl<>(orderRepository.findAllBy(pageable), pageable, rowCountService.estimate(Order.class))
+                : orderRepository.findAll(pageable);
+        return ApiResponse.setSuccess(PageWrapper.of(new PagedModel<>(orders.map(this::convertToOrderInfo)), estimateTotal));
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = {HazelcastConfig.ORDER_CACHE}, key = "#orderNo")
+    @Override
+    public ApiResponse<CursorPage<OrderInfo>> scrollOrders(String after, int size) {
+        int limit = CursorUtil.limit(size);
+        Long afterKey = CursorUtil.decode(after);
+        List<Order> orders = afterKey == null
+                ? orderRepository.findAllByOrderByOrderNo(Limit.of(limit + 1))
+                : orderRepository.findByOrderNoGreaterThanOrderByOrderNo(new OrderNo(afterKey), Limit.of(limit + 1));
+        return ApiResponse.setSuccess(CursorPage.of(orders, limit, order -> order.getOrderNo().value(), this::convertToOrderInfo));
+    }
+
+    @Transactional(readOnly = true)
+    // Keyed by the order number; the entry shows the item name, so item changes look it up by tag
+    @Cacheable(value = {HazelcastConfig.ORDER_CACHE}, sync = true)
+    @TaggedPage
     @Override
     public ApiResponse<OrderInfo> getOrderByOrderNo(String orderNo) {
-        OrderInfo orderInfo = orderRepository.findById(orderNo)
+        OrderInfo orderInfo = OrderNo.tryParse(orderNo)
+                .flatMap(orderRepository::findById)
                 .map(this::convertToOrderInfo)
                 .orElseThrow(() -> new DataNotFoundException(String.format(ORDER_NOT_FOUND, orderNo)));
         return ApiResponse.setSuccess(orderInfo);
@@ -67,27 +108,22 @@ public class OrderSvc implements OrderService {
 
     @Transactional
     @Modifying
-    @Caching(evict = {
-            @CacheEvict(value = {HazelcastConfig.PAGED_ORDER_CACHE}, allEntries = true),
-            @CacheEvict(value = {HazelcastConfig.PAGED_ITEM_CACHE}, allEntries = true),
-            @CacheEvict(value = {HazelcastConfig.ITEM_CACHE}, allEntries = true)
-    })
     @Override
     public ApiResponse<OrderInfo> createOrder(CreateOrderRequest payload) {
         Item item = itemRepository.findById(payload.getItemId())
-                .orElseThrow(() -> new DataNotFoundException("Failed to create order. Item not found"));
-
-        if (item.getInventory().isEmpty()) {
-            throw new DataNotFoundException("Failed to create order. Item inventory not found");
-        }
+                .orElseThrow(() -> new DataNotFoundException(ITEM_NOT_FOUND));
 
-        if (item.getRemainingStock() < payload.getQty()) {
-            throw new InsufficientStockException();
+        if (orderOutbox.isPresent()) {
+            // Reserved in the grid and accepted in memory; the rows and the ITEM_STOCK withdrawal are written by the
+            // next outbox flush
+            AcceptedOrder accepted = orderOutbox.get().accept(item, payload.getQty());
+            return ApiResponse.setResponse(toOrderInfo(accepted, item), 202);
         }
 
+        stockReservation.reserve(item.getId(), payload.getQty());
 
         Order order = new Order();
-        order.setOrderNo(OrderUtil.generateOrderNo(orderRepository.getNextOrderSeq()));
+        order.setOrderNo(orderNoGenerator.nextOrderNo());
         order.setItem(item);
         order.setQty(payload.getQty());
         order.setPrice(item.getPrice());
@@ -99,39 +135,55 @@ public class OrderSvc implements OrderService {
         withdrawal.setQuantity(payload.getQty());
         withdrawal.setType(InventoryType.W);
         inventoryRepository.save(withdrawal);
+        rowCountService.adjust(Order.class, 1);
+        rowCountService.adjust(Inventory.class, 1);
+        cacheInvalidationService.ordersAdded();
+        salesRollupService.ordersPlaced(List.of(savedOrder));
+        stockService.reserved(item.getId(), payload.getQty());
         return ApiResponse.setResponse(convertToOrderInfo(savedOrder), 201);
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = {HazelcastConfig.ORDER_CACHE}, key = "#orderNo"),
-            @CacheEvict(value = {HazelcastConfig.PAGED_ORDER_CACHE}, allEntries = true),
-            @CacheEvict(value = {HazelcastConfig.PAGED_ITEM_CACHE}, allEntries = true),
-            @CacheEvict(value = {HazelcastConfig.ITEM_CACHE}, allEntries = true)
-    })
+    @Override
+    public ApiResponse<OrderBatchResult> createOrders(CreateOrderBatchRequest payload) {
+        List<OrderSettlementService.Line> lines = payload.getOrders().stream()
+                .map(line -> new OrderSettlementService.Line(null, line.getItemId(), line.getQty()))
+                .toList();
+        List<OrderLineResult> results = orderSettlementService.settle(lines);
+
+        int accepted = (int) results.stream().filter(OrderLineResult::isAccepted).count();
+        int rejected = results.size() - accepted;
+        OrderBatchResult batchResult = OrderBatchResult.builder()
+                .accepted(accepted)
+                .rejected(rejected)
+                .lines(results)
+                .build();
+        return ApiResponse.setResponse(batchResult, batchStatus(accepted, rejected));
+    }
+
+    @Transactional
     @Modifying
     @Override
     public ApiResponse<String> deleteOrderByOrderNo(String orderNo) {
-        int count = orderRepository.removeByOrderNo(orderNo);
+        int count = OrderNo.tryParse(orderNo)
+                .map(orderRepository::removeByOrderNo)
+                .orElse(0);
         if (count == 0) {
             throw new DataNotFoundException(String.format(ORDER_NOT_FOUND, orderNo));
         }
+        rowCountService.adjust(Order.class, -count);
+        cacheInvalidationService.orderDeleted(orderNo);
         var response = new ApiResponse<String>();
         response.setMessage(String.format("Order with orderNo %s deleted successfully", orderNo));
         return response;
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = {HazelcastConfig.ORDER_CACHE}, key = "#payload.orderNo"),
-            @CacheEvict(value = {HazelcastConfig.PAGED_ORDER_CACHE}, allEntries = true),
-            @CacheEvict(value = {HazelcastConfig.PAGED_ITEM_CACHE}, allEntries = true),
-            @CacheEvict(value = {HazelcastConfig.ITEM_CACHE}, allEntries = true)
-    })
     @Modifying
     @Override
     public ApiResponse<OrderInfo> updateOrder(UpdateOrderRequest payload) {
-        Order order = orderRepository.findById(payload.getOrderNo())
+        Order order = OrderNo.tryParse(payload.getOrderNo())
+                .flatMap(orderRepository::findById)
                 .orElseThrow(() -> new DataNotFoundException(String.format(ORDER_NOT_FOUND, payload.getOrderNo())));
 
         boolean isItemChanged = false;
@@ -146,20 +198,28 @@ public class OrderSvc implements OrderService {
             isItemChanged = item.getId() != oldItemId;
         }
 
-        int remainingStock = Optional.ofNullable(order.getItem()).map(Item::getRemainingStock).orElse(0);
         if (isQtyChanged || isItemChanged) {
-            int requiredStock = payload.getQty();
-            int stockCheck = isQtyChanged && !isItemChanged
-                    ? requiredStock - oldQty
-                    : requiredStock;
-
-            if (stockCheck > remainingStock) {
-                throw new InsufficientStockException();
+            // Extra units go through the reservation strategy, like a new order; returned units are a plain top-up
+            Long itemId = Optional.ofNullable(order.getItem())
+                    .map(Item::getId)
+                    .orElseThrow(() -> new DataNotFoundException("Item not found"));
+            int withdrawn = isItemChanged ? payload.getQty() : payload.getQty() - oldQty;
+            if (withdrawn > 0) {
+                stockReservation.reserve(itemId, withdrawn);
             }
 
             Inventory reversal = topUpInventory(oldItem, oldQty);
             Inventory withdrawal = withdrawalInventory(order.getItem(), payload.getQty());
             inventoryRepository.saveAll(List.of(reversal, withdrawal));
+            rowCountService.adjust(Inventory.class, 2);
+            if (withdrawn > 0) {
+                stockService.reserved(itemId, withdrawn);
+            } else if (withdrawn < 0) {
+                stockService.adjust(itemId, -withdrawn);
+            }
+            if (isItemChanged && oldItem != null) {
+                stockService.adjust(oldItem.getId(), oldQty);
+            }
         }
 
         order.setQty(payload.getQty());
@@ -167,13 +227,32 @@ public class OrderSvc implements OrderService {
         double storedPrice = isItemChanged ? order.getItem().getPrice() : order.getPrice();
         order.setPrice(Optional.ofNullable(payload.getPrice()).orElse(storedPrice));
         Order updated = orderRepository.save(order);
+        cacheInvalidationService.orderChanged(payload.getOrderNo());
         return ApiResponse.setSuccess(convertToOrderInfo(updated));
     }
 
+    private static int batchStatus(int accepted, int rejected) {
+        if (rejected == 0) {
+            return 201;
+        }
+        return accepted == 0 ? 400 : 207;
+    }
+
     private OrderInfo convertToOrderInfo(Order order) {
         return mapper.convertValue(order, OrderInfo.class);
     }
 
+    private static OrderInfo toOrderInfo(AcceptedOrder order, Item item) {
+        return OrderInfo.builder()
+                .orderNo(new OrderNo(order.orderNo()).toString())
+                .itemId(item.getId())
+                .itemName(item.getName())
+                .qty(order.qty())
+                .price(order.price())
+                .status(OrderStatus.CONFIRMED)
+                .build();
+    }
+
 
     private Inventory topUpInventory(Item item, int qty) {
         return createInventory(item, qty, InventoryType.T);
@@ -0,0 +1,103 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.order.CreateOrderBatchRequest;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderBatchResult;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.UpdateOrderRequest;
+import com.sg.obs.exception.ApiException;
+import com.sg.obs.service.OrderService;
+import com.sg.obs.service.pipeline.OrderPipeline;
+import com.sg.obs.service.pipeline.PipelinedOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order.mode", havingValue = "pipeline")
+public class PipelinedOrderSvc implements OrderService {
+
+    private final OrderSvc orderSvc;
+    private final OrderPipeline orderPipeline;
+
+    @Value("${app.order.pipeline.timeout:5s}")
+    private final Duration timeout;
+
+
+    @Override
+    public ApiResponse<PageWrapper<OrderInfo>> getOrderList(Pageable pageable, boolean estimateTotal) {
+        return orderSvc.getOrderList(pageable, estimateTotal);
+    }
+
+    @Override
+    public ApiResponse<CursorPage<OrderInfo>> scrollOrders(String after, int size) {
+        return orderSvc.scrollOrders(after, size);
+    }
+
+    @Override
+    public ApiResponse<OrderInfo> getOrderByOrderNo(String orderNo) {
+        return orderSvc.getOrderByOrderNo(orderNo);
+    }
+
+    @Override
+    public ApiResponse<OrderInfo> createOrder(CreateOrderRequest payload) {
+        PipelinedOrder order = orderPipeline.submit(payload.getItemId(), payload.getQty());
+        try {
+            return ApiResponse.setResponse(await(order), 201);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ApiException(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting for order");
+        }
+    }
+
+    /**
+     * Waits up to the timeout. An order the shard has not claimed by then is abandoned and never written; one that is
+     * already in a group commit is waited for, so a 201 or an error always tells the caller what happened.
+     */
+    private OrderInfo await(PipelinedOrder order) throws ExecutionException, InterruptedException {
+        try {
+            return order.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (order.abandon()) {
+                throw new ApiException(503, "Order pipeline is busy, please retry");
+            }
+            return order.get();
+        } catch (InterruptedException e) {
+            order.abandon();
+            throw e;
+        }
+    }
+
+    @Override
+    public ApiResponse<OrderBatchResult> createOrders(CreateOrderBatchRequest payload) {
+        return orderSvc.createOrders(payload);
+    }
+
+    @Override
+    public ApiResponse<String> deleteOrderByOrderNo(String orderNo) {
+        return orderSvc.deleteOrderByOrderNo(orderNo);
+    }
+
+    @Override
+    public ApiResponse<OrderInfo> updateOrder(UpdateOrderRequest payload) {
+        return orderSvc.updateOrder(payload);
+    }
+}
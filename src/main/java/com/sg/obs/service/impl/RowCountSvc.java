@@ -0,0 +1,71 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.utility.TransactionUtil;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Row counts used for estimated page totals. Writers adjust them after commit; anything they miss
+ * (bulk deletes, cascades, other instances) is corrected by the next {@link #refresh()}.
+ */
+@Service
+public class RowCountSvc implements RowCountService {
+
+    private final Map<Class<?>, JpaRepository<?, ?>> repositories;
+    private final Map<Class<?>, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public RowCountSvc(ItemRepository itemRepository,
+                       OrderRepository orderRepository,
+                       InventoryRepository inventoryRepository) {
+        this.repositories = Map.of(
+                Item.class, itemRepository,
+                Order.class, orderRepository,
+                Inventory.class, inventoryRepository);
+    }
+
+
+    @Override
+    public long estimate(Class<?> entity) {
+        return Math.max(0, counts.computeIfAbsent(entity, e -> new AtomicLong(repository(e).count())).get());
+    }
+
+    @Override
+    public void adjust(Class<?> entity, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> apply(entity, delta));
+    }
+
+    @Override
+    public void invalidate(Class<?> entity) {
+        counts.remove(entity);
+    }
+
+    @Override
+    public void refresh() {
+        counts.forEach((entity, count) -> count.set(repository(entity).count()));
+    }
+
+    private void apply(Class<?> entity, long delta) {
+        // Not loaded yet: the first estimate will count from the table
+        Optional.ofNullable(counts.get(entity)).ifPresent(count -> count.addAndGet(delta));
+    }
+
+    private JpaRepository<?, ?> repository(Class<?> entity) {
+        return Optional.ofNullable(repositories.get(entity))
+                .orElseThrow(() -> new IllegalArgumentException("Row count is not tracked for " + entity.getSimpleName()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.flakeidgen.FlakeIdGenerator;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.config.ProcessingGuarantee;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.sales.SalesEvent;
+import com.sg.obs.dto.sales.SalesRollup;
+import com.sg.obs.dto.sales.SalesRollupInfo;
+import com.sg.obs.enums.SalesWindow;
+import com.sg.obs.models.Order;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.rollup.SalesRollupPipeline;
+import com.sg.obs.utility.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Publishes committed orders and stock movements to the salesEvents journal and serves the per-window totals the
+ * {@link SalesRollupPipeline} job keeps from it. A read is a single getAll of the window keys; nothing is aggregated
+ * or queried on the request path.
+ */
+@Service
+@Slf4j
+public class SalesRollupSvc implements SalesRollupService {
+
+    private final HazelcastInstance hazelcastInstance;
+    private final IMap<Long, SalesEvent> events;
+    private final FlakeIdGenerator eventIds;
+    private final boolean enabled;
+    private final Duration allowedLag;
+    private final Duration earlyResultsPeriod;
+
+    public SalesRollupSvc(HazelcastInstance hazelcastInstance,
+                          @Value("${app.sales.rollup.enabled:false}") boolean enabled,
+                          @Value("${app.sales.rollup.allowed-lag:2s}") Duration allowedLag,
+                          @Value("${app.sales.rollup.early-results-period:1s}") Duration earlyResultsPeriod) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.events = hazelcastInstance.getMap(HazelcastConfig.SALES_EVENT_MAP);
+        this.eventIds = hazelcastInstance.getFlakeIdGenerator(HazelcastConfig.SALES_EVENT_ID_GENERATOR);
+        this.enabled = enabled;
+        this.allowedLag = allowedLag;
+        this.earlyResultsPeriod = earlyResultsPeriod;
+    }
+
+
+    // Every instance submits the job; the cluster runs a single one under its name
+    @EventListener(ApplicationStartedEvent.class)
+    @Override
+    public void startRollupJob() {
+        if (!enabled) {
+            return;
+        }
+        JobConfig jobConfig = new JobConfig()
+                .setName(SalesRollupPipeline.JOB_NAME)
+                .setProcessingGuarantee(ProcessingGuarantee.AT_LEAST_ONCE);
+        Job job = hazelcastInstance.getJet().newJobIfAbsent(
+                SalesRollupPipeline.build(allowedLag.toMillis(), earlyResultsPeriod.toMillis()), jobConfig);
+        log.info("Sales rollup job {} is {}", job.getIdString(), job.getStatus());
+    }
+
+    @Override
+    public void ordersPlaced(Collection<Order> orders) {
+        if (!enabled || orders.isEmpty()) {
+            return;
+        }
+        List<Order> placed = List.copyOf(orders);
+        TransactionUtil.afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            publish(placed.stream()
+                    .map(order -> SalesEvent.sale(order.getItemId(), order.getQty(),
+                            order.getQty() * order.getPrice(), now))
+                    .toList());
+        });
+    }
+
+    @Override
+    public void stockMoved(Long itemId, int delta) {
+        if (!enabled || itemId == null || delta == 0) {
+            return;
+        }
+        TransactionUtil.afterCommit(() ->
+                publish(List.of(SalesEvent.stockMoved(itemId, delta, System.currentTimeMillis()))));
+    }
+
+    @Override
+    public ApiResponse<List<SalesRollupInfo>> getSalesRollups(Long itemId, SalesWindow window, int count) {
+        IMap<String, SalesRollup> rollups = hazelcastInstance.getMap(window.getMapName());
+        long now = System.currentTimeMillis();
+        if (window.isSliding()) {
+            long slide = window.getSlide().toMillis();
+            SalesRollup trailing = rollups.get(SalesRollup.key(itemId, now - Math.floorMod(now, slide) + slide));
+            return ApiResponse.setSuccess(trailing == null ? List.of() : List.of(toInfo(trailing, window)));
+        }
+
+        long size = window.getSize().toMillis();
+        long currentStart = now - Math.floorMod(now, size);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < Math.clamp(count, 1, window.getMaxWindows()); i++) {
+            keys.add(SalesRollup.key(itemId, currentStart - i * size));
+        }
+        Map<String, SalesRollup> found = rollups.getAll(keys);
+        List<SalesRollupInfo> result = new ArrayList<>(found.size());
+        keys.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .forEach(rollup -> result.add(toInfo(rollup, window)));
+        return ApiResponse.setSuccess(result);
+    }
+
+    private void publish(List<SalesEvent> sales) {
+        Map<Long, SalesEvent> batch = new HashMap<>(sales.size());
+        sales.forEach(event -> batch.put(eventIds.newId(), event));
+        // Rollups are derived data, so a lost event is logged rather than failing a request that already committed
+        events.setAllAsync(batch).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                log.warn("Could not publish {} sales events", batch.size(), failure);
+            }
+        });
+    }
+
+    private static SalesRollupInfo toInfo(SalesRollup rollup, SalesWindow window) {
+        return SalesRollupInfo.builder()
+                .itemId(rollup.itemId())
+                .window(window)
+                .windowStart(utc(rollup.windowStart()))
+                .windowEnd(utc(rollup.windowEnd()))
+                .units(rollup.units())
+                .revenue(rollup.revenue())
+                .stockDelta(rollup.stockDelta())
+                .build();
+    }
+
+    private static LocalDateTime utc(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
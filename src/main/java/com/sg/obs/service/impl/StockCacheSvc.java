@@ -0,0 +1,103 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.repository.projection.ItemStockVersion;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.StockCacheService;
+import com.sg.obs.utility.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Remaining stock per item, kept apart from the cached item data so stock movements never evict item pages.
+ * Writers evict the cached balance after commit and the next read loads it from ITEM_STOCK. A load re-reads the
+ * row versions after caching and drops any balance a write committed under it, so a write whose eviction ran
+ * before the load's put cannot leave the older balance behind.
+ */
+@Service
+public class StockCacheSvc implements StockCacheService {
+
+    private final ItemStockRepository itemStockRepository;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final IMap<Long, Integer> stocks;
+    private final Counter hits;
+    private final Counter misses;
+
+    public StockCacheSvc(ItemStockRepository itemStockRepository,
+                         CacheInvalidationService cacheInvalidationService,
+                         HazelcastInstance hazelcastInstance,
+                         MeterRegistry meterRegistry) {
+        this.itemStockRepository = itemStockRepository;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.stocks = hazelcastInstance.getMap(HazelcastConfig.STOCK_CACHE);
+        this.hits = gets(meterRegistry, "hit");
+        this.misses = gets(meterRegistry, "miss");
+    }
+
+
+    @Override
+    public int getRemainingStock(Long itemId) {
+        return getRemainingStock(List.of(itemId)).getOrDefault(itemId, 0);
+    }
+
+    @Override
+    public Map<Long, Integer> getRemainingStock(Collection<Long> itemIds) {
+        Set<Long> ids = itemIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> remaining = new HashMap<>(stocks.getAll(ids));
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(remaining.keySet());
+        hits.increment(remaining.size());
+        misses.increment(missing.size());
+        if (!missing.isEmpty()) {
+            List<ItemStockVersion> rows = itemStockRepository.findStockVersions(missing);
+            Map<Long, Integer> loaded = rows.stream()
+                    .collect(Collectors.toMap(ItemStockVersion::getItemId, ItemStockVersion::getQuantity));
+            // Items without a stock row have none yet; their first top-up evicts the cached zero
+            missing.forEach(id -> loaded.putIfAbsent(id, 0));
+            stocks.putAll(loaded);
+            remaining.putAll(loaded);
+            evictChangedSince(missing, versions(rows));
+        }
+        return remaining;
+    }
+
+    private void evictChangedSince(Set<Long> itemIds, Map<Long, Long> loadedVersions) {
+        Map<Long, Long> currentVersions = versions(itemStockRepository.findStockVersions(itemIds));
+        itemIds.stream()
+                .filter(id -> !Objects.equals(loadedVersions.get(id), currentVersions.get(id)))
+                .forEach(stocks::delete);
+    }
+
+    private static Map<Long, Long> versions(List<ItemStockVersion> rows) {
+        return rows.stream().collect(Collectors.toMap(ItemStockVersion::getItemId, ItemStockVersion::getVersion));
+    }
+
+    @Override
+    public void evict(Long itemId) {
+        TransactionUtil.afterCommit(() -> stocks.delete(itemId));
+        cacheInvalidationService.stockChanged(itemId);
+    }
+
+    private static Counter gets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .tag("cache", HazelcastConfig.STOCK_CACHE)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
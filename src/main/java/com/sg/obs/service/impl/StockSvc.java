@@ -0,0 +1,134 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.ItemStock;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockCacheService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.service.reservation.StockReservationStrategy;
+import com.sg.obs.utility.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class StockSvc implements StockService {
+
+    private static final String STOCK_NOT_FOUND = "Stock balance for item %d not found";
+
+    private final ItemStockRepository itemStockRepository;
+    private final StockCacheService stockCacheService;
+    private final StockReservationStrategy stockReservation;
+    private final SalesRollupService salesRollupService;
+
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<Integer> findRemainingStock(Long itemId) {
+        return itemStockRepository.findById(itemId).map(ItemStock::getQuantity);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public int getRemainingStock(Long itemId) {
+        return findRemainingStock(itemId).orElse(0);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<Long, Integer> getRemainingStock(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Map.of();
+        }
+        return itemStockRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(ItemStock::getItemId, ItemStock::getQuantity));
+    }
+
+    @Transactional
+    @Override
+    public void apply(Inventory movement) {
+        adjust(movement, 1);
+    }
+
+    @Transactional
+    @Override
+    public void revert(Inventory movement) {
+        adjust(movement, -1);
+    }
+
+    @Transactional
+    @Override
+    public void removeStock(Long itemId) {
+        itemStockRepository.deleteById(itemId);
+        stockCacheService.evict(itemId);
+        TransactionUtil.afterCommit(() -> stockReservation.stockRemoved(itemId));
+    }
+
+    // Created with the item, so movements only ever update the row and concurrent first top-ups cannot both insert
+    @Transactional
+    @Override
+    public void createStock(Long itemId) {
+        itemStockRepository.save(ItemStock.builder()
+                .itemId(itemId)
+                .quantity(0)
+                .build());
+    }
+
+    @Transactional
+    @Override
+    public void adjust(Long itemId, int delta) {
+        if (itemStockRepository.adjustQuantity(itemId, delta) == 0) {
+            throw new DataNotFoundException(String.format(STOCK_NOT_FOUND, itemId));
+        }
+        moved(itemId, delta, true);
+    }
+
+    // The reservation strategy made this withdrawal, so it is not told about it again; ITEM_STOCK only needs it
+    // when the strategy reserved against a balance of its own
+    @Transactional
+    @Override
+    public void reserved(Long itemId, int qty) {
+        if (!stockReservation.withdrawsItemStock() && itemStockRepository.adjustQuantity(itemId, -qty) == 0) {
+            throw new DataNotFoundException(String.format(STOCK_NOT_FOUND, itemId));
+        }
+        moved(itemId, -qty, false);
+    }
+
+    // For withdrawals the caller made on ITEM_STOCK itself, outside adjust and the reservation strategy
+    @Override
+    public void withdrawn(Long itemId, int qty) {
+        moved(itemId, -qty, true);
+    }
+
+    private void moved(Long itemId, int delta, boolean notifyReservation) {
+        if (itemId == null || delta == 0) {
+            return;
+        }
+        stockCacheService.evict(itemId);
+        if (notifyReservation) {
+            TransactionUtil.afterCommit(() -> stockReservation.stockMoved(itemId, delta));
+        }
+        salesRollupService.stockMoved(itemId, delta);
+    }
+
+    private void adjust(Inventory movement, int sign) {
+        if (movement.getItem() == null || movement.getItem().getId() == null) {
+            return;
+        }
+        adjust(movement.getItem().getId(), sign * signedQuantity(movement));
+    }
+
+    private static int signedQuantity(Inventory movement) {
+        int qty = movement.getQuantity();
+        return movement.getType() == InventoryType.T ? qty : -qty;
+    }
+}
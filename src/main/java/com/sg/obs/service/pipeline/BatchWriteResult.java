@@ -0,0 +1,11 @@
+package com.sg.obs.service.pipeline;
+
+import com.sg.obs.dto.order.OrderInfo;
+
+import java.util.List;
+import java.util.Map;
+
+public record BatchWriteResult(Map<PendingOrder, OrderInfo> committed,
+                               List<PendingOrder> itemNotFound,
+                               List<PendingOrder> conflicted) {
+}
@@ -0,0 +1,121 @@
+package com.sg.obs.service.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.repository.projection.StockVersion;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.utility.OrderNoGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order.mode", havingValue = "pipeline")
+public class OrderBatchWriter {
+
+    private final ItemRepository itemRepository;
+    private final ItemStockRepository itemStockRepository;
+    private final OrderRepository orderRepository;
+    private final InventoryRepository inventoryRepository;
+    private final OrderNoGenerator orderNoGenerator;
+    private final RowCountService rowCountService;
+    private final StockService stockService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final SalesRollupService salesRollupService;
+    private final ObjectMapper mapper;
+
+
+    @Transactional(readOnly = true)
+    public Optional<Integer> findBalance(Long itemId) {
+        return itemStockRepository.findStockVersion(itemId).map(StockVersion::getQuantity);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean itemExists(Long itemId) {
+        return itemRepository.existsById(itemId);
+    }
+
+    /**
+     * Writes one group commit. Each item's stock is withdrawn with a single guarded UPDATE for the batch total;
+     * when the balance no longer covers it (stock changed outside the pipeline) its lines come back as conflicted.
+     */
+    @Transactional
+    public BatchWriteResult write(List<PendingOrder> batch) {
+        Map<Long, List<PendingOrder>> byItem = batch.stream()
+                .collect(Collectors.groupingBy(PendingOrder::itemId, LinkedHashMap::new, Collectors.toList()));
+        Map<Long, Item> items = itemRepository.findAllById(byItem.keySet()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<PendingOrder> accepted = new ArrayList<>(batch.size());
+        List<PendingOrder> itemNotFound = new ArrayList<>();
+        List<PendingOrder> conflicted = new ArrayList<>();
+        byItem.forEach((itemId, lines) -> {
+            if (!items.containsKey(itemId)) {
+                itemNotFound.addAll(lines);
+                return;
+            }
+            int total = lines.stream().mapToInt(PendingOrder::qty).sum();
+            if (itemStockRepository.decrementIfAvailable(itemId, total) == 0) {
+                conflicted.addAll(lines);
+            } else {
+                accepted.addAll(lines);
+                stockService.withdrawn(itemId, total);
+            }
+        });
+
+        Map<PendingOrder, OrderInfo> committed = new IdentityHashMap<>(accepted.size());
+        if (!accepted.isEmpty()) {
+            Iterator<OrderNo> orderNos = orderNoGenerator.nextOrderNos(accepted.size()).iterator();
+            List<Order> orders = new ArrayList<>(accepted.size());
+            List<Inventory> withdrawals = new ArrayList<>(accepted.size());
+            for (PendingOrder line : accepted) {
+                Item item = items.get(line.itemId());
+                Order order = new Order();
+                order.setOrderNo(orderNos.next());
+                order.setItem(item);
+                order.setQty(line.qty());
+                order.setPrice(item.getPrice());
+                orders.add(order);
+                withdrawals.add(Inventory.builder()
+                        .item(item)
+                        .quantity(line.qty())
+                        .type(InventoryType.W)
+                        .build());
+            }
+            orderRepository.saveAll(orders);
+            inventoryRepository.saveAll(withdrawals);
+            rowCountService.adjust(Order.class, orders.size());
+            rowCountService.adjust(Inventory.class, withdrawals.size());
+            cacheInvalidationService.ordersAdded();
+            salesRollupService.ordersPlaced(orders);
+            for (int i = 0; i < accepted.size(); i++) {
+                committed.put(accepted.get(i), mapper.convertValue(orders.get(i), OrderInfo.class));
+            }
+        }
+        return new BatchWriteResult(committed, itemNotFound, conflicted);
+    }
+}
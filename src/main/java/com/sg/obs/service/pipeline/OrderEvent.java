@@ -0,0 +1,22 @@
+package com.sg.obs.service.pipeline;
+
+import lombok.Getter;
+
+@Getter
+public class OrderEvent {
+
+    private Long itemId;
+    private int qty;
+    private PipelinedOrder result;
+
+
+    void set(Long itemId, int qty, PipelinedOrder result) {
+        this.itemId = itemId;
+        this.qty = qty;
+        this.result = result;
+    }
+
+    void clear() {
+        set(null, 0, null);
+    }
+}
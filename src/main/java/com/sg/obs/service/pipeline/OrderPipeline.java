@@ -0,0 +1,67 @@
+package com.sg.obs.service.pipeline;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.sg.obs.exception.ApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.order.mode", havingValue = "pipeline")
+public class OrderPipeline {
+
+    private final List<Disruptor<OrderEvent>> shards;
+    private final List<RingBuffer<OrderEvent>> ringBuffers;
+
+    public OrderPipeline(OrderBatchWriter writer,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.order.pipeline.shards:4}") int shardCount,
+                         @Value("${app.order.pipeline.ring-size:1024}") int ringSize,
+                         @Value("${app.order.pipeline.max-batch-size:100}") int maxBatchSize) {
+        this.shards = new ArrayList<>(shardCount);
+        this.ringBuffers = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            Disruptor<OrderEvent> disruptor = new Disruptor<>(OrderEvent::new, ringSize,
+                    Thread.ofPlatform().name("order-shard-" + i).daemon().factory(),
+                    ProducerType.MULTI, new BlockingWaitStrategy());
+            disruptor.handleEventsWith(new OrderShardHandler(writer, maxBatchSize, meterRegistry));
+            shards.add(disruptor);
+            ringBuffers.add(disruptor.start());
+        }
+    }
+
+    public PipelinedOrder submit(Long itemId, int qty) {
+        PipelinedOrder result = new PipelinedOrder();
+        RingBuffer<OrderEvent> ringBuffer = ringBuffers.get(Math.floorMod(itemId.hashCode(), ringBuffers.size()));
+        boolean published = ringBuffer.tryPublishEvent(
+                (event, sequence, id, quantity, future) -> event.set(id, quantity, future), itemId, qty, result);
+        if (!published) {
+            throw new ApiException(503, "Order pipeline is busy, please retry");
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Disruptor<OrderEvent> disruptor : shards) {
+            try {
+                disruptor.shutdown(10, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Order shard did not drain in time, halting");
+                disruptor.halt();
+            }
+        }
+    }
+}
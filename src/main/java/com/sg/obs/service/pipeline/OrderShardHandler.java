@@ -0,0 +1,144 @@
+package com.sg.obs.service.pipeline;
+
+import com.lmax.disruptor.EventHandler;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.sg.obs.service.impl.OrderSvc.INVENTORY_NOT_FOUND;
+import static com.sg.obs.service.impl.OrderSvc.ITEM_NOT_FOUND;
+
+/**
+ * Single writer for one shard of items. Stock is checked against an in-memory balance and accepted orders are
+ * group-committed when the ring buffer drains or the batch is full. The database stays the source of truth: the
+ * cached balance is reloaded before rejecting an order and when a guarded withdrawal finds less stock than expected.
+ * Orders abandoned by their caller before the commit claims them are skipped.
+ */
+@Slf4j
+public class OrderShardHandler implements EventHandler<OrderEvent> {
+
+    private final OrderBatchWriter writer;
+    private final int maxBatchSize;
+    private final Map<Long, Integer> balances = new HashMap<>();
+    private final Map<Long, Integer> pendingQty = new HashMap<>();
+    private final List<PendingOrder> pending = new ArrayList<>();
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+
+    public OrderShardHandler(OrderBatchWriter writer, int maxBatchSize, MeterRegistry meterRegistry) {
+        this.writer = writer;
+        this.maxBatchSize = maxBatchSize;
+        this.batchSizes = DistributionSummary.builder("order.pipeline.batch.size")
+                .description("Orders written per group commit")
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("order.pipeline.commit")
+                .description("Group commit latency")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) {
+        reserve(new PendingOrder(event.getItemId(), event.getQty(), event.getResult(), 0));
+        event.clear();
+        if (endOfBatch || pending.size() >= maxBatchSize) {
+            flush();
+        }
+    }
+
+    private void reserve(PendingOrder order) {
+        if (order.result().isAbandoned()) {
+            return;
+        }
+        Long itemId = order.itemId();
+        Integer balance = balances.get(itemId);
+        if (balance == null || balance < order.qty()) {
+            Optional<Integer> stored;
+            try {
+                stored = writer.findBalance(itemId);
+                if (stored.isEmpty()) {
+                    balances.remove(itemId);
+                    order.result().completeExceptionally(new DataNotFoundException(
+                            writer.itemExists(itemId) ? INVENTORY_NOT_FOUND : ITEM_NOT_FOUND));
+                    return;
+                }
+            } catch (RuntimeException e) {
+                order.result().completeExceptionally(e);
+                return;
+            }
+            balance = stored.get() - pendingQty.getOrDefault(itemId, 0);
+        }
+        if (balance < order.qty()) {
+            balances.put(itemId, balance);
+            order.result().completeExceptionally(new InsufficientStockException());
+            return;
+        }
+        balances.put(itemId, balance - order.qty());
+        pendingQty.merge(itemId, order.qty(), Integer::sum);
+        pending.add(order);
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Orders whose caller gave up waiting are dropped here rather than committed after the caller was told otherwise
+        List<PendingOrder> batch = new ArrayList<>(pending.size());
+        for (PendingOrder order : pending) {
+            if (order.result().claim()) {
+                batch.add(order);
+            } else {
+                balances.computeIfPresent(order.itemId(), (itemId, balance) -> balance + order.qty());
+            }
+        }
+        pending.clear();
+        pendingQty.clear();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        BatchWriteResult result;
+        long start = System.nanoTime();
+        try {
+            result = writer.write(batch);
+        } catch (RuntimeException e) {
+            log.error("Order group commit of {} orders failed: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(order -> {
+                balances.remove(order.itemId());
+                order.result().completeExceptionally(e);
+            });
+            return;
+        } finally {
+            commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        batchSizes.record(result.committed().size());
+
+        result.committed().forEach((order, info) -> order.result().complete(info));
+        result.itemNotFound().forEach(order -> {
+            balances.remove(order.itemId());
+            order.result().completeExceptionally(new DataNotFoundException(ITEM_NOT_FOUND));
+        });
+        if (result.conflicted().isEmpty()) {
+            return;
+        }
+        result.conflicted().forEach(order -> balances.remove(order.itemId()));
+        for (PendingOrder order : result.conflicted()) {
+            if (order.attempt() > 0) {
+                order.result().completeExceptionally(new StockConflictException());
+            } else {
+                reserve(order.retry());
+            }
+        }
+        flush();
+    }
+}
@@ -0,0 +1,8 @@
+package com.sg.obs.service.pipeline;
+
+public record PendingOrder(Long itemId, int qty, PipelinedOrder result, int attempt) {
+
+    PendingOrder retry() {
+        return new PendingOrder(itemId, qty, result, attempt + 1);
+    }
+}
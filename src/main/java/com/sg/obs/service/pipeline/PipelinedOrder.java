@@ -0,0 +1,34 @@
+package com.sg.obs.service.pipeline;
+
+import com.sg.obs.dto.order.OrderInfo;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Outcome of one order submitted to the pipeline. A caller that stops waiting {@link #abandon() abandons} it and the
+ * shard handler {@link #claim() claims} it right before the group commit; whichever comes first wins, so an abandoned
+ * order is never written and a claimed one is always answered.
+ */
+public class PipelinedOrder extends CompletableFuture<OrderInfo> {
+
+    private enum State { OPEN, CLAIMED, ABANDONED }
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.OPEN);
+
+
+    /**
+     * @return false when the order is already being written; wait for its outcome instead
+     */
+    public boolean abandon() {
+        return state.compareAndSet(State.OPEN, State.ABANDONED);
+    }
+
+    boolean claim() {
+        return state.compareAndExchange(State.OPEN, State.CLAIMED) != State.ABANDONED;
+    }
+
+    boolean isAbandoned() {
+        return state.get() == State.ABANDONED;
+    }
+}
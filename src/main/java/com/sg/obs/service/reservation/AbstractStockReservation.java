@@ -0,0 +1,82 @@
+package com.sg.obs.service.reservation;
+
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+public abstract class AbstractStockReservation implements StockReservationStrategy {
+
+    protected static final String INVENTORY_NOT_FOUND = "Failed to create order. Item inventory not found";
+
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Timer wait;
+
+    protected AbstractStockReservation(String name, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+        this.conflicts = Counter.builder("stock.reservation.conflicts")
+                .description("Concurrent updates detected while reserving stock")
+                .tag("strategy", name)
+                .register(meterRegistry);
+        this.retries = Counter.builder("stock.reservation.retries")
+                .description("Reservation attempts repeated after a conflict")
+                .tag("strategy", name)
+                .register(meterRegistry);
+        this.wait = Timer.builder("stock.reservation.wait")
+                .description("Time spent waiting for a row lock or backing off before a retry")
+                .tag("strategy", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public final String getName() {
+        return name;
+    }
+
+    @Override
+    public void reserve(Long itemId, int qty) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            doReserve(itemId, qty);
+        } catch (InsufficientStockException e) {
+            outcome = "insufficient";
+            throw e;
+        } catch (DataNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } catch (StockConflictException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            Timer.builder("stock.reservation")
+                    .description("Stock reservation latency by outcome")
+                    .tag("strategy", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    protected abstract void doReserve(Long itemId, int qty);
+
+    protected void recordConflict() {
+        conflicts.increment();
+    }
+
+    protected void recordRetry() {
+        retries.increment();
+    }
+
+    protected void recordWait(long nanos) {
+        wait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
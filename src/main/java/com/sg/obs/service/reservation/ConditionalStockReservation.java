@@ -0,0 +1,31 @@
+package com.sg.obs.service.reservation;
+
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.repository.ItemStockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.stock.reservation.strategy", havingValue = "conditional", matchIfMissing = true)
+public class ConditionalStockReservation extends AbstractStockReservation {
+
+    private final ItemStockRepository itemStockRepository;
+
+    public ConditionalStockReservation(ItemStockRepository itemStockRepository, MeterRegistry meterRegistry) {
+        super("conditional", meterRegistry);
+        this.itemStockRepository = itemStockRepository;
+    }
+
+    @Override
+    protected void doReserve(Long itemId, int qty) {
+        if (itemStockRepository.decrementIfAvailable(itemId, qty) > 0) {
+            return;
+        }
+        if (!itemStockRepository.existsById(itemId)) {
+            throw new DataNotFoundException(INVENTORY_NOT_FOUND);
+        }
+        throw new InsufficientStockException();
+    }
+}
@@ -0,0 +1,122 @@
+package com.sg.obs.service.reservation;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.repository.projection.StockVersion;
+import com.sg.obs.utility.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Checks and withdraws stock with an entry processor on the partition that owns the item's balance, so concurrent
+ * orders for one item queue on that partition instead of on the ITEM_STOCK row. The grid balance is authoritative:
+ * reserving never touches ITEM_STOCK, which follows once the order outbox writes the order behind the caller (or
+ * {@link com.sg.obs.service.StockService#reserved} on the other reservation paths). A rollback hands the units back.
+ * Balances are seeded from ITEM_STOCK on first use and follow other stock movements once they commit. A balance
+ * that is already loaded is never reseeded: ITEM_STOCK lags it by the orders still in the outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "app.stock.reservation.strategy", havingValue = "grid")
+public class GridStockReservation extends AbstractStockReservation {
+
+    enum Outcome { RESERVED, INSUFFICIENT, NOT_LOADED }
+
+    private final ItemStockRepository itemStockRepository;
+    private final IMap<Long, Integer> balances;
+
+    public GridStockReservation(ItemStockRepository itemStockRepository,
+                                HazelcastInstance hazelcastInstance,
+                                MeterRegistry meterRegistry) {
+        super("grid", meterRegistry);
+        this.itemStockRepository = itemStockRepository;
+        this.balances = hazelcastInstance.getMap(HazelcastConfig.STOCK_BALANCE_MAP);
+    }
+
+    @Override
+    protected void doReserve(Long itemId, int qty) {
+        Outcome outcome = balances.executeOnKey(itemId, new Reserve(qty));
+        if (outcome == Outcome.NOT_LOADED) {
+            seed(itemId);
+            outcome = balances.executeOnKey(itemId, new Reserve(qty));
+        }
+        if (outcome == Outcome.NOT_LOADED) {
+            recordConflict();
+            throw new StockConflictException();
+        }
+        if (outcome == Outcome.INSUFFICIENT) {
+            throw new InsufficientStockException();
+        }
+        TransactionUtil.afterRollback(() -> balances.executeOnKey(itemId, new Adjust(qty)));
+    }
+
+    @Override
+    public boolean withdrawsItemStock() {
+        return false;
+    }
+
+    @Override
+    public void stockMoved(Long itemId, int delta) {
+        balances.executeOnKey(itemId, new Adjust(delta));
+    }
+
+    @Override
+    public void stockRemoved(Long itemId) {
+        balances.delete(itemId);
+    }
+
+    // Read with a query rather than findById so a stock row already in the persistence context is not reused. A
+    // movement committing while the balance is seeded finds nothing to adjust, so the row version is read again
+    // and the seed dropped if it moved and nothing has reserved against it yet
+    private void seed(Long itemId) {
+        StockVersion stock = itemStockRepository.findStockVersion(itemId)
+                .orElseThrow(() -> new DataNotFoundException(INVENTORY_NOT_FOUND));
+        if (balances.putIfAbsent(itemId, stock.getQuantity()) != null) {
+            return;
+        }
+        boolean moved = itemStockRepository.findStockVersion(itemId)
+                .map(current -> !Objects.equals(current.getVersion(), stock.getVersion()))
+                .orElse(true);
+        if (moved) {
+            balances.remove(itemId, stock.getQuantity());
+        }
+    }
+
+    record Reserve(int qty) implements EntryProcessor<Long, Integer, Outcome>, Serializable {
+
+        @Override
+        public Outcome process(Map.Entry<Long, Integer> entry) {
+            Integer balance = entry.getValue();
+            if (balance == null) {
+                return Outcome.NOT_LOADED;
+            }
+            if (balance < qty) {
+                return Outcome.INSUFFICIENT;
+            }
+            entry.setValue(balance - qty);
+            return Outcome.RESERVED;
+        }
+    }
+
+    // Leaves balances that are not loaded alone; they are seeded from ITEM_STOCK, which already has the movement
+    record Adjust(int delta) implements EntryProcessor<Long, Integer, Void>, Serializable {
+
+        @Override
+        public Void process(Map.Entry<Long, Integer> entry) {
+            if (entry.getValue() != null) {
+                entry.setValue(entry.getValue() + delta);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.sg.obs.service.reservation;
+
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.repository.projection.StockVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@ConditionalOnProperty(name = "app.stock.reservation.strategy", havingValue = "optimistic")
+public class OptimisticStockReservation extends AbstractStockReservation {
+
+    private final ItemStockRepository itemStockRepository;
+    private final int maxAttempts;
+    private final long backoffNanos;
+
+    public OptimisticStockReservation(ItemStockRepository itemStockRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.stock.reservation.max-attempts:5}") int maxAttempts,
+                                      @Value("${app.stock.reservation.backoff:5ms}") Duration backoff) {
+        super("optimistic", meterRegistry);
+        this.itemStockRepository = itemStockRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffNanos = backoff.toNanos();
+    }
+
+    @Override
+    protected void doReserve(Long itemId, int qty) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            StockVersion stock = itemStockRepository.findStockVersion(itemId)
+                    .orElseThrow(() -> new DataNotFoundException(INVENTORY_NOT_FOUND));
+            if (stock.getQuantity() < qty) {
+                throw new InsufficientStockException();
+            }
+            if (itemStockRepository.compareAndSetQuantity(itemId, stock.getQuantity() - qty, stock.getVersion()) > 0) {
+                return;
+            }
+            recordConflict();
+            if (attempt < maxAttempts) {
+                recordRetry();
+                backoff(attempt);
+            }
+        }
+        throw new StockConflictException();
+    }
+
+    private void backoff(int attempt) {
+        // full jitter: sleep a random slice of an exponentially growing window
+        long window = backoffNanos << Math.min(attempt - 1, 10);
+        long sleep = ThreadLocalRandom.current().nextLong(window + 1);
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(Duration.ofNanos(sleep));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StockConflictException();
+        } finally {
+            recordWait(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sg.obs.service.reservation;
+
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.models.ItemStock;
+import com.sg.obs.repository.ItemStockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.stock.reservation.strategy", havingValue = "pessimistic")
+public class PessimisticStockReservation extends AbstractStockReservation {
+
+    private final ItemStockRepository itemStockRepository;
+
+    public PessimisticStockReservation(ItemStockRepository itemStockRepository, MeterRegistry meterRegistry) {
+        super("pessimistic", meterRegistry);
+        this.itemStockRepository = itemStockRepository;
+    }
+
+    @Override
+    protected void doReserve(Long itemId, int qty) {
+        long start = System.nanoTime();
+        ItemStock stock = itemStockRepository.findByIdForUpdate(itemId)
+                .orElseThrow(() -> new DataNotFoundException(INVENTORY_NOT_FOUND));
+        recordWait(System.nanoTime() - start);
+
+        if (stock.getQuantity() < qty) {
+            throw new InsufficientStockException();
+        }
+        stock.setQuantity(stock.getQuantity() - qty);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sg.obs.service.reservation;
+
+public interface StockReservationStrategy {
+
+    String getName();
+
+    /**
+     * Withdraws {@code qty} units from the item's stock balance inside the caller's transaction.
+     *
+     * @throws com.sg.obs.exception.DataNotFoundException      if the item has no stock balance
+     * @throws com.sg.obs.exception.InsufficientStockException if the balance is lower than {@code qty}
+     * @throws com.sg.obs.exception.StockConflictException     if the strategy gave up on a concurrent update
+     */
+    void reserve(Long itemId, int qty);
+
+    /**
+     * Whether {@link #reserve} withdraws the units from ITEM_STOCK itself. Strategies that reserve against a balance
+     * of their own leave ITEM_STOCK to {@link com.sg.obs.service.StockService#reserved}.
+     */
+    default boolean withdrawsItemStock() {
+        return true;
+    }
+
+    /**
+     * Called after commit for stock movements that did not go through {@link #reserve}, so strategies that keep their
+     * own copy of the balance can follow them.
+     */
+    default void stockMoved(Long itemId, int delta) {
+    }
+
+    default void stockRemoved(Long itemId) {
+    }
+}
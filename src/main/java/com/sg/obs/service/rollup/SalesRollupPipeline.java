@@ -0,0 +1,71 @@
+package com.sg.obs.service.rollup;
+
+import com.hazelcast.jet.Util;
+import com.hazelcast.jet.aggregate.AggregateOperations;
+import com.hazelcast.jet.datamodel.KeyedWindowResult;
+import com.hazelcast.jet.datamodel.Tuple3;
+import com.hazelcast.jet.pipeline.JournalInitialPosition;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.Sinks;
+import com.hazelcast.jet.pipeline.Sources;
+import com.hazelcast.jet.pipeline.StreamStage;
+import com.hazelcast.jet.pipeline.WindowDefinition;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.sales.SalesEvent;
+import com.sg.obs.dto.sales.SalesRollup;
+import com.sg.obs.enums.SalesWindow;
+
+import java.util.Map;
+
+/**
+ * Reads the salesEvents journal and keeps units, revenue and stock movement per item for every {@link SalesWindow} in
+ * that window's map. Windows still open are written every {@code earlyResultsMillis}, so the current minute, hour and
+ * day are readable before they close; events arriving more than {@code allowedLagMillis} behind the newest are late
+ * and dropped.
+ */
+public final class SalesRollupPipeline {
+
+    public static final String JOB_NAME = "sales-rollups";
+
+    private SalesRollupPipeline() {
+    }
+
+    public static Pipeline build(long allowedLagMillis, long earlyResultsMillis) {
+        Pipeline pipeline = Pipeline.create();
+        StreamStage<SalesEvent> events = pipeline
+                .readFrom(Sources.<Long, SalesEvent>mapJournal(HazelcastConfig.SALES_EVENT_MAP,
+                        JournalInitialPosition.START_FROM_OLDEST))
+                .withTimestamps(entry -> entry.getValue().timestamp(), allowedLagMillis)
+                .map(Map.Entry::getValue)
+                .setName("sales-events");
+
+        for (SalesWindow window : SalesWindow.values()) {
+            boolean sliding = window.isSliding();
+            events.groupingKey(SalesEvent::itemId)
+                    .window(windowDefinition(window).setEarlyResultsPeriod(earlyResultsMillis))
+                    .aggregate(AggregateOperations.allOf(
+                            AggregateOperations.summingLong(SalesEvent::units),
+                            AggregateOperations.summingDouble(SalesEvent::revenue),
+                            AggregateOperations.summingLong(SalesEvent::stockDelta)))
+                    .setName("rollup-" + window.name().toLowerCase())
+                    .map(result -> toEntry(result, sliding))
+                    .writeTo(Sinks.map(window.getMapName()));
+        }
+        return pipeline;
+    }
+
+    private static WindowDefinition windowDefinition(SalesWindow window) {
+        return window.isSliding()
+                ? WindowDefinition.sliding(window.getSize().toMillis(), window.getSlide().toMillis())
+                : WindowDefinition.tumbling(window.getSize().toMillis());
+    }
+
+    // Every slide ends a new trailing window, so those are keyed by their end: the latest complete one is always readable
+    private static Map.Entry<String, SalesRollup> toEntry(KeyedWindowResult<Long, Tuple3<Long, Double, Long>> result,
+                                                          boolean sliding) {
+        Tuple3<Long, Double, Long> totals = result.result();
+        SalesRollup rollup = new SalesRollup(result.key(), result.start(), result.end(),
+                totals.f0(), totals.f1(), totals.f2());
+        return Util.entry(SalesRollup.key(result.key(), sliding ? result.end() : result.start()), rollup);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sg.obs.utility;
+
+import com.sg.obs.exception.ApiException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+public class CursorUtil {
+
+    public static final int MAX_SIZE = 1000;
+    public static final String INVALID_CURSOR = "Invalid cursor";
+
+    private CursorUtil() {}
+
+    public static String encode(long key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(key).array());
+    }
+
+    public static Long decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new ApiException(400, INVALID_CURSOR);
+            }
+            long key = ByteBuffer.wrap(bytes).getLong();
+            if (key < 0) {
+                throw new ApiException(400, INVALID_CURSOR);
+            }
+            return key;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, INVALID_CURSOR);
+        }
+    }
+
+    public static int limit(int size) {
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.sg.obs.utility;
+
+import com.sg.obs.dto.BaseInfo;
+import com.sg.obs.dto.CursorPage;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.inventory.InventoryInfo;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.dto.order.OrderInfo;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+public class ETagUtil {
+
+    private ETagUtil() {}
+
+    /**
+     * Strong entity tag for a response payload: the id and {@code @Version} of every row, the joined values a row's
+     * own version does not cover (stock, item name) and, for lists, the page metadata. Null when a row has no version.
+     */
+    public static String of(Object data) {
+        StringBuilder key = new StringBuilder();
+        boolean versioned = switch (data) {
+            case PageWrapper<?> page -> {
+                PageWrapper.PageMetadata metadata = page.getMetadata();
+                key.append(metadata.getNumber()).append('|').append(metadata.getSize()).append('|')
+                        .append(metadata.getTotalElements()).append('|').append(metadata.getTotalPages()).append('|')
+                        .append(metadata.isEstimated()).append('\n');
+                yield appendRows(key, page.getContent());
+            }
+            case CursorPage<?> page -> {
+                key.append(page.getSize()).append('|').append(page.getNext()).append('\n');
+                yield appendRows(key, page.getContent());
+            }
+            case null -> false;
+            default -> appendRow(key, data);
+        };
+        return versioned ? "\"" + digest(key) + "\"" : null;
+    }
+
+    private static boolean appendRows(StringBuilder key, Collection<?> rows) {
+        return rows.stream().allMatch(row -> appendRow(key, row));
+    }
+
+    private static boolean appendRow(StringBuilder key, Object row) {
+        String identity = switch (row) {
+            case ItemInfo item -> "item|" + item.getId() + "|" + item.getRemainingStock();
+            case OrderInfo order -> "order|" + order.getOrderNo() + "|" + order.getItemName();
+            case InventoryInfo inventory -> "inventory|" + inventory.getId() + "|" + inventory.getItemName();
+            default -> null;
+        };
+        if (identity == null || ((BaseInfo) row).getVersion() == null) {
+            return false;
+        }
+        key.append(identity).append('|').append(((BaseInfo) row).getVersion()).append('\n');
+        return true;
+    }
+
+    private static String digest(CharSequence key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.toString().getBytes(StandardCharsets.UTF_8)), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
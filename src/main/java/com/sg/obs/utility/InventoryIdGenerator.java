@@ -0,0 +1,33 @@
+package com.sg.obs.utility;
+
+import com.sg.obs.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out INVENTORY ids for rows inserted outside JPA, from the same pooled-lo blocks of INVENTORY_SEQ that the
+ * entity's generator uses: each sequence value is the first id of a block of {@code app.inventory.seq.allocation-size}
+ * ids, which must match the entity's allocationSize.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryIdGenerator {
+
+    private final InventoryRepository inventoryRepository;
+
+    @Value("${app.inventory.seq.allocation-size:50}")
+    private final int allocationSize;
+
+    private long next;
+    private long limit;
+
+
+    public synchronized long nextId() {
+        if (next == limit) {
+            next = inventoryRepository.getNextInventorySeq();
+            limit = next + allocationSize;
+        }
+        return next++;
+    }
+}
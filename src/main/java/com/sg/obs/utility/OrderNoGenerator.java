@@ -0,0 +1,55 @@
+package com.sg.obs.utility;
+
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out order numbers from blocks of ORDER_SEQ (pooled-lo): each sequence value is the first number of a block
+ * of {@code app.order.seq.allocation-size} numbers, which must match the sequence INCREMENT BY.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderNoGenerator {
+
+    private final OrderRepository orderRepository;
+
+    @Value("${app.order.seq.allocation-size:50}")
+    private final int allocationSize;
+
+    private long next;
+    private long limit;
+
+
+    public OrderNo nextOrderNo() {
+        return nextOrderNos(1).getFirst();
+    }
+
+    public synchronized List<OrderNo> nextOrderNos(int count) {
+        YearMonth month = YearMonth.now();
+        List<OrderNo> orderNos = new ArrayList<>(count);
+        drainBlock(orderNos, month, count);
+        int remaining = count - orderNos.size();
+        if (remaining > 0) {
+            int blocks = (remaining + allocationSize - 1) / allocationSize;
+            for (Long lo : orderRepository.getNextOrderSeqs(blocks)) {
+                next = lo;
+                limit = lo + allocationSize;
+                drainBlock(orderNos, month, count);
+            }
+        }
+        return orderNos;
+    }
+
+    private void drainBlock(List<OrderNo> orderNos, YearMonth month, int count) {
+        while (orderNos.size() < count && next < limit) {
+            orderNos.add(OrderNo.of(month, next++));
+        }
+    }
+}
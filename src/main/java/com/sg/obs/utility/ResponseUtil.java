@@ -10,4 +10,11 @@ public class ResponseUtil {
     public static <T> ResponseEntity<ApiResponse<T>> build(ApiResponse<T> response) {
         return ResponseEntity.status(response.getHttpStatus()).body(response);
     }
+
+    /**
+     * Adds an ETag derived from the versions of the returned rows, so Spring answers a matching If-None-Match with 304.
+     */
+    public static <T> ResponseEntity<ApiResponse<T>> buildTagged(ApiResponse<T> response) {
+        return ResponseEntity.status(response.getHttpStatus()).eTag(ETagUtil.of(response.getData())).body(response);
+    }
 }
@@ -0,0 +1,45 @@
+-- Inventory ledger checkpoint (app.inventory.checkpoint.enabled). Each checkpoint stamps the INVENTORY rows it folds
+-- with its id and adds their net quantity to the per-item INVENTORY_SNAPSHOT; rows without a CHECKPOINT_ID are still
+-- pending. With app.inventory.checkpoint.archive the stamped rows are copied to INVENTORY_HISTORY and then deleted.
+CREATE SEQUENCE IF NOT EXISTS inventory_checkpoint_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS inventory_checkpoint (
+    id              BIGINT      NOT NULL PRIMARY KEY,
+    created_before  TIMESTAMP   NOT NULL,
+    inventory_count INTEGER     NOT NULL,
+    item_count      INTEGER     NOT NULL,
+    archived_count  INTEGER     NOT NULL,
+    created_date    TIMESTAMP,
+    updated_date    TIMESTAMP,
+    created_by      VARCHAR(50),
+    updated_by      VARCHAR(50),
+    version         BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS inventory_snapshot (
+    item_id            BIGINT      NOT NULL PRIMARY KEY,
+    qty                INTEGER     NOT NULL,
+    last_checkpoint_id BIGINT      NOT NULL,
+    created_date       TIMESTAMP,
+    updated_date       TIMESTAMP,
+    created_by         VARCHAR(50),
+    updated_by         VARCHAR(50),
+    version            BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS inventory_history (
+    id            BIGINT      NOT NULL PRIMARY KEY,
+    item_id       BIGINT,
+    qty           INTEGER     NOT NULL,
+    type          VARCHAR(1)  NOT NULL,
+    checkpoint_id BIGINT      NOT NULL,
+    created_date  TIMESTAMP,
+    updated_date  TIMESTAMP,
+    created_by    VARCHAR(50),
+    updated_by    VARCHAR(50),
+    version       BIGINT
+);
+
+ALTER TABLE inventory ADD COLUMN IF NOT EXISTS checkpoint_id BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_inventory_checkpoint ON inventory (checkpoint_id, created_date);
@@ -0,0 +1,21 @@
+-- Materialized stock balance per item (ITEM_STOCK), kept by StockSvc on every inventory movement and read by order
+-- creation. Run once, with the application stopped, before deploying: every item gets a row holding its ledger balance,
+-- sum of top-ups minus withdrawals, or zero when it has no movements yet. Items that already have a row are left alone.
+CREATE TABLE IF NOT EXISTS item_stock (
+    item_id      BIGINT      NOT NULL PRIMARY KEY,
+    qty          INTEGER     NOT NULL,
+    created_date TIMESTAMP,
+    updated_date TIMESTAMP,
+    created_by   VARCHAR(50),
+    updated_by   VARCHAR(50),
+    version      BIGINT
+);
+
+INSERT INTO item_stock (item_id, qty, created_by, created_date, updated_by, updated_date, version)
+SELECT i.id,
+       COALESCE(SUM(CASE WHEN inv.type = 'T' THEN inv.qty WHEN inv.type = 'W' THEN -inv.qty ELSE 0 END), 0),
+       'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0
+FROM item i
+LEFT JOIN inventory inv ON inv.item_id = i.id
+WHERE NOT EXISTS (SELECT 1 FROM item_stock s WHERE s.item_id = i.id)
+GROUP BY i.id;
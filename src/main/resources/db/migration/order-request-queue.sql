@@ -0,0 +1,16 @@
+-- Queue table for asynchronous order acceptance (app.order.mode=async). Confirmed requests are deleted
+-- once their ORDERS row is written; rejected ones stay so GET /v1/orders/{orderNo} can report the reason.
+CREATE TABLE IF NOT EXISTS order_request (
+    order_no     BIGINT       NOT NULL PRIMARY KEY,
+    item_id      BIGINT       NOT NULL,
+    qty          INTEGER      NOT NULL,
+    status       VARCHAR(10)  NOT NULL,
+    reason       VARCHAR(255),
+    created_date TIMESTAMP,
+    updated_date TIMESTAMP,
+    created_by   VARCHAR(50),
+    updated_by   VARCHAR(50),
+    version      BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_request_status ON order_request (status, order_no);
@@ -0,0 +1,13 @@
+-- Converts ORDERS.ORDER_NO from the 21-character yyyyMM + 15-digit text to the packed BIGINT read by OrderNo:
+-- (year * 12 + month - 1) * 2^46 + sequence. Run once, with the application stopped, before deploying.
+ALTER TABLE orders ADD COLUMN order_no_packed BIGINT;
+
+UPDATE orders
+SET order_no_packed = (CAST(SUBSTRING(order_no, 1, 4) AS BIGINT) * 12 + CAST(SUBSTRING(order_no, 5, 2) AS BIGINT) - 1) * 70368744177664
+    + CAST(SUBSTRING(order_no, 7) AS BIGINT);
+
+ALTER TABLE orders ALTER COLUMN order_no_packed SET NOT NULL;
+ALTER TABLE orders DROP PRIMARY KEY;
+ALTER TABLE orders DROP COLUMN order_no;
+ALTER TABLE orders ALTER COLUMN order_no_packed RENAME TO order_no;
+ALTER TABLE orders ADD PRIMARY KEY (order_no);
@@ -0,0 +1,9 @@
+-- Item and inventory ids are allocated pooled-lo with allocationSize = 50 and order numbers in blocks of
+-- app.order.seq.allocation-size (50): each value read from the sequence reserves the next 50 ids, so the increment
+-- has to match. Run once, with the application stopped, before deploying. The next value is still above every id
+-- handed out so far, so the new blocks cannot overlap existing rows.
+ALTER SEQUENCE item_seq INCREMENT BY 50;
+
+ALTER SEQUENCE inventory_seq INCREMENT BY 50;
+
+ALTER SEQUENCE order_seq INCREMENT BY 50;
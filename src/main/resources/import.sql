@@ -1,26 +1,33 @@
-INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Pen', 5, 'SYSTEM', CURRENT_TIMESTAMP, 0, NEXT VALUE FOR item_seq);
+INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Pen', 5, 'SYSTEM', CURRENT_TIMESTAMP, 0, 1);
 
-INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Book', 10, 'SYSTEM', CURRENT_TIMESTAMP, 0, NEXT VALUE FOR item_seq);
+INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Book', 10, 'SYSTEM', CURRENT_TIMESTAMP, 0, 2);
 
-INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Bag', 30, 'SYSTEM', CURRENT_TIMESTAMP, 0, NEXT VALUE FOR item_seq);
+INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Bag', 30, 'SYSTEM', CURRENT_TIMESTAMP, 0, 3);
 
-INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Pencil', 3, 'SYSTEM', CURRENT_TIMESTAMP, 0, NEXT VALUE FOR item_seq);
+INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Pencil', 3, 'SYSTEM', CURRENT_TIMESTAMP, 0, 4);
 
-INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Shoe', 45, 'SYSTEM', CURRENT_TIMESTAMP, 0, NEXT VALUE FOR item_seq);
+INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Shoe', 45, 'SYSTEM', CURRENT_TIMESTAMP, 0, 5);
 
-INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Box', 5, 'SYSTEM', CURRENT_TIMESTAMP, 0, NEXT VALUE FOR item_seq);
+INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Box', 5, 'SYSTEM', CURRENT_TIMESTAMP, 0, 6);
 
-INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Cap', 25, 'SYSTEM', CURRENT_TIMESTAMP, 0, NEXT VALUE FOR item_seq);
+INSERT INTO item (created_by, created_date, name, price, updated_by, updated_date, version, id) VALUES ('SYSTEM', CURRENT_TIMESTAMP, 'Cap', 25, 'SYSTEM', CURRENT_TIMESTAMP, 0, 7);
 
 
 
 -- Inventory
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 1, 5, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 2, 10, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 3, 30, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 4, 3, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 5, 45, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 6, 5, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 7, 25, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 4, 7, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
-INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (NEXT VALUE FOR inventory_seq, 5, 10, 'W', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (1, 1, 5, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (2, 2, 10, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (3, 3, 30, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (4, 4, 3, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (5, 5, 45, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (6, 6, 5, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (7, 7, 25, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (8, 4, 7, 'T', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+INSERT INTO inventory (id, item_id, qty, type, created_by, created_date, updated_by, updated_date, version) VALUES (9, 5, 10, 'W', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0);
+
+-- Seed rows use explicit ids, so move the pooled sequences past them
+ALTER SEQUENCE item_seq RESTART WITH 8;
+ALTER SEQUENCE inventory_seq RESTART WITH 10;
+
+-- Item stock balance (materialized from the inventory ledger)
+INSERT INTO item_stock (item_id, qty, created_by, created_date, updated_by, updated_date, version) SELECT i.id, COALESCE(SUM(CASE WHEN inv.type = 'T' THEN inv.qty WHEN inv.type = 'W' THEN -inv.qty ELSE 0 END), 0), 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0 FROM item i LEFT JOIN inventory inv ON inv.item_id = i.id GROUP BY i.id;
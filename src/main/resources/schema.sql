@@ -1,3 +1,3 @@
-CREATE SEQUENCE IF NOT EXISTS order_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS order_seq START WITH 1 INCREMENT BY 50;
 
-ALTER SEQUENCE order_seq RESTART WITH 1;
\ No newline at end of file
+ALTER SEQUENCE order_seq RESTART WITH 1 INCREMENT BY 50;
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.sg.obs.aspect;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.IdempotentResponse;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyAspectTest {
+
+    private static final String KEY = "POST /v1/orders abc-123";
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private IMap<String, IdempotentResponse> responses;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private IdempotencyAspect idempotencyAspect;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(responses).when(hazelcastInstance).getMap(HazelcastConfig.IDEMPOTENCY_MAP);
+        idempotencyAspect = new IdempotencyAspect(new ObjectMapper(), hazelcastInstance,
+                Duration.ofHours(24), Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/orders");
+        request.setServletPath("/v1/orders");
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "abc-123");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void givenLeaseExpiredDuringRequest_whenReplayOrProceed_thenReturnResponse() throws Throwable {
+        // Mock join point and lock
+        ResponseEntity<String> response = ResponseEntity.status(201).body("created");
+        doReturn(signature).when(joinPoint).getSignature();
+        doReturn(Controller.class.getDeclaredMethod("addOrder", CreateOrderRequest.class)).when(signature).getMethod();
+        doReturn(new Object[]{new CreateOrderRequest()}).when(joinPoint).getArgs();
+        doReturn(response).when(joinPoint).proceed();
+        doReturn(true).when(responses).tryLock(eq(KEY), anyLong(), eq(TimeUnit.MILLISECONDS), anyLong(), eq(TimeUnit.MILLISECONDS));
+        doThrow(new IllegalMonitorStateException("Current thread is not owner of the lock!")).when(responses).unlock(KEY);
+
+        // Act
+        Object actual = idempotencyAspect.replayOrProceed(joinPoint);
+
+        // Assert
+        assertSame(response, actual);
+        verify(responses).set(eq(KEY), any(IdempotentResponse.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(responses).unlock(KEY);
+    }
+
+    private interface Controller {
+
+        ResponseEntity<String> addOrder(@RequestBody CreateOrderRequest payload);
+    }
+}
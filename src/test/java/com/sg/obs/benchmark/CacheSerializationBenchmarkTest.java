@@ -0,0 +1,141 @@
+package com.sg.obs.benchmark;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.enums.OrderStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serializes the cached values with plain java.io.Serializable (a member without the Compact serializers) and with
+ * the Compact serializers registered in {@link HazelcastConfig}, reporting bytes per entry and ns per
+ * serialize/deserialize. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class CacheSerializationBenchmarkTest {
+
+    private static final int ITERATIONS = 50_000;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Test
+    void compareJavaAndCompactSerialization() {
+        HazelcastInstance javaSerialization = Hazelcast.newHazelcastInstance(javaSerializationConfig());
+        HazelcastInstance compact = Hazelcast.getOrCreateHazelcastInstance(
+                HazelcastConfig.config(HazelcastConfig.INSTANCE_NAME, HazelcastConfig.ClusterSettings.standalone()));
+        try {
+            SerializationService before = ((SerializationServiceSupport) javaSerialization).getSerializationService();
+            SerializationService after = ((SerializationServiceSupport) compact).getSerializationService();
+
+            for (Map.Entry<String, Object> value : values().entrySet()) {
+                int beforeBytes = before.toData(value.getValue()).totalSize();
+                int afterBytes = after.toData(value.getValue()).totalSize();
+                double[] beforeNanos = measure(before, value.getValue());
+                double[] afterNanos = measure(after, value.getValue());
+
+                System.out.printf("[%s] java.io.Serializable: %,6d bytes, %,8.0f ns serialize, %,8.0f ns deserialize%n",
+                        value.getKey(), beforeBytes, beforeNanos[0], beforeNanos[1]);
+                System.out.printf("[%s] Compact:              %,6d bytes, %,8.0f ns serialize, %,8.0f ns deserialize%n",
+                        value.getKey(), afterBytes, afterNanos[0], afterNanos[1]);
+                assertThat(afterBytes).isLessThan(beforeBytes);
+            }
+        } finally {
+            javaSerialization.shutdown();
+        }
+    }
+
+    private static double[] measure(SerializationService serializationService, Object value) {
+        Data data = serializationService.toData(value);
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += serializationService.toData(value).totalSize();
+            sink += serializationService.toObject(data).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializationService.toData(value).totalSize();
+        }
+        double serialize = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializationService.toObject(data).hashCode();
+        }
+        double deserialize = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        assertThat(sink).isNotZero();
+        return new double[]{serialize, deserialize};
+    }
+
+    private static Map<String, Object> values() {
+        List<ItemInfo> items = LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(CacheSerializationBenchmarkTest::item).toList();
+        List<OrderInfo> orders = LongStream.rangeClosed(1, PAGE_SIZE).mapToObj(CacheSerializationBenchmarkTest::order).toList();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("itemCache", item(1));
+        values.put("orderCache", ApiResponse.setSuccess(order(1)));
+        values.put("pagedItemCache", PageWrapper.of(new PagedModel<>(new PageImpl<>(items, PageRequest.of(0, PAGE_SIZE), 1000))));
+        values.put("pagedOrderCache", ApiResponse.setSuccess(
+                PageWrapper.of(new PagedModel<>(new PageImpl<>(orders, PageRequest.of(0, PAGE_SIZE), 1000)))));
+        return values;
+    }
+
+    private static ItemInfo item(long id) {
+        return ItemInfo.builder()
+                .id(id)
+                .name("Item " + id)
+                .price(9.99)
+                .version(3L)
+                .createdDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .updatedDate(LocalDateTime.of(2024, 1, 2, 10, 0))
+                .createdBy("SYSTEM")
+                .updatedBy("SYSTEM")
+                .build();
+    }
+
+    private static OrderInfo order(long id) {
+        return OrderInfo.builder()
+                .orderNo("O%09d".formatted(id))
+                .itemId(id)
+                .itemName("Item " + id)
+                .qty(2)
+                .price(19.98)
+                .status(OrderStatus.CONFIRMED)
+                .version(0L)
+                .createdDate(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .createdBy("SYSTEM")
+                .build();
+    }
+
+    private static Config javaSerializationConfig() {
+        Config config = new Config();
+        config.setInstanceName("serialization-benchmark");
+        config.setClusterName("serialization-benchmark");
+        JoinConfig joinConfig = config.getNetworkConfig().getJoin();
+        joinConfig.getMulticastConfig().setEnabled(false);
+        joinConfig.getTcpIpConfig().setEnabled(false);
+        joinConfig.getAutoDetectionConfig().setEnabled(false);
+        return config;
+    }
+}
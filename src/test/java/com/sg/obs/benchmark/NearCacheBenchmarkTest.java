@@ -0,0 +1,94 @@
+package com.sg.obs.benchmark;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.merge.PutIfAbsentMergePolicy;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.item.ItemInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads remote entries repeatedly from another member of a three-member cluster, once through a map with the near
+ * cache from {@link HazelcastConfig} (itemCache) and once through one without (pagedItemCache), reporting ns per get.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class NearCacheBenchmarkTest {
+
+    private static final int MEMBERS = 3;
+    private static final int PORT = 5811;
+    private static final int KEYS = 500;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void compareNearCachedAndRemoteReads() {
+        List<HazelcastInstance> members = startCluster();
+        try {
+            IMap<Long, ItemInfo> nearCached = members.get(0).getMap(HazelcastConfig.ITEM_CACHE);
+            IMap<Long, ItemInfo> remote = members.get(0).getMap(HazelcastConfig.PAGED_ITEM_CACHE);
+            for (long id = 0; id < KEYS; id++) {
+                nearCached.set(id, item(id));
+                remote.set(id, item(id));
+            }
+            IMap<Long, ItemInfo> nearCachedReader = members.get(1).getMap(HazelcastConfig.ITEM_CACHE);
+            IMap<Long, ItemInfo> remoteReader = members.get(1).getMap(HazelcastConfig.PAGED_ITEM_CACHE);
+            readAll(nearCachedReader);
+            readAll(remoteReader);
+
+            double nearCachedNanos = readAll(nearCachedReader);
+            double remoteNanos = readAll(remoteReader);
+
+            System.out.printf("[%d members] near cache: %,8.0f ns/get, without near cache: %,8.0f ns/get%n",
+                    MEMBERS, nearCachedNanos, remoteNanos);
+            assertThat(nearCachedNanos).isLessThan(remoteNanos);
+        } finally {
+            members.forEach(HazelcastInstance::shutdown);
+        }
+    }
+
+    private static List<HazelcastInstance> startCluster() {
+        List<String> addresses = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            addresses.add("127.0.0.1:" + (PORT + i));
+        }
+        HazelcastConfig.ClusterSettings cluster = new HazelcastConfig.ClusterSettings(true,
+                "near-cache-bench-" + UUID.randomUUID(), addresses, PORT, 1,
+                PutIfAbsentMergePolicy.class.getName(), Set.of(HazelcastConfig.ITEM_CACHE), 10_000);
+        List<HazelcastInstance> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            Config config = HazelcastConfig.config("near-cache-bench-" + i, cluster);
+            config.setProperty("hazelcast.wait.seconds.before.join", "0");
+            members.add(Hazelcast.newHazelcastInstance(config));
+        }
+        return members;
+    }
+
+    private static double readAll(IMap<Long, ItemInfo> map) {
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (long id = 0; id < KEYS; id++) {
+                sink += map.get(id).getRemainingStock();
+            }
+        }
+        double nanos = (System.nanoTime() - start) / (double) (ROUNDS * KEYS);
+        assertThat(sink).isPositive();
+        return nanos;
+    }
+
+    private static ItemInfo item(Long id) {
+        ItemInfo item = ItemInfo.builder().id(id).name("item-" + id).price(1.0).remainingStock(5).build();
+        item.setVersion(1L);
+        return item;
+    }
+}
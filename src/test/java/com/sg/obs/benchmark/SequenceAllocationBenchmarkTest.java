@@ -0,0 +1,139 @@
+package com.sg.obs.benchmark;
+
+import org.h2.tools.Server;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the statements Hibernate issues for INVENTORY inserts with allocationSize = 1 and no batching (before)
+ * against pooled-lo allocation with JDBC batching (after). Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SequenceAllocationBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP_ROWS = 2_000;
+    private static final int BATCH_SIZE = 50;
+    private static final String INSERT = "INSERT INTO INVENTORY (ID, ITEM_ID, QTY, TYPE, CREATED_BY, CREATED_DATE, " +
+            "UPDATED_BY, UPDATED_DATE, VERSION) VALUES (?, ?, ?, 'W', 'SYSTEM', CURRENT_TIMESTAMP, 'SYSTEM', CURRENT_TIMESTAMP, 0)";
+
+    @Test
+    void compareInsertThroughput() throws SQLException {
+        run("embedded", "jdbc:h2:mem:bench_embedded;DB_CLOSE_DELAY=-1");
+
+        Server server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        try {
+            run("tcp", "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bench_tcp;DB_CLOSE_DELAY=-1");
+        } finally {
+            server.stop();
+        }
+    }
+
+    private void run(String mode, String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            connection.setAutoCommit(false);
+            createSchema(connection);
+
+            insertSequential(connection, WARMUP_ROWS);
+            insertPooledBatched(connection, WARMUP_ROWS);
+
+            long start = System.nanoTime();
+            insertSequential(connection, ROWS);
+            double before = ROWS / seconds(start);
+
+            start = System.nanoTime();
+            insertPooledBatched(connection, ROWS);
+            double after = ROWS / seconds(start);
+
+            System.out.printf("[%s] allocationSize=1, unbatched: %,.0f inserts/s%n", mode, before);
+            System.out.printf("[%s] pooled-lo %d, batch %d:   %,.0f inserts/s (x%.1f)%n",
+                    mode, BATCH_SIZE, BATCH_SIZE, after, after / before);
+            assertThat(countRows(connection)).isEqualTo(2L * (ROWS + WARMUP_ROWS));
+        }
+    }
+
+    private void insertSequential(Connection connection, int rows) throws SQLException {
+        try (PreparedStatement nextVal = connection.prepareStatement("SELECT NEXT VALUE FOR SINGLE_SEQ");
+             PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            for (int i = 0; i < rows; i++) {
+                bind(insert, nextValue(nextVal), i);
+                insert.executeUpdate();
+                commitEvery(connection, i);
+            }
+            connection.commit();
+        }
+    }
+
+    private void insertPooledBatched(Connection connection, int rows) throws SQLException {
+        try (PreparedStatement nextVal = connection.prepareStatement("SELECT NEXT VALUE FOR POOLED_SEQ");
+             PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            long next = 0;
+            long limit = 0;
+            for (int i = 0; i < rows; i++) {
+                if (next == limit) {
+                    next = nextValue(nextVal);
+                    limit = next + BATCH_SIZE;
+                }
+                bind(insert, next++, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+                commitEvery(connection, i);
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE INVENTORY (ID BIGINT PRIMARY KEY, ITEM_ID BIGINT, QTY INTEGER NOT NULL, " +
+                    "TYPE VARCHAR(1) NOT NULL, CREATED_BY VARCHAR(255), CREATED_DATE TIMESTAMP, " +
+                    "UPDATED_BY VARCHAR(255), UPDATED_DATE TIMESTAMP, VERSION BIGINT)");
+            statement.execute("CREATE SEQUENCE SINGLE_SEQ START WITH 1 INCREMENT BY 1");
+            statement.execute("CREATE SEQUENCE POOLED_SEQ START WITH 1000000000 INCREMENT BY " + BATCH_SIZE);
+        }
+        connection.commit();
+    }
+
+    private static void bind(PreparedStatement insert, long id, int row) throws SQLException {
+        insert.setLong(1, id);
+        insert.setLong(2, row % 7 + 1);
+        insert.setInt(3, 1);
+    }
+
+    private static long nextValue(PreparedStatement nextVal) throws SQLException {
+        try (ResultSet rs = nextVal.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void commitEvery(Connection connection, int row) throws SQLException {
+        if ((row + 1) % BATCH_SIZE == 0) {
+            connection.commit();
+        }
+    }
+
+    private static long countRows(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM INVENTORY")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static double seconds(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,161 @@
+package com.sg.obs.config;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.merge.PutIfAbsentMergePolicy;
+import com.sg.obs.dto.item.ItemInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs three clustered members in one JVM with the near caches from {@link HazelcastConfig} and checks that a write on
+ * one member reaches the near caches of the others. Read latency with and without the near cache is measured by
+ * {@link com.sg.obs.benchmark.NearCacheBenchmarkTest}.
+ */
+class HazelcastClusterTest {
+
+    private static final int MEMBERS = 3;
+    private static final int PORT = 5801;
+
+    private static final List<HazelcastInstance> members = new ArrayList<>();
+    private static final List<Cache> itemCaches = new ArrayList<>();
+
+    @BeforeAll
+    static void startCluster() {
+        HazelcastConfig.ClusterSettings cluster = new HazelcastConfig.ClusterSettings(true,
+                "cluster-test-" + UUID.randomUUID(), memberAddresses(), PORT, 1,
+                PutIfAbsentMergePolicy.class.getName(), Set.of(HazelcastConfig.ITEM_CACHE, HazelcastConfig.ORDER_CACHE),
+                10_000);
+        for (int i = 0; i < MEMBERS; i++) {
+            Config config = HazelcastConfig.config("cluster-test-" + i, cluster);
+            config.setProperty("hazelcast.wait.seconds.before.join", "0");
+            // Send near cache invalidations as they happen rather than in the default 10 second batches
+            config.setProperty("hazelcast.map.invalidation.batch.enabled", "false");
+            HazelcastInstance member = Hazelcast.newHazelcastInstance(config);
+            CacheManager cacheManager = new HazelcastConfig().cacheManager(member, new SimpleMeterRegistry(),
+                    "node-" + i, false, Set.of(), 0, Duration.ofMinutes(1));
+            members.add(member);
+            itemCaches.add(cacheManager.getCache(HazelcastConfig.ITEM_CACHE));
+        }
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        members.forEach(HazelcastInstance::shutdown);
+    }
+
+    @Test
+    void givenClusteredMembers_whenStarted_thenAllJoinOneCluster() {
+        for (HazelcastInstance member : members) {
+            assertEquals(MEMBERS, member.getCluster().getMembers().size());
+        }
+    }
+
+    @Test
+    void givenEntryNearCachedOnOtherMembers_whenOneMemberUpdates_thenOthersReadNewValue() {
+        // Arrange
+        Long key = remoteKeyFor(1, 1, 2);
+        itemCaches.get(0).put(key, item(key, 10));
+        readTwice(1, key);
+        readTwice(2, key);
+
+        // Act
+        itemCaches.get(0).put(key, item(key, 9));
+
+        // Assert
+        assertEquals(9, awaitValue(() -> stock(1, key), 9));
+        assertEquals(9, awaitValue(() -> stock(2, key), 9));
+        assertThat(nearCacheHits(1)).isPositive();
+    }
+
+    @Test
+    void givenEntryNearCachedOnOtherMembers_whenOneMemberEvicts_thenOthersMiss() {
+        // Arrange
+        Long key = remoteKeyFor(1_000, 1, 2);
+        itemCaches.get(0).put(key, item(key, 10));
+        readTwice(1, key);
+        readTwice(2, key);
+
+        // Act
+        itemCaches.get(0).evict(key);
+
+        // Assert
+        assertNull(awaitValue(() -> stock(1, key), null));
+        assertNull(awaitValue(() -> stock(2, key), null));
+    }
+
+    private static List<String> memberAddresses() {
+        List<String> addresses = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            addresses.add("127.0.0.1:" + (PORT + i));
+        }
+        return addresses;
+    }
+
+    // A key owned by neither reader, so both keep it in their near cache instead of reading it locally
+    private static Long remoteKeyFor(long from, int... readers) {
+        for (long key = from; ; key++) {
+            HazelcastInstance owner = null;
+            for (HazelcastInstance member : members) {
+                if (member.getPartitionService().getPartition(key).getOwner().localMember()) {
+                    owner = member;
+                }
+            }
+            boolean ownedByReader = false;
+            for (int reader : readers) {
+                ownedByReader |= members.get(reader) == owner;
+            }
+            if (!ownedByReader) {
+                return key;
+            }
+        }
+    }
+
+    private static void readTwice(int member, Long key) {
+        stock(member, key);
+        stock(member, key);
+    }
+
+    private static Integer stock(int member, Long key) {
+        ItemInfo item = itemCaches.get(member).get(key, ItemInfo.class);
+        return item == null ? null : item.getRemainingStock();
+    }
+
+    private static long nearCacheHits(int member) {
+        return members.get(member).getMap(HazelcastConfig.ITEM_CACHE).getLocalMapStats().getNearCacheStats().getHits();
+    }
+
+    // Invalidation events are delivered asynchronously, so give them a moment to arrive
+    private static Integer awaitValue(Supplier<Integer> read, Integer expected) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Integer value = read.get();
+        while (!Objects.equals(value, expected) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            value = read.get();
+        }
+        return value;
+    }
+
+    private static ItemInfo item(Long id, int stock) {
+        ItemInfo item = ItemInfo.builder().id(id).name("item-" + id).price(1.0).remainingStock(stock).build();
+        item.setVersion(1L);
+        return item;
+    }
+}
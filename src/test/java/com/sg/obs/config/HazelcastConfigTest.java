@@ -0,0 +1,113 @@
+package com.sg.obs.config;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.SerializedResponse;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.enums.OrderStatus;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HazelcastConfigTest {
+
+    private static final HazelcastConfig hazelcastConfig = new HazelcastConfig();
+
+    private static HazelcastInstance hazelcastInstance;
+
+    @BeforeAll
+    static void setUp() {
+        hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(
+                HazelcastConfig.config(HazelcastConfig.INSTANCE_NAME, HazelcastConfig.ClusterSettings.standalone()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void givenConcurrentMisses_whenGetWithLoader_thenLoadOnce(boolean l1Enabled) throws Exception {
+        // Arrange
+        CacheManager cacheManager = hazelcastConfig.cacheManager(hazelcastInstance, new SimpleMeterRegistry(), "node-a",
+                l1Enabled, Set.of(HazelcastConfig.ITEM_CACHE), 100, Duration.ofMinutes(1));
+        Cache cache = cacheManager.getCache(HazelcastConfig.ITEM_CACHE);
+        Long key = l1Enabled ? -2L : -1L;
+        cache.evict(key);
+
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int callers = 16;
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(key, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(200);
+                        return "item";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("item", result.get());
+            }
+        }
+
+        // Assert
+        assertEquals(1, loads.get());
+        cache.evict(key);
+    }
+
+    @Test
+    void givenCachedDtos_whenRoundTrip_thenUseCompactAndKeepFields() {
+        // Arrange
+        SerializationService serializationService = ((SerializationServiceSupport) hazelcastInstance).getSerializationService();
+        ItemInfo item = ItemInfo.builder().id(1L).name("Pen").price(2.5).version(3L)
+                .createdDate(LocalDateTime.of(2024, 1, 2, 3, 4, 5)).createdBy("SYSTEM").build();
+        OrderInfo order = OrderInfo.builder().orderNo("O0001").itemId(1L).itemName("Pen").qty(2).price(5.0)
+                .status(OrderStatus.CONFIRMED).version(0L).build();
+        PageWrapper<ItemInfo> page = PageWrapper.of(new PagedModel<>(new PageImpl<>(List.of(item), PageRequest.of(0, 1), 4)), true);
+        List<Object> values = List.of(item, page, ApiResponse.setSuccess(order),
+                ApiResponse.setSuccess(PageWrapper.of(new PagedModel<>(new PageImpl<>(List.of(order))))),
+                new SerializedResponse(new byte[]{1, 2}, "\"tag\""));
+
+        for (Object value : values) {
+            // Act
+            Data data = serializationService.toData(value);
+            Object copy = serializationService.toObject(data);
+
+            // Assert
+            assertTrue(data.isCompact(), value.getClass().getSimpleName());
+            assertThat(copy).usingRecursiveComparison().isEqualTo(value);
+        }
+    }
+}
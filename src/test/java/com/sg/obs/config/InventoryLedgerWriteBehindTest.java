@@ -0,0 +1,119 @@
+package com.sg.obs.config;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapStore;
+import com.hazelcast.spi.merge.PutIfAbsentMergePolicy;
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.enums.InventoryType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two clustered members write the inventory ledger behind to recording stores. The member that accepted the movements
+ * is terminated before its write-behind queue is flushed; the survivor's promoted backups must still write them all.
+ */
+class InventoryLedgerWriteBehindTest {
+
+    private static final int PORT = 5811;
+    private static final int MOVEMENTS = 200;
+    private static final int WRITE_DELAY_SECONDS = 5;
+
+    @Test
+    void givenBackups_whenMemberCrashesBeforeFlush_thenNoAcceptedMovementIsLost() throws InterruptedException {
+        // Arrange
+        HazelcastConfig.ClusterSettings cluster = new HazelcastConfig.ClusterSettings(true,
+                "ledger-test-" + UUID.randomUUID(), List.of("127.0.0.1:" + PORT, "127.0.0.1:" + (PORT + 1)), PORT, 1,
+                PutIfAbsentMergePolicy.class.getName(), Set.of(), 0);
+        RecordingStore crashedStore = new RecordingStore();
+        RecordingStore survivorStore = new RecordingStore();
+        HazelcastInstance crashed = start("ledger-test-0", cluster, crashedStore);
+        HazelcastInstance survivor = start("ledger-test-1", cluster, survivorStore);
+        try {
+            IMap<Long, InventoryMovement> ledger = crashed.getMap(HazelcastConfig.INVENTORY_LEDGER_MAP);
+            LongStream.rangeClosed(1, MOVEMENTS).forEach(id -> ledger.set(id,
+                    new InventoryMovement(id, 1L, 1, InventoryType.T, System.currentTimeMillis())));
+
+            // Act
+            crashed.getLifecycleService().terminate();
+
+            // Assert
+            Set<Long> accepted = LongStream.rangeClosed(1, MOVEMENTS).boxed().collect(Collectors.toSet());
+            long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (!stored(crashedStore, survivorStore).containsAll(accepted) && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertThat(stored(crashedStore, survivorStore)).containsAll(accepted);
+            assertThat(crashedStore.ids).isEmpty();
+        } finally {
+            survivor.shutdown();
+        }
+    }
+
+    private static HazelcastInstance start(String name, HazelcastConfig.ClusterSettings cluster, RecordingStore store) {
+        Config config = HazelcastConfig.config(name, cluster);
+        config.setProperty("hazelcast.wait.seconds.before.join", "0");
+        HazelcastConfig.addInventoryLedgerStore(config, store, WRITE_DELAY_SECONDS, 50);
+        return Hazelcast.newHazelcastInstance(config);
+    }
+
+    private static Set<Long> stored(RecordingStore... stores) {
+        Set<Long> ids = new HashSet<>();
+        for (RecordingStore store : stores) {
+            ids.addAll(store.ids);
+        }
+        return ids;
+    }
+
+    private static class RecordingStore implements MapStore<Long, InventoryMovement> {
+
+        private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void store(Long id, InventoryMovement movement) {
+            ids.add(id);
+        }
+
+        @Override
+        public void storeAll(Map<Long, InventoryMovement> movements) {
+            ids.addAll(movements.keySet());
+        }
+
+        @Override
+        public void delete(Long id) {
+        }
+
+        @Override
+        public void deleteAll(Collection<Long> ids) {
+        }
+
+        @Override
+        public InventoryMovement load(Long id) {
+            return null;
+        }
+
+        @Override
+        public Map<Long, InventoryMovement> loadAll(Collection<Long> ids) {
+            return Map.of();
+        }
+
+        @Override
+        public Iterable<Long> loadAllKeys() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.sg.obs.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MeteredCacheManagerTest {
+
+    private MeterRegistry meterRegistry;
+
+    private MeteredCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ConcurrentMapCacheManager delegate = new ConcurrentMapCacheManager(HazelcastConfig.ITEM_CACHE);
+        cacheManager = new MeteredCacheManager(delegate, meterRegistry);
+    }
+
+    @Test
+    void givenCachedEntry_whenGet_thenCountHitsAndMisses() {
+        // Act
+        Cache cache = cacheManager.getCache(HazelcastConfig.ITEM_CACHE);
+        cache.get(1L);
+        cache.put(1L, "item");
+        cache.get(1L);
+        cache.get(1L, () -> "loaded");
+        cache.get(2L, () -> "loaded");
+        cache.evict(1L);
+
+        // Assert
+        assertInstanceOf(MeteredCache.class, cache);
+        assertSame(cache, cacheManager.getCache(HazelcastConfig.ITEM_CACHE));
+        assertEquals(2, count("cache.gets", "result", "hit"));
+        assertEquals(2, count("cache.gets", "result", "miss"));
+        assertEquals(1, meterRegistry.get("cache.puts").tag("cache", HazelcastConfig.ITEM_CACHE).counter().count());
+        assertEquals(1, meterRegistry.get("cache.evictions").tag("cache", HazelcastConfig.ITEM_CACHE).counter().count());
+    }
+
+    @Test
+    void givenUnknownCache_whenGetCache_thenReturnNull() {
+        // Act & Assert
+        assertNull(cacheManager.getCache("unknown"));
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tag("cache", HazelcastConfig.ITEM_CACHE).tag(tag, value).counter().count();
+    }
+}
@@ -0,0 +1,112 @@
+package com.sg.obs.config;
+
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.MessageListener;
+import com.sg.obs.dto.CacheInvalidationMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private ITopic<CacheInvalidationMessage> invalidationTopic;
+
+    @Captor
+    private ArgumentCaptor<MessageListener<CacheInvalidationMessage>> listenerCaptor;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrentMapCacheManager l2;
+
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new ConcurrentMapCacheManager(HazelcastConfig.ITEM_CACHE, HazelcastConfig.PAGED_ITEM_CACHE);
+        cacheManager = new TwoLevelCacheManager(l2, invalidationTopic, "node-a", Set.of(HazelcastConfig.ITEM_CACHE),
+                100, Duration.ofMinutes(1), meterRegistry);
+        verify(invalidationTopic).addMessageListener(listenerCaptor.capture());
+    }
+
+    @Test
+    void givenEntryInL2_whenReadTwice_thenSecondReadIsServedFromL1() {
+        // Arrange
+        l2.getCache(HazelcastConfig.ITEM_CACHE).put(1L, "item");
+        Cache cache = cacheManager.getCache(HazelcastConfig.ITEM_CACHE);
+
+        // Act
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // Assert
+        assertEquals(1, count("l1", "hit"));
+        assertEquals(2, count("l1", "miss"));
+        assertEquals(1, count("l2", "hit"));
+        assertEquals(1, count("l2", "miss"));
+    }
+
+    @Test
+    void givenEvict_whenEvicted_thenPublishInvalidationForPeers() {
+        // Arrange
+        l2.getCache(HazelcastConfig.ITEM_CACHE).put(1L, "item");
+        Cache cache = cacheManager.getCache(HazelcastConfig.ITEM_CACHE);
+        cache.get(1L);
+
+        // Act
+        cache.evict(1L);
+
+        // Assert
+        verify(invalidationTopic).publish(new CacheInvalidationMessage("node-a", HazelcastConfig.ITEM_CACHE, 1L));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void givenPeerInvalidation_whenReceived_thenDropL1CopyAndReadL2Again() {
+        // Arrange
+        Cache cache = cacheManager.getCache(HazelcastConfig.ITEM_CACHE);
+        cache.put(1L, "old");
+        // A peer wrote straight to the shared cache
+        l2.getCache(HazelcastConfig.ITEM_CACHE).put(1L, "new");
+        assertEquals("old", cache.get(1L).get());
+
+        // Act
+        listenerCaptor.getValue().onMessage(new Message<>(HazelcastConfig.CACHE_INVALIDATION_TOPIC,
+                new CacheInvalidationMessage("node-b", HazelcastConfig.ITEM_CACHE, 1L), 0, null));
+
+        // Assert
+        assertEquals("new", cache.get(1L).get());
+    }
+
+    @Test
+    void givenCacheWithoutL1_whenGetCache_thenReturnDelegateCache() {
+        // Act & Assert
+        assertInstanceOf(ConcurrentMapCache.class, cacheManager.getCache(HazelcastConfig.PAGED_ITEM_CACHE));
+        assertInstanceOf(TwoLevelCache.class, cacheManager.getCache(HazelcastConfig.ITEM_CACHE));
+    }
+
+    private double count(String level, String result) {
+        return meterRegistry.get("cache.level.gets").tag("cache", HazelcastConfig.ITEM_CACHE)
+                .tag("level", level).tag("result", result).counter().count();
+    }
+}
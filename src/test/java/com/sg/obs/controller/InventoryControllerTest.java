@@ -1,5 +1,6 @@
 package com.sg.obs.controller;
 
+import com.sg.obs.aspect.IdempotencyAspect;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.ApiResponse;
 import com.sg.obs.dto.inventory.CreateInventoryRequest;
@@ -22,12 +23,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.util.List;
+import java.util.UUID;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -72,7 +76,7 @@ class InventoryControllerTest {
     void getInventoryList_ShouldReturnPagedModel() {
         // Mock service
         Page<InventoryInfo> page = new PageImpl<>(List.of(createInventoryInfo(2L, 3L, "Item 4", 1208101062, InventoryType.W)));
-        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(inventoryService).getInventoryList(any(Pageable.class));
+        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(inventoryService).getInventoryList(any(Pageable.class), anyBoolean());
 
         // Act
         ApiResponse<PageWrapper<InventoryInfo>> response = given().accept(ContentType.JSON)
@@ -87,14 +91,14 @@ class InventoryControllerTest {
         assertThat(response)
                 .usingRecursiveComparison()
                 .isEqualTo(ApiResponse.setSuccess(new PageWrapper<>(new PagedModel<>(page))));
-        verify(inventoryService).getInventoryList(any(Pageable.class));
+        verify(inventoryService).getInventoryList(any(Pageable.class), anyBoolean());
     }
 
     @Test
     void getInventoryList_ShouldReturnEmptyResult() {
         // Mock service
         Page<InventoryInfo> page = new PageImpl<>(List.of());
-        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(inventoryService).getInventoryList(any(Pageable.class));
+        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(inventoryService).getInventoryList(any(Pageable.class), anyBoolean());
 
         // Act
         ApiResponse<PageWrapper<InventoryInfo>> response = given().accept(ContentType.JSON)
@@ -110,7 +114,7 @@ class InventoryControllerTest {
                 .usingRecursiveComparison()
                 .isEqualTo(ApiResponse.setSuccess(new PageWrapper<>(new PagedModel<>(page))));
 
-        verify(inventoryService).getInventoryList(any(Pageable.class));
+        verify(inventoryService).getInventoryList(any(Pageable.class), anyBoolean());
     }
 
     @Test
@@ -142,6 +146,37 @@ class InventoryControllerTest {
         verify(inventoryService).addInventory(any(CreateInventoryRequest.class));
     }
 
+    @Test
+    void givenRepeatedIdempotencyKey_whenCreateInventory_thenReplayStoredResponse() {
+        // Mock service
+        InventoryInfo info = createInventoryInfo(1L, 1L, "Item 1", 10, InventoryType.W);
+        doReturn(ApiResponse.setResponse(info, 201)).when(inventoryService).addInventory(any(CreateInventoryRequest.class));
+
+        // Act
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateInventoryRequest request = CreateInventoryRequest.builder()
+                .itemId(1L)
+                .quantity(10)
+                .type(InventoryType.W)
+                .build();
+        for (int i = 0; i < 2; i++) {
+            ApiResponse<InventoryInfo> response = given().contentType(ContentType.JSON)
+                    .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                    .body(request)
+                    .when().post("")
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value())
+                    .extract().as(new TypeRef<>() {
+                    });
+
+            // Then
+            assertThat(response)
+                    .usingRecursiveComparison()
+                    .isEqualTo(ApiResponse.setResponse(info, 201));
+        }
+        verify(inventoryService, times(1)).addInventory(any(CreateInventoryRequest.class));
+    }
+
     @Test
     void givenInvalidPayload_whenCreateInventory_thenReturnBadRequest() {
         CreateInventoryRequest request = CreateInventoryRequest.builder()
@@ -5,7 +5,10 @@ import com.sg.obs.dto.ApiResponse;
 import com.sg.obs.dto.item.CreateItemRequest;
 import com.sg.obs.dto.item.ItemInfo;
 import com.sg.obs.dto.item.UpdateItemRequest;
+import com.sg.obs.dto.sales.SalesRollupInfo;
+import com.sg.obs.enums.SalesWindow;
 import com.sg.obs.service.ItemService;
+import com.sg.obs.service.SalesRollupService;
 import io.restassured.RestAssured;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
@@ -21,12 +24,14 @@ import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 
@@ -40,6 +45,9 @@ class ItemControllerTest {
     @MockitoBean
     private ItemService itemService;
 
+    @MockitoBean
+    private SalesRollupService salesRollupService;
+
     @BeforeEach
     void setUp() {
         RestAssured.port = port;
@@ -58,7 +66,7 @@ class ItemControllerTest {
         PagedModel<ItemInfo> pagedModel = new PagedModel<>(page);
         ApiResponse<PagedModel<ItemInfo>> apiResponse = ApiResponse.setSuccess(pagedModel);
 
-        doReturn(apiResponse).when(itemService).getItemsList(any(Pageable.class));
+        doReturn(apiResponse).when(itemService).getItemsList(any(Pageable.class), anyBoolean());
 
         // When
         ApiResponse<PageWrapper<ItemInfo>> response = given()
@@ -231,7 +239,7 @@ class ItemControllerTest {
         Page<ItemInfo> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
         PagedModel<ItemInfo> emptyPagedModel = new PagedModel<>(emptyPage);
 
-        doReturn(ApiResponse.setSuccess(emptyPagedModel)).when(itemService).getItemsList(any(Pageable.class));
+        doReturn(ApiResponse.setSuccess(emptyPagedModel)).when(itemService).getItemsList(any(Pageable.class), anyBoolean());
 
         // When
         ApiResponse<PageWrapper<ItemInfo>> response = given().queryParam("page", 0)
@@ -276,6 +284,52 @@ class ItemControllerTest {
     }
 
     // Helper method to create ItemInfo objects
+    @Test
+    void getItemSales_ShouldReturnRollups_ForRequestedWindow() {
+        // Given
+        SalesRollupInfo rollup = SalesRollupInfo.builder()
+                .itemId(1L)
+                .window(SalesWindow.DAY)
+                .windowStart(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .windowEnd(LocalDateTime.of(2026, 1, 2, 0, 0))
+                .units(4L)
+                .revenue(40.0)
+                .stockDelta(-4L)
+                .build();
+        doReturn(ApiResponse.setSuccess(List.of(rollup))).when(salesRollupService).getSalesRollups(1L, SalesWindow.DAY, 7);
+
+        // When
+        ApiResponse<List<SalesRollupInfo>> response = given().pathParam("id", 1L)
+                .queryParam("window", "DAY")
+                .queryParam("count", 7)
+                .accept(ContentType.JSON)
+                .when()
+                .get("/{id}/sales")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .extract()
+                .response()
+                .as(new TypeRef<>() {
+                });
+
+        // Then
+        assertThat(response)
+                .usingRecursiveComparison()
+                .isEqualTo(ApiResponse.setSuccess(List.of(rollup)));
+    }
+
+    @Test
+    void getItemSales_ShouldReturnBadRequest_WhenWindowUnknown() {
+        // When & Then
+        given().pathParam("id", 1L)
+                .queryParam("window", "WEEK")
+                .accept(ContentType.JSON)
+                .when().get("/{id}/sales")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     private ItemInfo createItemInfo(Long id, String name, double price) {
         return ItemInfo.builder()
                 .id(id)
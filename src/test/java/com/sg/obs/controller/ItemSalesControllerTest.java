@@ -0,0 +1,84 @@
+package com.sg.obs.controller;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Places orders and a top-up through the API with the rollup job running and reads them back from every window.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.sales.rollup.enabled=true",
+        "app.sales.rollup.allowed-lag=100ms",
+        "app.sales.rollup.early-results-period=100ms"})
+@ActiveProfiles("test")
+class ItemSalesControllerTest {
+
+    private static final long ITEM_ID = 3L;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.basePath = "/v1";
+    }
+
+    @Test
+    void getItemSales_ShouldRollUpCommittedOrdersAndStockMovements() {
+        // Given
+        given().contentType(ContentType.JSON).body("{\"itemId\":3,\"quantity\":10,\"type\":\"T\"}")
+                .when().post("/inventories")
+                .then().statusCode(HttpStatus.CREATED.value());
+        given().contentType(ContentType.JSON).body("{\"itemId\":3,\"qty\":2}")
+                .when().post("/orders")
+                .then().statusCode(HttpStatus.CREATED.value());
+        given().contentType(ContentType.JSON).body("{\"orders\":[{\"itemId\":3,\"qty\":1}]}")
+                .when().post("/orders/batch")
+                .then().statusCode(HttpStatus.CREATED.value());
+
+        // When & Then - price 30: 3 units sold, 10 topped up and 3 withdrawn
+        for (String window : new String[]{"MINUTE", "HOUR", "DAY", "TRAILING_HOUR"}) {
+            JsonPath sales = awaitUnits(window, 3);
+            assertEquals(1, sales.getList("data").size(), window);
+            assertEquals(3, sales.getInt("data[0].units"), window);
+            assertEquals(90.0, sales.getDouble("data[0].revenue"), window);
+            assertEquals(7, sales.getInt("data[0].stockDelta"), window);
+        }
+    }
+
+    // Rollups are written by the job shortly after the commit
+    private JsonPath awaitUnits(String window, int units) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        JsonPath sales = sales(window);
+        while (!sales.getList("data.units").equals(List.of(units)) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+            sales = sales(window);
+        }
+        return sales;
+    }
+
+    private JsonPath sales(String window) {
+        return given().pathParam("id", ITEM_ID)
+                .queryParam("window", window)
+                .accept(ContentType.JSON)
+                .when().get("/items/{id}/sales")
+                .then().statusCode(HttpStatus.OK.value())
+                .extract().jsonPath();
+    }
+}
@@ -1,9 +1,15 @@
 package com.sg.obs.controller;
 
+import com.sg.obs.aspect.IdempotencyAspect;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.order.CreateOrderBatchRequest;
 import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderBatchResult;
 import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.OrderLineResult;
+import com.sg.obs.exception.InsufficientStockException;
 import com.sg.obs.dto.order.UpdateOrderRequest;
 import com.sg.obs.service.OrderService;
 import io.restassured.RestAssured;
@@ -20,13 +26,21 @@ import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.restassured.RestAssured.given;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -79,7 +93,7 @@ class OrderControllerTest {
     void getOrderList_ShouldReturnPagedModel() {
         // Mock service
         Page<OrderInfo> page = new PageImpl<>(List.of());
-        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(orderService).getOrderList(any(Pageable.class));
+        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(orderService).getOrderList(any(Pageable.class), anyBoolean());
 
         // Act
         ApiResponse<PageWrapper<OrderInfo>> response = given().accept(ContentType.JSON)
@@ -94,14 +108,42 @@ class OrderControllerTest {
         assertThat(response)
                 .usingRecursiveComparison()
                 .isEqualTo(ApiResponse.setSuccess(new PageWrapper<>(new PagedModel<>(page))));
-        verify(orderService).getOrderList(any(Pageable.class));
+        verify(orderService).getOrderList(any(Pageable.class), anyBoolean());
+    }
+
+    @Test
+    void scrollOrders_ShouldReturnNextCursor() {
+        // Mock service
+        OrderInfo orderInfo = OrderInfo.builder()
+                .orderNo("202506000000000000001")
+                .qty(1)
+                .build();
+        CursorPage<OrderInfo> page = new CursorPage<>(List.of(orderInfo), 1, "AAAAAAAAAAE");
+        doReturn(ApiResponse.setSuccess(page)).when(orderService).scrollOrders("AAAAAAAAAAA", 1);
+
+        // Act
+        ApiResponse<CursorPage<OrderInfo>> response = given().accept(ContentType.JSON)
+                .queryParam("after", "AAAAAAAAAAA")
+                .queryParam("size", 1)
+                .when().get("/scroll")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(ContentType.JSON)
+                .extract().as(new TypeRef<>() {
+                });
+
+        // Then
+        assertThat(response)
+                .usingRecursiveComparison()
+                .isEqualTo(ApiResponse.setSuccess(page));
+        verify(orderService).scrollOrders("AAAAAAAAAAA", 1);
     }
 
     @Test
     void getOrderList_ShouldReturnEmptyResult() {
         // Mock service
         Page<OrderInfo> page = new PageImpl<>(List.of());
-        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(orderService).getOrderList(any(Pageable.class));
+        doReturn(ApiResponse.setSuccess(new PagedModel<>(page))).when(orderService).getOrderList(any(Pageable.class), anyBoolean());
 
         // Act
         ApiResponse<PageWrapper<OrderInfo>> response = given().accept(ContentType.JSON)
@@ -116,7 +158,7 @@ class OrderControllerTest {
         assertThat(response)
                 .usingRecursiveComparison()
                 .isEqualTo(ApiResponse.setSuccess(new PageWrapper<>(new PagedModel<>(page))));
-        verify(orderService).getOrderList(any(Pageable.class));
+        verify(orderService).getOrderList(any(Pageable.class), anyBoolean());
     }
 
     @Test
@@ -152,6 +194,95 @@ class OrderControllerTest {
         verify(orderService).createOrder(any(CreateOrderRequest.class));
     }
 
+    @Test
+    void givenRepeatedIdempotencyKey_whenAddOrder_thenShouldReplayStoredResponse() {
+        // Mock service
+        OrderInfo orderInfo = OrderInfo.builder()
+                .orderNo("20250600000001")
+                .qty(1)
+                .build();
+        doReturn(ApiResponse.setResponse(orderInfo, 201)).when(orderService).createOrder(any(CreateOrderRequest.class));
+
+        // Act
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderRequest payload = new CreateOrderRequest(1L, 1);
+        ApiResponse<OrderInfo> first = given().contentType(ContentType.JSON)
+                .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(payload)
+                .when().post("")
+                .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .extract().as(new TypeRef<>() {
+                });
+        ApiResponse<OrderInfo> replay = given().contentType(ContentType.JSON)
+                .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(payload)
+                .when().post("")
+                .then()
+                .statusCode(HttpStatus.CREATED.value())
+                .header(IdempotencyAspect.IDEMPOTENT_REPLAYED_HEADER, "true")
+                .extract().as(new TypeRef<>() {
+                });
+
+        // Then
+        assertThat(replay).usingRecursiveComparison().isEqualTo(first);
+        verify(orderService, times(1)).createOrder(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    void givenConcurrentDuplicates_whenAddOrder_thenShouldExecuteOnce() throws Exception {
+        // Mock service to take a while
+        doAnswer(invocation -> {
+            Thread.sleep(200);
+            return ApiResponse.setResponse(OrderInfo.builder().orderNo("20250600000001").build(), 201);
+        }).when(orderService).createOrder(any(CreateOrderRequest.class));
+
+        // Act
+        String idempotencyKey = UUID.randomUUID().toString();
+        CreateOrderRequest payload = new CreateOrderRequest(1L, 1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                statuses.add(executor.submit(() -> given().contentType(ContentType.JSON)
+                        .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                        .body(payload)
+                        .when().post("")
+                        .statusCode()));
+            }
+
+            // Then
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get()).isEqualTo(HttpStatus.CREATED.value());
+            }
+        }
+        verify(orderService, times(1)).createOrder(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    void givenIdempotencyKeyReusedWithDifferentPayload_whenAddOrder_thenShouldReturnUnprocessableEntity() {
+        // Mock service
+        doReturn(ApiResponse.setResponse(OrderInfo.builder().orderNo("20250600000001").build(), 201))
+                .when(orderService).createOrder(any(CreateOrderRequest.class));
+
+        // Act
+        String idempotencyKey = UUID.randomUUID().toString();
+        given().contentType(ContentType.JSON)
+                .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(new CreateOrderRequest(1L, 1))
+                .when().post("")
+                .then()
+                .statusCode(HttpStatus.CREATED.value());
+        given().contentType(ContentType.JSON)
+                .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                .body(new CreateOrderRequest(1L, 2))
+                .when().post("")
+                .then()
+                .statusCode(HttpStatus.UNPROCESSABLE_ENTITY.value());
+
+        // Then
+        verify(orderService, times(1)).createOrder(any(CreateOrderRequest.class));
+    }
+
     @Test
     void givenInvalidCreateOrderRequest_whenAddOrder_thenShouldReturnBadRequest() {
         // Act
@@ -165,6 +296,58 @@ class OrderControllerTest {
                 .statusCode(HttpStatus.BAD_REQUEST.value());
     }
 
+    @Test
+    void givenPartiallyValidBatch_whenAddOrders_thenShouldReturnMultiStatus() {
+        // Mock service
+        OrderInfo orderInfo = OrderInfo.builder()
+                .orderNo("20250600000001")
+                .qty(1)
+                .price(23.0)
+                .itemName("Item 1")
+                .build();
+        OrderBatchResult batchResult = OrderBatchResult.builder()
+                .accepted(1)
+                .rejected(1)
+                .lines(List.of(
+                        OrderLineResult.accepted(0, orderInfo),
+                        OrderLineResult.rejected(1, new InsufficientStockException())))
+                .build();
+
+        doReturn(ApiResponse.setResponse(batchResult, 207)).when(orderService).createOrders(any(CreateOrderBatchRequest.class));
+
+        // Act
+        CreateOrderBatchRequest payload = CreateOrderBatchRequest.builder()
+                .orders(List.of(new CreateOrderRequest(1L, 1), new CreateOrderRequest(1L, 100)))
+                .build();
+        ApiResponse<OrderBatchResult> response = given().contentType(ContentType.JSON)
+                .body(payload)
+                .when().post("/batch")
+                .then()
+                .statusCode(HttpStatus.MULTI_STATUS.value())
+                .contentType(ContentType.JSON)
+                .extract().as(new TypeRef<>() {
+                });
+
+        // Then
+        assertThat(response)
+                .usingRecursiveComparison()
+                .isEqualTo(ApiResponse.setResponse(batchResult, 207));
+        verify(orderService).createOrders(any(CreateOrderBatchRequest.class));
+    }
+
+    @Test
+    void givenInvalidBatchLine_whenAddOrders_thenShouldReturnBadRequest() {
+        // Act
+        CreateOrderBatchRequest payload = CreateOrderBatchRequest.builder()
+                .orders(List.of(CreateOrderRequest.builder().qty(1).build()))
+                .build();
+        given().contentType(ContentType.JSON)
+                .body(payload)
+                .when().post("/batch")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     void givenInvalidUpdateOrderRequest_whenUpdateOrder_thenShouldReturnBadRequest() {
         // Act
@@ -0,0 +1,64 @@
+package com.sg.obs.models;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg.obs.config.MapperConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderNoTest {
+
+    @Test
+    void givenExistingOrderNumberText_whenParse_thenRoundTripToSameText() {
+        // Act
+        OrderNo orderNo = OrderNo.parse("202506000000000000123");
+
+        // Assert
+        assertThat(orderNo.month()).isEqualTo(YearMonth.of(2025, 6));
+        assertThat(orderNo.sequence()).isEqualTo(123L);
+        assertThat(orderNo.toString()).isEqualTo("202506000000000000123");
+        assertThat(new OrderNo(orderNo.value())).isEqualTo(orderNo);
+    }
+
+    @Test
+    void givenMonthAndSequence_whenPack_thenOrderFollowsMonthThenSequence() {
+        // Act
+        OrderNo december = OrderNo.of(YearMonth.of(2025, 12), OrderNo.MAX_SEQUENCE);
+        OrderNo january = OrderNo.of(YearMonth.of(2026, 1), 1L);
+        OrderNo laterJanuary = OrderNo.of(YearMonth.of(2026, 1), 2L);
+
+        // Assert
+        assertThat(december.value()).isPositive();
+        assertThat(december).isLessThan(january);
+        assertThat(january).isLessThan(laterJanuary);
+        assertThat(december.toString()).isEqualTo("202512" + String.format("%015d", OrderNo.MAX_SEQUENCE));
+    }
+
+    @Test
+    void givenMalformedText_whenParse_thenRejected() {
+        // Assert
+        assertThatThrownBy(() -> OrderNo.parse("20250600000001")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderNo.parse("202513000000000000001")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderNo.parse("2025060000000000000x1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderNo.of(YearMonth.of(2025, 6), OrderNo.MAX_SEQUENCE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(OrderNo.tryParse(null)).isEmpty();
+    }
+
+    @Test
+    void givenOrderNo_whenSerialize_thenWrittenAsText() throws Exception {
+        // Arrange
+        ObjectMapper mapper = new MapperConfig().objectMapper();
+        OrderNo orderNo = OrderNo.parse("202506000000000000001");
+
+        // Act
+        String json = mapper.writeValueAsString(orderNo);
+
+        // Assert
+        assertThat(json).isEqualTo("\"202506000000000000001\"");
+        assertThat(mapper.readValue(json, OrderNo.class)).isEqualTo(orderNo);
+    }
+}
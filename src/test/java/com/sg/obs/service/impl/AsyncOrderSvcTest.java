@@ -0,0 +1,99 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.scheduler.OrderQueueWorker;
+import com.sg.obs.service.OrderQueueService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncOrderSvcTest {
+
+    private static final String ORDER_NO = "202506000000000000001";
+
+    @Mock
+    private OrderSvc orderSvc;
+
+    @Mock
+    private OrderQueueService orderQueueService;
+
+    @Mock
+    private OrderQueueWorker orderQueueWorker;
+
+    @InjectMocks
+    private AsyncOrderSvc asyncOrderSvc;
+
+    @Test
+    void givenValidOrderRequest_whenCreateOrder_thenReturnAccepted() {
+        // Mock queue
+        OrderInfo pending = OrderInfo.builder().orderNo(ORDER_NO).status(OrderStatus.PENDING).build();
+        doReturn(pending).when(orderQueueService).enqueue(any(CreateOrderRequest.class));
+
+        // Act
+        ApiResponse<OrderInfo> response = asyncOrderSvc.createOrder(new CreateOrderRequest(1L, 2));
+
+        // Assert
+        assertEquals(202, response.getCode());
+        assertEquals(OrderStatus.PENDING, response.getData().getStatus());
+        verify(orderQueueWorker).wakeUp();
+    }
+
+    @Test
+    void givenQueuedOrder_whenGetOrderByOrderNo_thenReturnQueuedStatus() {
+        // Mock repo
+        doThrow(new DataNotFoundException("Order not found")).when(orderSvc).getOrderByOrderNo(ORDER_NO);
+        OrderInfo pending = OrderInfo.builder().orderNo(ORDER_NO).status(OrderStatus.PENDING).build();
+        doReturn(Optional.of(ApiResponse.setSuccess(pending))).when(orderQueueService).findQueued(OrderNo.parse(ORDER_NO));
+
+        // Act
+        ApiResponse<OrderInfo> response = asyncOrderSvc.getOrderByOrderNo(ORDER_NO);
+
+        // Assert
+        assertEquals(200, response.getCode());
+        assertEquals(OrderStatus.PENDING, response.getData().getStatus());
+    }
+
+    @Test
+    void givenSettledOrder_whenGetOrderByOrderNo_thenReturnConfirmed() {
+        // Mock repo
+        OrderInfo settled = OrderInfo.builder().orderNo(ORDER_NO).qty(2).build();
+        doReturn(ApiResponse.setSuccess(settled)).when(orderSvc).getOrderByOrderNo(ORDER_NO);
+
+        // Act
+        ApiResponse<OrderInfo> response = asyncOrderSvc.getOrderByOrderNo(ORDER_NO);
+
+        // Assert
+        assertEquals(200, response.getCode());
+        assertEquals(OrderStatus.CONFIRMED, response.getData().getStatus());
+        assertEquals(2, response.getData().getQty());
+        assertNull(settled.getStatus());
+    }
+
+    @Test
+    void givenUnknownOrder_whenGetOrderByOrderNo_thenThrowDataNotFoundException() {
+        // Mock repo
+        doThrow(new DataNotFoundException("Order not found")).when(orderSvc).getOrderByOrderNo(ORDER_NO);
+        doReturn(Optional.empty()).when(orderQueueService).findQueued(OrderNo.parse(ORDER_NO));
+
+        // Act & Assert
+        assertThrows(DataNotFoundException.class, () -> asyncOrderSvc.getOrderByOrderNo(ORDER_NO));
+    }
+}
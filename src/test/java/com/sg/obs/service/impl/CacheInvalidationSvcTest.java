@@ -0,0 +1,206 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.PageTags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationSvcTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private IMap<String, PageTags> pageTags;
+
+    @Mock
+    private IMap<String, Long> generations;
+
+    @Mock
+    private Cache itemCache;
+
+    @Mock
+    private Cache pagedItemCache;
+
+    @Mock
+    private Cache pagedOrderCache;
+
+    @Mock
+    private Cache orderCache;
+
+    @Mock
+    private Cache responseCache;
+
+    private CacheInvalidationSvc cacheInvalidationSvc;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(pageTags).when(hazelcastInstance).getMap(HazelcastConfig.PAGE_TAGS_MAP);
+        doReturn(generations).when(hazelcastInstance).getMap(HazelcastConfig.CACHE_GENERATIONS_MAP);
+        cacheInvalidationSvc = new CacheInvalidationSvc(cacheManager, hazelcastInstance, false);
+    }
+
+    @Test
+    void givenTaggedPages_whenItemChanged_thenEvictOnlyPagesContainingItem() {
+        // Mock repo
+        doReturn(itemCache).when(cacheManager).getCache(HazelcastConfig.ITEM_CACHE);
+        doReturn(pagedItemCache).when(cacheManager).getCache(HazelcastConfig.PAGED_ITEM_CACHE);
+        doReturn(pagedOrderCache).when(cacheManager).getCache(HazelcastConfig.PAGED_ORDER_CACHE);
+        doReturn(orderCache).when(cacheManager).getCache(HazelcastConfig.ORDER_CACHE);
+        PageTags page = new PageTags(HazelcastConfig.PAGED_ITEM_CACHE, "getItemPage_page_0_size_10_false",
+                Set.of("item:1", "item:2"));
+        PageTags order = new PageTags(HazelcastConfig.ORDER_CACHE, "1001", Set.of("order:1001", "item:1"));
+        doReturn(Set.of(Map.entry("pagedItemCache|getItemPage_page_0_size_10_false", page)), Set.of(),
+                Set.of(Map.entry("orderCache|1001", order)))
+                .when(pageTags).entrySet(any(Predicate.class));
+
+        // Act
+        cacheInvalidationSvc.itemChanged(1L);
+
+        // Assert
+        verify(itemCache).evict(1L);
+        verify(pagedItemCache).evict("getItemPage_page_0_size_10_false");
+        verify(pagedItemCache, never()).clear();
+        verify(pagedOrderCache, never()).clear();
+        verify(pageTags).delete("pagedItemCache|getItemPage_page_0_size_10_false");
+        verify(orderCache).evict("1001");
+        verify(pageTags).delete("orderCache|1001");
+    }
+
+    @Test
+    void givenOrdersAdded_whenOrdersAdded_thenClearPagedOrderCacheAndItsTags() {
+        // Mock repo
+        doReturn(pagedOrderCache).when(cacheManager).getCache(HazelcastConfig.PAGED_ORDER_CACHE);
+
+        // Act
+        cacheInvalidationSvc.ordersAdded();
+
+        // Assert
+        verify(pagedOrderCache).clear();
+        verify(pageTags).removeAll(any(Predicate.class));
+        verify(cacheManager, never()).getCache(HazelcastConfig.PAGED_ITEM_CACHE);
+        verify(cacheManager, never()).getCache(HazelcastConfig.ITEM_CACHE);
+    }
+
+    @Test
+    void givenActiveTransaction_whenItemChanged_thenEvictAfterCommit() {
+        // Mock repo
+        doReturn(itemCache).when(cacheManager).getCache(HazelcastConfig.ITEM_CACHE);
+        doReturn(pagedItemCache).when(cacheManager).getCache(HazelcastConfig.PAGED_ITEM_CACHE);
+        doReturn(pagedOrderCache).when(cacheManager).getCache(HazelcastConfig.PAGED_ORDER_CACHE);
+        doReturn(Set.of()).when(pageTags).entrySet(any(Predicate.class));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            cacheInvalidationSvc.itemChanged(3L);
+
+            // Assert
+            verifyNoInteractions(cacheManager);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(itemCache).evict(3L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenResponseCacheEnabled_whenStockChanged_thenEvictResponsesContainingItem() {
+        // Mock repo
+        cacheInvalidationSvc = new CacheInvalidationSvc(cacheManager, hazelcastInstance, true);
+        doReturn(responseCache).when(cacheManager).getCache(HazelcastConfig.RESPONSE_CACHE);
+        PageTags response = new PageTags(HazelcastConfig.RESPONSE_CACHE, "/v1/items/1", Set.of("item:1"));
+        doReturn(Set.of(Map.entry("responseCache|/v1/items/1", response)))
+                .when(pageTags).entrySet(any(Predicate.class));
+
+        // Act
+        cacheInvalidationSvc.stockChanged(1L);
+
+        // Assert
+        verify(responseCache).evict("/v1/items/1");
+        verify(pageTags).delete("responseCache|/v1/items/1");
+    }
+
+    @Test
+    void givenResponseCacheDisabled_whenStockChanged_thenEvictNothing() {
+        // Act
+        cacheInvalidationSvc.stockChanged(1L);
+
+        // Assert
+        verifyNoInteractions(cacheManager);
+        verify(pageTags, never()).entrySet(any(Predicate.class));
+    }
+
+    @Test
+    void givenOrderChangedWhilePageLoading_whenPagePutAfterEviction_thenEvictStalePage() {
+        // Mock repo
+        Map<String, Long> counters = new HashMap<>();
+        doAnswer(invocation -> counters.get(invocation.<String>getArgument(0))).when(generations).get(any());
+        doAnswer(invocation -> counters.merge(invocation.getArgument(0), invocation.getArgument(1), Long::sum))
+                .when(generations).merge(any(), any(), any());
+        Cache pages = new ConcurrentMapCache(HazelcastConfig.PAGED_ORDER_CACHE);
+        doReturn(orderCache).when(cacheManager).getCache(HazelcastConfig.ORDER_CACHE);
+        doReturn(pages).when(cacheManager).getCache(HazelcastConfig.PAGED_ORDER_CACHE);
+        String key = "getOrderList_page_0_size_10_false";
+        PageTags page = new PageTags(HazelcastConfig.PAGED_ORDER_CACHE, key, Set.of("order:1001", "item:1"));
+        doReturn(Set.of(Map.entry("pagedOrderCache|" + key, page))).when(pageTags).entrySet(any(Predicate.class));
+
+        // Act - the loader has read the old rows and tagged its page; the write finds no page yet to evict
+        long generation = cacheInvalidationSvc.generation(HazelcastConfig.PAGED_ORDER_CACHE);
+        cacheInvalidationSvc.tagPage(HazelcastConfig.PAGED_ORDER_CACHE, key, page.getTags());
+        cacheInvalidationSvc.orderChanged("1001");
+        pages.put(key, "stale page");
+        cacheInvalidationSvc.evictIfInvalidatedSince(HazelcastConfig.PAGED_ORDER_CACHE, key, generation);
+
+        // Assert
+        assertNull(pages.get(key));
+        verify(pageTags, times(2)).delete("pagedOrderCache|" + key);
+    }
+
+    @Test
+    void givenNoWriteWhilePageLoading_whenPagePut_thenKeepPage() {
+        // Mock repo
+        doReturn(3L).when(generations).get(HazelcastConfig.PAGED_ORDER_CACHE);
+        Cache pages = new ConcurrentMapCache(HazelcastConfig.PAGED_ORDER_CACHE);
+        String key = "getOrderList_page_0_size_10_false";
+
+        // Act
+        long generation = cacheInvalidationSvc.generation(HazelcastConfig.PAGED_ORDER_CACHE);
+        pages.put(key, "page");
+        cacheInvalidationSvc.evictIfInvalidatedSince(HazelcastConfig.PAGED_ORDER_CACHE, key, generation);
+
+        // Assert
+        assertNotNull(pages.get(key));
+        verifyNoInteractions(cacheManager);
+        verify(pageTags, never()).delete(any());
+    }
+}
@@ -0,0 +1,143 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.PageTags;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.repository.projection.ItemVersion;
+import com.sg.obs.repository.projection.OrderVersion;
+import com.sg.obs.service.RowCountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CacheSnapshotSvcTest {
+
+    private static final String ORDER_NO = OrderNo.of(YearMonth.of(2024, 1), 1).toString();
+    private static final String PAGE_KEY = "getItemPage_page_0_size_2_false";
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    @TempDir
+    private Path directory;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final HazelcastInstance hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(
+            HazelcastConfig.config(HazelcastConfig.INSTANCE_NAME, HazelcastConfig.ClusterSettings.standalone()));
+
+    private CacheSnapshotSvc cacheSnapshotSvc;
+
+    @BeforeEach
+    void setUp() {
+        Stream.of(HazelcastConfig.ITEM_CACHE, HazelcastConfig.ORDER_CACHE, HazelcastConfig.PAGED_ITEM_CACHE,
+                HazelcastConfig.PAGED_ORDER_CACHE, HazelcastConfig.PAGE_TAGS_MAP)
+                .forEach(name -> hazelcastInstance.getMap(name).clear());
+        cacheSnapshotSvc = new CacheSnapshotSvc(hazelcastInstance, itemRepository, orderRepository, rowCountService,
+                meterRegistry, directory.resolve("cache-snapshot.bin"), Duration.ofHours(1));
+    }
+
+    @Test
+    void givenSnapshot_whenRestore_thenLoadOnlyEntriesWhoseVersionsStillMatch() {
+        // Arrange
+        ItemInfo pen = item(1L, "Pen", 2L);
+        ItemInfo ink = item(2L, "Ink", 1L);
+        OrderInfo order = OrderInfo.builder().orderNo(ORDER_NO).itemId(1L).itemName("Pen").qty(1).version(0L).build();
+        hazelcastInstance.getMap(HazelcastConfig.ITEM_CACHE).putAll(Map.of(1L, pen, 2L, ink));
+        hazelcastInstance.getMap(HazelcastConfig.ORDER_CACHE).put(ORDER_NO, ApiResponse.setSuccess(order));
+        hazelcastInstance.getMap(HazelcastConfig.PAGED_ITEM_CACHE)
+                .put(PAGE_KEY, PageWrapper.of(new PagedModel<>(new PageImpl<>(List.of(pen, ink), PageRequest.of(0, 2), 2))));
+        hazelcastInstance.getMap(HazelcastConfig.PAGE_TAGS_MAP).put(HazelcastConfig.PAGED_ITEM_CACHE + "|" + PAGE_KEY,
+                new PageTags(HazelcastConfig.PAGED_ITEM_CACHE, PAGE_KEY, Set.of("item:1", "item:2")));
+
+        cacheSnapshotSvc.snapshot();
+        setUp();
+
+        // Mock repo: the ink was updated while the service was down
+        ItemVersion penVersion = version(1L, 2L);
+        doReturn("Pen").when(penVersion).getName();
+        doReturn(List.of(penVersion, version(2L, 2L))).when(itemRepository).findItemVersions(any());
+        OrderVersion orderVersion = mock(OrderVersion.class);
+        doReturn(OrderNo.parse(ORDER_NO)).when(orderVersion).getOrderNo();
+        doReturn(0L).when(orderVersion).getVersion();
+        doReturn(List.of(orderVersion)).when(orderRepository).findOrderVersions(any());
+        doReturn(2L).when(rowCountService).estimate(Item.class);
+
+        // Act
+        cacheSnapshotSvc.restore();
+
+        // Assert
+        assertEquals(pen, hazelcastInstance.getMap(HazelcastConfig.ITEM_CACHE).get(1L));
+        assertFalse(hazelcastInstance.getMap(HazelcastConfig.ITEM_CACHE).containsKey(2L));
+        assertTrue(hazelcastInstance.getMap(HazelcastConfig.ORDER_CACHE).containsKey(ORDER_NO));
+        assertFalse(hazelcastInstance.getMap(HazelcastConfig.PAGED_ITEM_CACHE).containsKey(PAGE_KEY));
+        assertTrue(hazelcastInstance.getMap(HazelcastConfig.PAGE_TAGS_MAP).isEmpty());
+        assertEquals(1, meterRegistry.get("cache.snapshot.entries").tags("cache", HazelcastConfig.ITEM_CACHE, "result", "stale")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("cache.snapshot.entries").tags("cache", HazelcastConfig.PAGED_ITEM_CACHE, "result", "stale")
+                .counter().count());
+    }
+
+    @Test
+    void givenNoSnapshot_whenRestore_thenStartCold() {
+        // Act
+        cacheSnapshotSvc.restore();
+
+        // Assert
+        assertFalse(Files.exists(directory.resolve("cache-snapshot.bin")));
+        assertTrue(hazelcastInstance.getMap(HazelcastConfig.ITEM_CACHE).isEmpty());
+        verifyNoInteractions(itemRepository, orderRepository);
+    }
+
+    private static ItemInfo item(Long id, String name, Long version) {
+        return ItemInfo.builder().id(id).name(name).price(1.5).version(version).build();
+    }
+
+    private static ItemVersion version(Long id, Long version) {
+        ItemVersion itemVersion = mock(ItemVersion.class);
+        doReturn(id).when(itemVersion).getId();
+        doReturn(version).when(itemVersion).getVersion();
+        return itemVersion;
+    }
+}
@@ -0,0 +1,172 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.InventoryCheckpoint;
+import com.sg.obs.models.InventorySnapshot;
+import com.sg.obs.models.Item;
+import com.sg.obs.repository.InventoryCheckpointRepository;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.InventorySnapshotRepository;
+import com.sg.obs.repository.projection.StockDelta;
+import com.sg.obs.service.RowCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryCheckpointSvcTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventorySnapshotRepository snapshotRepository;
+
+    @Mock
+    private InventoryCheckpointRepository checkpointRepository;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    private InventoryCheckpointSvc checkpointSvc;
+
+    @BeforeEach
+    void setUp() {
+        checkpointSvc = new InventoryCheckpointSvc(inventoryRepository, snapshotRepository, checkpointRepository, rowCountService,
+                Duration.ofHours(24), 100, true);
+    }
+
+    @Test
+    void givenNoEligibleRows_whenCheckpoint_thenReturnFalse() {
+        // Mock repo
+        doReturn(List.of()).when(inventoryRepository).findUncheckpointedIds(any(LocalDateTime.class), any(Limit.class));
+
+        // Act & Assert
+        assertFalse(checkpointSvc.checkpoint());
+        verify(inventoryRepository, never()).markCheckpointed(anyLong(), any(LocalDateTime.class), anyLong());
+        verify(checkpointRepository, never()).save(any(InventoryCheckpoint.class));
+    }
+
+    @Test
+    void givenEligibleRows_whenCheckpoint_thenFoldIntoSnapshotsAndArchive() {
+        // Mock repo
+        doReturn(List.of(3L, 1L, 100L)).when(inventoryRepository).findUncheckpointedIds(any(LocalDateTime.class), eq(Limit.of(100)));
+        doAnswer(invocation -> {
+            InventoryCheckpoint checkpoint = invocation.getArgument(0);
+            checkpoint.setId(7L);
+            return checkpoint;
+        }).when(checkpointRepository).save(any(InventoryCheckpoint.class));
+        doReturn(3).when(inventoryRepository).markCheckpointed(eq(7L), any(LocalDateTime.class), eq(100L));
+        doReturn(List.of(delta(1L, 8L), delta(2L, -3L))).when(inventoryRepository).sumQuantityByCheckpoint(7L);
+        InventorySnapshot existing = InventorySnapshot.builder().itemId(1L).quantity(2).lastCheckpointId(6L).build();
+        doReturn(List.of(existing)).when(snapshotRepository).findAllById(List.of(1L, 2L));
+        doReturn(3).when(inventoryRepository).archiveByCheckpoint(7L);
+        doReturn(3).when(inventoryRepository).removeByCheckpoint(7L);
+
+        // Act
+        assertTrue(checkpointSvc.checkpoint());
+
+        // Assert
+        ArgumentCaptor<InventorySnapshot> snapshotCaptor = ArgumentCaptor.forClass(InventorySnapshot.class);
+        verify(snapshotRepository, times(2)).save(snapshotCaptor.capture());
+        List<InventorySnapshot> snapshots = snapshotCaptor.getAllValues();
+        assertEquals(10, snapshots.get(0).getQuantity());
+        assertEquals(7L, snapshots.get(0).getLastCheckpointId());
+        assertEquals(2L, snapshots.get(1).getItemId());
+        assertEquals(-3, snapshots.get(1).getQuantity());
+
+        verify(rowCountService).adjust(Inventory.class, -3);
+
+        ArgumentCaptor<InventoryCheckpoint> checkpointCaptor = ArgumentCaptor.forClass(InventoryCheckpoint.class);
+        verify(checkpointRepository, times(2)).save(checkpointCaptor.capture());
+        InventoryCheckpoint checkpoint = checkpointCaptor.getValue();
+        assertEquals(3, checkpoint.getInventoryCount());
+        assertEquals(2, checkpoint.getItemCount());
+        assertEquals(3, checkpoint.getArchivedCount());
+    }
+
+    @Test
+    void givenCheckpointedWithdrawal_whenAmend_thenAdjustSnapshot() {
+        // Prepare params
+        Item item = new Item();
+        item.setId(1L);
+        Inventory withdrawal = Inventory.builder().id(50L).item(item).quantity(4).type(InventoryType.W).checkpointId(7L).build();
+        doReturn(1).when(snapshotRepository).amendQuantity(1L, 4);
+
+        // Act
+        checkpointSvc.amend(withdrawal, -1);
+
+        // Assert
+        verify(snapshotRepository).amendQuantity(1L, 4);
+        verify(snapshotRepository, never()).save(any(InventorySnapshot.class));
+    }
+
+    @Test
+    void givenCheckpointedTopUpOnItemWithoutSnapshot_whenAmend_thenCreateSnapshot() {
+        // Prepare params
+        Item item = new Item();
+        item.setId(2L);
+        Inventory topUp = Inventory.builder().id(50L).item(item).quantity(4).type(InventoryType.T).checkpointId(7L).build();
+        doReturn(0).when(snapshotRepository).amendQuantity(2L, 4);
+
+        // Act
+        checkpointSvc.amend(topUp, 1);
+
+        // Assert
+        ArgumentCaptor<InventorySnapshot> snapshotCaptor = ArgumentCaptor.forClass(InventorySnapshot.class);
+        verify(snapshotRepository).save(snapshotCaptor.capture());
+        assertEquals(2L, snapshotCaptor.getValue().getItemId());
+        assertEquals(4, snapshotCaptor.getValue().getQuantity());
+        assertEquals(7L, snapshotCaptor.getValue().getLastCheckpointId());
+    }
+
+    @Test
+    void givenUncheckpointedMovement_whenAmend_thenLeaveSnapshotAlone() {
+        // Prepare params
+        Item item = new Item();
+        item.setId(1L);
+        Inventory topUp = Inventory.builder().id(50L).item(item).quantity(4).type(InventoryType.T).build();
+
+        // Act
+        checkpointSvc.amend(topUp, 1);
+
+        // Assert
+        verify(snapshotRepository, never()).amendQuantity(anyLong(), anyInt());
+    }
+
+    private StockDelta delta(Long itemId, Long quantity) {
+        return new StockDelta() {
+            @Override
+            public Long getItemId() {
+                return itemId;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return quantity;
+            }
+        };
+    }
+}
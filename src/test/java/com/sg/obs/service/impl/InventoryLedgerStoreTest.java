@@ -0,0 +1,70 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.enums.InventoryType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryLedgerStoreTest {
+
+    @Mock
+    private ObjectProvider<InventoryLedgerWriter> inventoryLedgerWriterProvider;
+
+    @Mock
+    private InventoryLedgerWriter inventoryLedgerWriter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private InventoryLedgerStore inventoryLedgerStore;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(inventoryLedgerWriter).when(inventoryLedgerWriterProvider).getObject();
+        inventoryLedgerStore = new InventoryLedgerStore(inventoryLedgerWriterProvider, meterRegistry);
+    }
+
+    @Test
+    void givenAcceptedMovements_whenStoreAll_thenWriteThemAndRecordBatchAndLag() {
+        // Arrange
+        InventoryMovement topUp = new InventoryMovement(1L, 10L, 5, InventoryType.T, System.currentTimeMillis() - 1500);
+
+        // Act
+        inventoryLedgerStore.storeAll(Map.of(1L, topUp));
+
+        // Assert
+        verify(inventoryLedgerWriter).write(argThat(movements -> List.copyOf(movements).equals(List.of(topUp))));
+        assertEquals(1, meterRegistry.get("inventory.ledger.flush.batch").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("inventory.ledger.flush.lag").timer().count());
+        assertEquals(0, meterRegistry.get("inventory.ledger.flush.failures").counter().count());
+    }
+
+    @Test
+    void givenWriteFails_whenStoreAll_thenCountFailureAndRethrow() {
+        // Mock writer
+        InventoryMovement topUp = new InventoryMovement(1L, 10L, 5, InventoryType.T, System.currentTimeMillis());
+        doThrow(new DataIntegrityViolationException("item gone")).when(inventoryLedgerWriter).write(any());
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> inventoryLedgerStore.storeAll(Map.of(1L, topUp)));
+        assertEquals(1, meterRegistry.get("inventory.ledger.flush.failures").counter().count());
+        assertEquals(0, meterRegistry.get("inventory.ledger.flush.batch").summary().count());
+    }
+}
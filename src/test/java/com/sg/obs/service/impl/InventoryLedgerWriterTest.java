@@ -0,0 +1,126 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.inventory.InventoryMovement;
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.StockService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryLedgerWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    @InjectMocks
+    private InventoryLedgerWriter inventoryLedgerWriter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenNewAndReplayedMovements_whenWrite_thenInsertNewOnesAndAdjustStockOncePerItem() {
+        // Mock repo
+        InventoryMovement topUp = new InventoryMovement(1L, 10L, 5, InventoryType.T, 0L);
+        InventoryMovement withdrawal = new InventoryMovement(2L, 10L, 2, InventoryType.W, 0L);
+        InventoryMovement replayed = new InventoryMovement(3L, 20L, 1, InventoryType.T, 0L);
+        doReturn(List.of(3L)).when(inventoryRepository).findIdsByIdIn(List.of(1L, 2L, 3L));
+        doReturn(List.of(10L)).when(itemRepository).findIdsByIdIn(List.of(10L));
+
+        // Act
+        inventoryLedgerWriter.write(List.of(topUp, withdrawal, replayed));
+
+        // Assert
+        ArgumentCaptor<Collection<InventoryMovement>> inserted = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), inserted.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(topUp, withdrawal), List.copyOf(inserted.getValue()));
+        verify(stockService).adjust(10L, 3);
+        verify(stockService, never()).adjust(eq(20L), anyInt());
+        verify(rowCountService).adjust(Inventory.class, 2);
+    }
+
+    @Test
+    void givenOnlyReplayedMovements_whenWrite_thenWriteNothing() {
+        // Mock repo
+        InventoryMovement replayed = new InventoryMovement(3L, 20L, 1, InventoryType.T, 0L);
+        doReturn(List.of(3L)).when(inventoryRepository).findIdsByIdIn(List.of(3L));
+
+        // Act
+        inventoryLedgerWriter.write(List.of(replayed));
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, itemRepository, stockService);
+        verify(rowCountService, never()).adjust(any(), anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenMovementOfDeletedItem_whenWrite_thenDropItAndWriteTheRest() {
+        // Mock repo
+        InventoryMovement topUp = new InventoryMovement(1L, 10L, 5, InventoryType.T, 0L);
+        InventoryMovement ofDeletedItem = new InventoryMovement(2L, 20L, 4, InventoryType.T, 0L);
+        InventoryMovement withdrawal = new InventoryMovement(3L, 10L, 1, InventoryType.W, 0L);
+        doReturn(List.of()).when(inventoryRepository).findIdsByIdIn(List.of(1L, 2L, 3L));
+        doReturn(List.of(10L)).when(itemRepository).findIdsByIdIn(List.of(10L, 20L));
+
+        // Act
+        inventoryLedgerWriter.write(List.of(topUp, ofDeletedItem, withdrawal));
+
+        // Assert
+        ArgumentCaptor<Collection<InventoryMovement>> inserted = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), inserted.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(List.of(topUp, withdrawal), List.copyOf(inserted.getValue()));
+        verify(stockService).adjust(10L, 4);
+        verify(stockService, never()).adjust(eq(20L), anyInt());
+        verify(rowCountService).adjust(Inventory.class, 2);
+    }
+
+    @Test
+    void givenOnlyMovementsOfDeletedItems_whenWrite_thenWriteNothing() {
+        // Mock repo
+        InventoryMovement ofDeletedItem = new InventoryMovement(2L, 20L, 4, InventoryType.T, 0L);
+        doReturn(List.of()).when(inventoryRepository).findIdsByIdIn(List.of(2L));
+        doReturn(List.of()).when(itemRepository).findIdsByIdIn(List.of(20L));
+
+        // Act
+        inventoryLedgerWriter.write(List.of(ofDeletedItem));
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, stockService);
+        verify(rowCountService, never()).adjust(any(), anyLong());
+    }
+}
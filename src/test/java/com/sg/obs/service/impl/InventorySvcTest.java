@@ -3,9 +3,11 @@ package com.sg.obs.service.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sg.obs.config.MapperConfig;
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.inventory.CreateInventoryRequest;
 import com.sg.obs.dto.inventory.InventoryInfo;
+import com.sg.obs.dto.inventory.InventoryMovement;
 import com.sg.obs.dto.inventory.UpdateInventoryRequest;
 import com.sg.obs.enums.InventoryType;
 import com.sg.obs.exception.DataNotFoundException;
@@ -13,25 +15,37 @@ import com.sg.obs.models.Inventory;
 import com.sg.obs.models.Item;
 import com.sg.obs.repository.InventoryRepository;
 import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.projection.InventoryVersion;
+import com.sg.obs.service.InventoryCheckpointService;
+import com.sg.obs.service.InventoryLedgerService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.utility.CursorUtil;
+import com.sg.obs.utility.ETagUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -44,6 +58,15 @@ class InventorySvcTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private InventoryCheckpointService checkpointService;
+
+    @Mock
+    private RowCountService rowCountService;
+
     private final ObjectMapper mapper = new MapperConfig().objectMapper();
 
     @InjectMocks
@@ -52,6 +75,7 @@ class InventorySvcTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(inventorySvc, "mapper", mapper);
+        ReflectionTestUtils.setField(inventorySvc, "inventoryLedger", Optional.empty());
     }
 
     @Test
@@ -72,6 +96,56 @@ class InventorySvcTest {
         verify(inventoryRepository).findById(any(Long.class));
     }
 
+    @Test
+    void givenInventoryExists_whenGetInventoryETag_thenReadOnlyVersion() {
+        // Mock inventory repo
+        InventoryVersion version = mock(InventoryVersion.class);
+        doReturn(1L).when(version).getId();
+        doReturn("Pen").when(version).getItemName();
+        doReturn(2L).when(version).getVersion();
+        doReturn(Optional.of(version)).when(inventoryRepository).findInventoryVersion(1L);
+
+        // Act
+        String eTag = inventorySvc.getInventoryETag(1L);
+
+        // Assert
+        assertEquals(ETagUtil.of(InventoryInfo.builder().id(1L).itemName("Pen").version(2L).build()), eTag);
+        verify(inventoryRepository, never()).findById(any(Long.class));
+    }
+
+    @Test
+    void givenMoreRowsThanSize_whenScrollInventories_thenReturnNextCursor() {
+        // Mock inventory repo to return size + 1 rows after the cursor
+        List<Inventory> rows = List.of(
+                Inventory.builder().id(6L).quantity(1).type(InventoryType.T).build(),
+                Inventory.builder().id(7L).quantity(2).type(InventoryType.T).build(),
+                Inventory.builder().id(9L).quantity(3).type(InventoryType.W).build());
+        doReturn(rows).when(inventoryRepository).findByIdGreaterThanOrderById(5L, Limit.of(3));
+
+        // Act
+        ApiResponse<CursorPage<InventoryInfo>> response = inventorySvc.scrollInventories(CursorUtil.encode(5L), 2);
+
+        // Assert
+        CursorPage<InventoryInfo> page = response.getData();
+        assertEquals(2, page.getSize());
+        assertEquals(List.of(6L, 7L), page.getContent().stream().map(InventoryInfo::getId).toList());
+        assertEquals(7L, CursorUtil.decode(page.getNext()));
+    }
+
+    @Test
+    void givenLastPage_whenScrollInventories_thenReturnNoCursor() {
+        // Mock inventory repo to return fewer rows than requested
+        doReturn(List.of(Inventory.builder().id(1L).quantity(1).type(InventoryType.T).build()))
+                .when(inventoryRepository).findAllByOrderById(Limit.of(21));
+
+        // Act
+        ApiResponse<CursorPage<InventoryInfo>> response = inventorySvc.scrollInventories(null, 20);
+
+        // Assert
+        assertEquals(1, response.getData().getSize());
+        assertNull(response.getData().getNext());
+    }
+
     @Test
     void givenInventoryDoesNotExist_whenGetInventoryById_thenThrowDataNotFoundException() {
         // Mock inventory repo
@@ -104,7 +178,7 @@ class InventorySvcTest {
         doReturn(inventoryPage).when(inventoryRepository).findAll(any(Pageable.class));
 
         // Act
-        ApiResponse<PageWrapper<InventoryInfo>> response = inventorySvc.getInventoryList(Pageable.ofSize(10));
+        ApiResponse<PageWrapper<InventoryInfo>> response = inventorySvc.getInventoryList(Pageable.ofSize(10), false);
 
         // Assert
         assertEquals(200, response.getCode());
@@ -158,6 +232,35 @@ class InventorySvcTest {
 
         verify(inventoryRepository).save(any(Inventory.class));
         verify(itemRepository).findById(any(Long.class));
+        verify(stockService).apply(savedInv);
+    }
+
+    @Test
+    void givenWriteBehindLedger_whenCreateInventory_thenAcceptWithoutWritingRow() {
+        // Prepare params
+        CreateInventoryRequest payload = new CreateInventoryRequest();
+        payload.setType(InventoryType.W);
+        payload.setItemId(1L);
+        payload.setQuantity(4);
+
+        // Mock repo and ledger
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("Pen");
+        doReturn(Optional.of(item)).when(itemRepository).findById(1L);
+        InventoryLedgerService ledger = mock(InventoryLedgerService.class);
+        doReturn(new InventoryMovement(60L, 1L, 4, InventoryType.W, 0L)).when(ledger).append(1L, 4, InventoryType.W);
+        ReflectionTestUtils.setField(inventorySvc, "inventoryLedger", Optional.of(ledger));
+
+        // Act
+        ApiResponse<InventoryInfo> response = inventorySvc.addInventory(payload);
+
+        // Assert
+        assertEquals(202, response.getCode());
+        assertEquals(60L, response.getData().getId());
+        assertEquals("Pen", response.getData().getItemName());
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+        verify(stockService, never()).apply(any(Inventory.class));
     }
 
     @Test
@@ -296,19 +399,22 @@ class InventorySvcTest {
     @Test
     void givenInventoryId_whenDeleteInventory_thenSuccess() {
         // Mock repo
-        doReturn(1).when(inventoryRepository).removeById(any(Long.class));
+        Inventory inv = Inventory.builder().id(1L).quantity(10).type(InventoryType.T).build();
+        doReturn(Optional.of(inv)).when(inventoryRepository).findById(any(Long.class));
 
         // Act & Assert
         ApiResponse<String> response = inventorySvc.deleteInventoryById(1L);
         assertEquals(200, response.getCode());
         assertEquals("Inventory with id 1 deleted successfully", response.getMessage());
-        verify(inventoryRepository).removeById(any(Long.class));
+        verify(inventoryRepository).delete(inv);
+        verify(stockService).revert(inv);
+        verify(checkpointService).amend(inv, -1);
     }
 
     @Test
     void givenInventoryDoesNotExist_whenDeleteInventory_thenThrowDataNotFoundException() {
         // Mock repo
-        doReturn(0).when(inventoryRepository).removeById(any(Long.class));
+        doReturn(Optional.empty()).when(inventoryRepository).findById(any(Long.class));
 
         // Act & Assert
         try {
@@ -317,6 +423,6 @@ class InventorySvcTest {
         } catch (DataNotFoundException e) {
             assertEquals("Inventory with id 1 not found", e.getMessage());
         }
-        verify(inventoryRepository).removeById(any(Long.class));
+        verify(inventoryRepository).findById(any(Long.class));
     }
 }
\ No newline at end of file
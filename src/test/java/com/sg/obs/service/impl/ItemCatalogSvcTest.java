@@ -0,0 +1,132 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.models.Item;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.projection.ItemSummary;
+import com.sg.obs.service.RowCountService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCatalogSvcTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    @InjectMocks
+    private ItemCatalogSvc itemCatalogSvc;
+
+    @Test
+    void givenItemsExist_whenGetItemPage_thenReturnStaticAttributesOnly() {
+        // Mock the repository to return some items
+        ItemSummary item = itemSummary(1L, "Item 1", 10.0, 10);
+
+        Page<ItemSummary> itemsPage = new PageImpl<>(Collections.singletonList(item));
+        doReturn(itemsPage).when(itemRepository).findItemSummaries(any(Pageable.class));
+
+        // Act
+        PageWrapper<ItemInfo> pagedModel = itemCatalogSvc.getItemPage(Pageable.ofSize(10), false);
+
+        // Assert
+        assertNotNull(pagedModel);
+        assertEquals(1, pagedModel.getContent().size());
+        ItemInfo itemInfo = pagedModel.getContent().getFirst();
+
+        assertEquals(item.getName(), itemInfo.getName());
+        assertEquals(item.getId(), itemInfo.getId());
+        assertEquals(item.getPrice(), itemInfo.getPrice());
+        assertNull(itemInfo.getRemainingStock());
+
+        PageWrapper.PageMetadata metadata = pagedModel.getMetadata();
+        assertNotNull(metadata);
+        assertEquals(1, metadata.getTotalPages());
+        assertEquals(1, metadata.getTotalElements());
+        assertEquals(1, metadata.getSize());
+        assertEquals(0, metadata.getNumber());
+
+        verify(itemRepository).findItemSummaries(any(Pageable.class));
+    }
+
+    @Test
+    void givenEstimateTotal_whenGetItemPage_thenUseMaintainedCountInsteadOfCountQuery() {
+        // Mock repo
+        doReturn(List.of(itemSummary(1L, "Item 1", 10.0, 10))).when(itemRepository).findItemSummaryList(any(Pageable.class));
+        doReturn(40L).when(rowCountService).estimate(Item.class);
+
+        // Act
+        PageWrapper<ItemInfo> pagedModel = itemCatalogSvc.getItemPage(Pageable.ofSize(10), true);
+
+        // Assert
+        assertEquals(40, pagedModel.getMetadata().getTotalElements());
+        assertTrue(pagedModel.getMetadata().isEstimated());
+        verify(itemRepository, never()).findItemSummaries(any(Pageable.class));
+    }
+
+    @Test
+    void givenItemId_whenGetItem_thenReturnItem() {
+        // Mock the repository to return an item
+        ItemSummary item = itemSummary(1L, "Item 1", 10.0, 10);
+        doReturn(Optional.of(item)).when(itemRepository).findItemSummaryById(any(Long.class));
+
+        // Act
+        ItemInfo itemInfo = itemCatalogSvc.getItem(1L);
+
+        // Assert
+        assertNotNull(itemInfo);
+        assertEquals(item.getName(), itemInfo.getName());
+        assertEquals(item.getId(), itemInfo.getId());
+        assertEquals(item.getPrice(), itemInfo.getPrice());
+        assertNull(itemInfo.getRemainingStock());
+
+        verify(itemRepository).findItemSummaryById(any(Long.class));
+    }
+
+    @Test
+    void givenItemDoesNotExist_whenGetItem_thenThrowDataNotFoundException() {
+        // Mock the repository to return null
+        doReturn(Optional.empty()).when(itemRepository).findItemSummaryById(any(Long.class));
+
+        // Act & Assert
+        try {
+            itemCatalogSvc.getItem(1L);
+            fail("Expected DataNotFoundException to be thrown");
+        } catch (DataNotFoundException e) {
+            assertEquals("Item with id 1 not found", e.getMessage());
+        }
+
+        verify(itemRepository).findItemSummaryById(any(Long.class));
+    }
+
+    private ItemSummary itemSummary(Long id, String name, Double price, Integer remainingStock) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ItemSummary.class,
+                Map.of("id", id, "name", name, "price", price, "remainingStock", remainingStock));
+    }
+}
@@ -7,31 +7,41 @@ import com.sg.obs.dto.PageWrapper;
 import com.sg.obs.dto.item.CreateItemRequest;
 import com.sg.obs.dto.item.ItemInfo;
 import com.sg.obs.dto.item.UpdateItemRequest;
-import com.sg.obs.enums.InventoryType;
 import com.sg.obs.exception.DataNotFoundException;
-import com.sg.obs.models.Inventory;
 import com.sg.obs.models.Item;
 import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.ItemCatalogService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.StockCacheService;
+import com.sg.obs.service.StockService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ItemSvcTest {
@@ -39,6 +49,21 @@ class ItemSvcTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemCatalogService itemCatalogService;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private StockCacheService stockCacheService;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
 
     private final ObjectMapper mapper = new MapperConfig().objectMapper();
 
@@ -51,60 +76,37 @@ class ItemSvcTest {
     }
 
     @Test
-    void givenItemsExist_whenGetItemsList_thenReturnPagedModel() {
-        // Mock the repository to return some items
-        Item item = new Item();
-        item.setName("Item 1");
-        item.setId(1L);
-        item.setPrice(10.0);
-        Inventory inventory = new Inventory();
-        inventory.setType(InventoryType.T);
-        inventory.setQuantity(10);
-        item.setInventory(Collections.singletonList(inventory));
-
-        Page<Item> itemsPage = new PageImpl<>(Collections.singletonList(item));
-        doReturn(itemsPage).when(itemRepository).findAll(any(Pageable.class));
+    void givenCatalogPage_whenGetItemsList_thenFillInCachedStock() {
+        // Mock catalog and stock cache
+        ItemInfo item = ItemInfo.builder().id(1L).name("Item 1").price(10.0).build();
+        PageWrapper<ItemInfo> catalogPage = PageWrapper.of(new PagedModel<>(new PageImpl<>(List.of(item))));
+        doReturn(catalogPage).when(itemCatalogService).getItemPage(any(Pageable.class), eq(false));
+        doReturn(Map.of(1L, 10)).when(stockCacheService).getRemainingStock(List.of(1L));
 
         // Act
-        ApiResponse<PageWrapper<ItemInfo>> response = itemSvc.getItemsList(Pageable.ofSize(10));
+        ApiResponse<PageWrapper<ItemInfo>> response = itemSvc.getItemsList(Pageable.ofSize(10), false);
 
         // Assert
         PageWrapper<ItemInfo> pagedModel = response.getData();
 
         assertNotNull(pagedModel);
-        assertNotNull(pagedModel.getContent());
         assertEquals(1, pagedModel.getContent().size());
         ItemInfo itemInfo = pagedModel.getContent().getFirst();
 
         assertEquals(item.getName(), itemInfo.getName());
         assertEquals(item.getId(), itemInfo.getId());
         assertEquals(item.getPrice(), itemInfo.getPrice());
-        assertEquals(item.getRemainingStock(), itemInfo.getRemainingStock());
-
-        PageWrapper.PageMetadata metadata = pagedModel.getMetadata();
-        assertNotNull(metadata);
-        assertEquals(1, metadata.getTotalPages());
-        assertEquals(1, metadata.getTotalElements());
-        assertEquals(1, metadata.getSize());
-        assertEquals(0, metadata.getNumber());
-
-        verify(itemRepository).findAll(any(Pageable.class));
-
+        assertEquals(10, itemInfo.getRemainingStock());
+        assertNull(item.getRemainingStock());
+        assertSame(catalogPage.getMetadata(), pagedModel.getMetadata());
     }
 
     @Test
-    void givenItemId_whenGetItemById_thenReturnItem() {
-        // Mock the repository to return an item
-        Item item = new Item();
-        item.setName("Item 1");
-        item.setId(1L);
-        item.setPrice(10.0);
-        Inventory inventory = new Inventory();
-        inventory.setType(InventoryType.T);
-        inventory.setQuantity(10);
-        item.setInventory(Collections.singletonList(inventory));
-
-        doReturn(Optional.of(item)).when(itemRepository).findById(any(Long.class));
+    void givenItemId_whenGetItemById_thenFillInCachedStock() {
+        // Mock catalog and stock cache
+        ItemInfo item = ItemInfo.builder().id(1L).name("Item 1").price(10.0).build();
+        doReturn(item).when(itemCatalogService).getItem(1L);
+        doReturn(10).when(stockCacheService).getRemainingStock(1L);
 
         // Act
         ApiResponse<ItemInfo> response = itemSvc.getItemById(1L);
@@ -114,27 +116,18 @@ class ItemSvcTest {
 
         assertNotNull(itemInfo);
         assertEquals(item.getName(), itemInfo.getName());
-        assertEquals(item.getId(), itemInfo.getId());
-        assertEquals(item.getPrice(), itemInfo.getPrice());
-        assertEquals(item.getRemainingStock(), itemInfo.getRemainingStock());
-
-        verify(itemRepository).findById(any(Long.class));
+        assertEquals(10, itemInfo.getRemainingStock());
+        assertNull(item.getRemainingStock());
     }
 
     @Test
     void givenItemDoesNotExist_whenGetItemById_thenThrowDataNotFoundException() {
-        // Mock the repository to return null
-        doReturn(Optional.empty()).when(itemRepository).findById(any(Long.class));
+        // Mock catalog
+        doThrow(new DataNotFoundException("Item with id 1 not found")).when(itemCatalogService).getItem(1L);
 
         // Act & Assert
-        try {
-            itemSvc.getItemById(1L);
-            fail("Expected DataNotFoundException to be thrown");
-        } catch (DataNotFoundException e) {
-            assertEquals("Item with id 1 not found", e.getMessage());
-        }
-
-        verify(itemRepository).findById(any(Long.class));
+        assertThrows(DataNotFoundException.class, () -> itemSvc.getItemById(1L));
+        verifyNoInteractions(stockCacheService);
     }
 
     @Test
@@ -159,6 +152,7 @@ class ItemSvcTest {
         assertEquals(0, itemInfo.getRemainingStock());
 
         verify(itemRepository).save(any(Item.class));
+        verify(stockService).createStock(itemInfo.getId());
     }
 
     @Test
@@ -172,6 +166,7 @@ class ItemSvcTest {
         // Assert
         assertEquals("Item with id 1 deleted successfully", response.getMessage());
         verify(itemRepository).removeById(any(Long.class));
+        verify(stockService).removeStock(1L);
     }
 
     @Test
@@ -234,4 +229,4 @@ class ItemSvcTest {
         }
         verify(itemRepository).findById(any(Long.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.scheduler.OrderQueueWorker;
+import com.sg.obs.service.OrderQueueService;
+import com.sg.obs.service.OrderService;
+import com.sg.obs.service.pipeline.OrderPipeline;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks that app.order.mode selects exactly one front for {@link OrderService} on top of {@link OrderSvc}.
+ */
+class OrderModeTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(OrderSvc.class, () -> mock(OrderSvc.class))
+            .withBean(OrderQueueService.class, () -> mock(OrderQueueService.class))
+            .withBean(OrderQueueWorker.class, () -> mock(OrderQueueWorker.class))
+            .withBean(OrderPipeline.class, () -> mock(OrderPipeline.class))
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(AsyncOrderSvc.class, PipelinedOrderSvc.class);
+
+    @Test
+    void givenNoMode_whenStart_thenServeOrdersSynchronously() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(AsyncOrderSvc.class);
+            assertThat(context).doesNotHaveBean(PipelinedOrderSvc.class);
+            assertThat(context.getBean(OrderService.class)).isInstanceOf(OrderSvc.class);
+        });
+    }
+
+    @Test
+    void givenAsyncMode_whenStart_thenServeOrdersFromQueue() {
+        contextRunner.withPropertyValues("app.order.mode=async").run(context -> {
+            assertThat(context).doesNotHaveBean(PipelinedOrderSvc.class);
+            assertThat(context.getBean(OrderService.class)).isInstanceOf(AsyncOrderSvc.class);
+        });
+    }
+
+    @Test
+    void givenPipelineMode_whenStart_thenServeOrdersFromPipeline() {
+        contextRunner.withPropertyValues("app.order.mode=pipeline").run(context -> {
+            assertThat(context).doesNotHaveBean(AsyncOrderSvc.class);
+            assertThat(context.getBean(OrderService.class)).isInstanceOf(PipelinedOrderSvc.class);
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.order.AcceptedOrder;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.repository.projection.OrderVersion;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxWriterTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @InjectMocks
+    private OrderOutboxWriter orderOutboxWriter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenNewAndReplayedOrders_whenWrite_thenInsertNewOnesAndWithdrawStockOncePerItem() {
+        // Mock repo
+        AcceptedOrder first = accepted(1, 10L, 2);
+        AcceptedOrder second = accepted(2, 10L, 3);
+        AcceptedOrder replayed = accepted(3, 20L, 1);
+        doReturn(List.of(version(orderNo(3)))).when(orderRepository).findOrderVersions(List.of(orderNo(1), orderNo(2), orderNo(3)));
+        doReturn(List.of(item(10L))).when(itemRepository).findAllById(List.of(10L));
+
+        // Act
+        orderOutboxWriter.write(List.of(first, second, replayed));
+
+        // Assert
+        ArgumentCaptor<List<Order>> orders = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(orders.capture());
+        assertEquals(List.of(orderNo(1), orderNo(2)), orders.getValue().stream().map(Order::getOrderNo).toList());
+        verify(inventoryRepository).saveAll(any(List.class));
+        verify(stockService).reserved(10L, 5);
+        verify(stockService, never()).reserved(eq(20L), anyInt());
+        verify(rowCountService).adjust(Order.class, 2);
+        verify(rowCountService).adjust(Inventory.class, 2);
+        verify(cacheInvalidationService).ordersAdded();
+        verify(salesRollupService).ordersPlaced(orders.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenOrderOfDeletedItem_whenWrite_thenDropItAndWriteTheRest() {
+        // Mock repo
+        AcceptedOrder kept = accepted(1, 10L, 2);
+        AcceptedOrder ofDeletedItem = accepted(2, 20L, 4);
+        doReturn(List.of()).when(orderRepository).findOrderVersions(List.of(orderNo(1), orderNo(2)));
+        doReturn(List.of(item(10L))).when(itemRepository).findAllById(List.of(10L, 20L));
+
+        // Act
+        orderOutboxWriter.write(List.of(kept, ofDeletedItem));
+
+        // Assert
+        ArgumentCaptor<List<Order>> orders = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(orders.capture());
+        assertEquals(List.of(orderNo(1)), orders.getValue().stream().map(Order::getOrderNo).toList());
+        verify(stockService).reserved(10L, 2);
+        verify(stockService, never()).reserved(eq(20L), anyInt());
+        verify(rowCountService).adjust(Order.class, 1);
+    }
+
+    @Test
+    void givenOnlyReplayedOrders_whenWrite_thenWriteNothing() {
+        // Mock repo
+        doReturn(List.of(version(orderNo(3)))).when(orderRepository).findOrderVersions(List.of(orderNo(3)));
+
+        // Act
+        orderOutboxWriter.write(List.of(accepted(3, 20L, 1)));
+
+        // Assert
+        verifyNoInteractions(itemRepository, inventoryRepository, stockService, cacheInvalidationService);
+        verify(rowCountService, never()).adjust(any(), anyLong());
+    }
+
+    private static OrderNo orderNo(long sequence) {
+        return OrderNo.of(YearMonth.of(2026, 10), sequence);
+    }
+
+    private static AcceptedOrder accepted(long sequence, Long itemId, int qty) {
+        return new AcceptedOrder(orderNo(sequence).value(), itemId, qty, 1.5, 0L);
+    }
+
+    private static Item item(Long id) {
+        Item item = new Item();
+        item.setId(id);
+        item.setPrice(1.5);
+        return item;
+    }
+
+    private static OrderVersion version(OrderNo orderNo) {
+        return new OrderVersion() {
+            @Override
+            public OrderNo getOrderNo() {
+                return orderNo;
+            }
+
+            @Override
+            public Long getVersion() {
+                return 0L;
+            }
+        };
+    }
+}
@@ -0,0 +1,153 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.OrderLineResult;
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.models.OrderRequest;
+import com.sg.obs.repository.OrderRequestRepository;
+import com.sg.obs.service.OrderSettlementService;
+import com.sg.obs.utility.OrderNoGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderQueueSvcTest {
+
+    private static final OrderNo FIRST = OrderNo.parse("202506000000000000001");
+    private static final OrderNo SECOND = OrderNo.parse("202506000000000000002");
+
+    @Mock
+    private OrderRequestRepository orderRequestRepository;
+
+    @Mock
+    private OrderSettlementService orderSettlementService;
+
+    @Mock
+    private OrderNoGenerator orderNoGenerator;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderQueueSvc orderQueueSvc;
+
+    @BeforeEach
+    void setUp() {
+        orderQueueSvc = new OrderQueueSvc(orderRequestRepository, orderSettlementService, orderNoGenerator, meterRegistry);
+    }
+
+    @Test
+    void givenValidOrderRequest_whenEnqueue_thenReturnPendingOrder() {
+        // Mock repo
+        doReturn(FIRST).when(orderNoGenerator).nextOrderNo();
+        doAnswer(invocation -> invocation.getArgument(0)).when(orderRequestRepository).save(any(OrderRequest.class));
+
+        // Act
+        OrderInfo order = orderQueueSvc.enqueue(new CreateOrderRequest(1L, 2));
+
+        // Assert
+        assertEquals(FIRST.toString(), order.getOrderNo());
+        assertEquals(OrderStatus.PENDING, order.getStatus());
+        assertEquals(2, order.getQty());
+    }
+
+    @Test
+    void givenClaimedRequests_whenSettleNext_thenDeleteConfirmedAndKeepRejected() {
+        // Mock repo
+        OrderRequest confirmed = pending(FIRST);
+        OrderRequest rejected = pending(SECOND);
+        doReturn(List.of(confirmed, rejected)).when(orderRequestRepository).claimPending(10);
+        doReturn(List.of(
+                OrderLineResult.accepted(0, OrderInfo.builder().orderNo(FIRST.toString()).build()),
+                OrderLineResult.rejected(1, new InsufficientStockException())))
+                .when(orderSettlementService).settle(anyList());
+
+        // Act
+        int settled = orderQueueSvc.settleNext(10);
+
+        // Assert
+        assertEquals(2, settled);
+        ArgumentCaptor<List<OrderSettlementService.Line>> lineCaptor = ArgumentCaptor.forClass(List.class);
+        verify(orderSettlementService).settle(lineCaptor.capture());
+        assertEquals(new OrderSettlementService.Line(FIRST, 1L, 2), lineCaptor.getValue().getFirst());
+        verify(orderRequestRepository).deleteAllInBatch(List.of(confirmed));
+        assertEquals(OrderStatus.REJECTED, rejected.getStatus());
+        assertEquals("Insufficient stock", rejected.getReason());
+        assertEquals(1, meterRegistry.get("order.queue.settle.latency").tag("outcome", "confirmed").timer().count());
+        assertEquals(1, meterRegistry.get("order.queue.settle.latency").tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void givenEmptyQueue_whenSettleNext_thenSettleNothing() {
+        // Mock repo
+        doReturn(List.of()).when(orderRequestRepository).claimPending(10);
+
+        // Act
+        int settled = orderQueueSvc.settleNext(10);
+
+        // Assert
+        assertEquals(0, settled);
+        verify(orderSettlementService, never()).settle(anyList());
+    }
+
+    @Test
+    void givenRejectedRequest_whenFindQueued_thenReturnReason() {
+        // Mock repo
+        OrderRequest request = pending(FIRST);
+        request.setStatus(OrderStatus.REJECTED);
+        request.setReason("Insufficient stock");
+        doReturn(Optional.of(request)).when(orderRequestRepository).findById(FIRST);
+
+        // Act
+        Optional<ApiResponse<OrderInfo>> response = orderQueueSvc.findQueued(FIRST);
+
+        // Assert
+        assertTrue(response.isPresent());
+        assertEquals("Insufficient stock", response.get().getMessage());
+        assertEquals(OrderStatus.REJECTED, response.get().getData().getStatus());
+    }
+
+    @Test
+    void givenPendingRequests_whenReadQueueDepth_thenCountPending() {
+        // Mock repo
+        doReturn(3L).when(orderRequestRepository).countByStatus(OrderStatus.PENDING);
+
+        // Act
+        double depth = meterRegistry.get("order.queue.depth").gauge().value();
+
+        // Assert
+        assertEquals(3, depth);
+    }
+
+    private static OrderRequest pending(OrderNo orderNo) {
+        OrderRequest request = OrderRequest.builder()
+                .orderNo(orderNo)
+                .itemId(1L)
+                .qty(2)
+                .status(OrderStatus.PENDING)
+                .build();
+        request.setCreatedDate(LocalDateTime.now().minusSeconds(1));
+        return request;
+    }
+}
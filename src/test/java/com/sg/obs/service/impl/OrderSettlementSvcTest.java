@@ -0,0 +1,205 @@
+package com.sg.obs.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sg.obs.config.MapperConfig;
+import com.sg.obs.dto.order.OrderLineResult;
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.service.OrderSettlementService.Line;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.service.reservation.StockReservationStrategy;
+import com.sg.obs.utility.OrderNoGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSettlementSvcTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private StockReservationStrategy stockReservation;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @Mock
+    private OrderNoGenerator orderNoGenerator;
+
+    private final ObjectMapper mapper = new MapperConfig().objectMapper();
+
+    @InjectMocks
+    private OrderSettlementSvc orderSettlementSvc;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderSettlementSvc, "mapper", mapper);
+    }
+
+    @Test
+    void givenMixedLines_whenSettle_thenReturnPerLineResults() {
+        // Mock repo and reservation - item 1 has 5 units, item 2 no stock balance
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("Item 1");
+        item.setPrice(10.0);
+        Item noStockItem = new Item();
+        noStockItem.setId(2L);
+        noStockItem.setName("Item 2");
+        noStockItem.setPrice(5.0);
+        doReturn(List.of(item, noStockItem)).when(itemRepository).findAllById(anyCollection());
+        doNothing().doThrow(new InsufficientStockException()).when(stockReservation).reserve(1L, 3);
+        doThrow(new DataNotFoundException(OrderSvc.INVENTORY_NOT_FOUND)).when(stockReservation).reserve(2L, 1);
+        doNothing().when(stockReservation).reserve(1L, 2);
+        doReturn(List.of(OrderNo.of(YearMonth.now(), 7L), OrderNo.of(YearMonth.now(), 8L))).when(orderNoGenerator).nextOrderNos(2);
+
+        // Act
+        List<OrderLineResult> lines = orderSettlementSvc.settle(List.of(
+                new Line(null, 1L, 3),
+                new Line(null, 1L, 3),
+                new Line(null, 99L, 1),
+                new Line(null, 2L, 1),
+                new Line(null, 1L, 2)));
+
+        // Assert
+        assertEquals(5, lines.size());
+        assertEquals(201, lines.get(0).getCode());
+        assertEquals(OrderNo.of(YearMonth.now(), 7L).toString(), lines.get(0).getOrder().getOrderNo());
+        assertEquals(OrderStatus.CONFIRMED, lines.get(0).getOrder().getStatus());
+        assertEquals(400, lines.get(1).getCode());
+        assertEquals("Insufficient stock", lines.get(1).getMessage());
+        assertFalse(lines.get(1).isAccepted());
+        assertEquals(404, lines.get(2).getCode());
+        assertEquals(OrderSvc.ITEM_NOT_FOUND, lines.get(2).getMessage());
+        assertEquals(404, lines.get(3).getCode());
+        assertEquals(OrderSvc.INVENTORY_NOT_FOUND, lines.get(3).getMessage());
+        assertEquals(201, lines.get(4).getCode());
+        assertEquals(OrderNo.of(YearMonth.now(), 8L).toString(), lines.get(4).getOrder().getOrderNo());
+        verify(stockService).reserved(1L, 3);
+        verify(stockService).reserved(1L, 2);
+        verify(stockService, never()).reserved(eq(2L), anyInt());
+
+        ArgumentCaptor<List<Inventory>> withdrawalCaptor = ArgumentCaptor.forClass(List.class);
+        verify(inventoryRepository).saveAll(withdrawalCaptor.capture());
+        assertEquals(2, withdrawalCaptor.getValue().size());
+        assertEquals(InventoryType.W, withdrawalCaptor.getValue().getFirst().getType());
+        verify(orderRepository).saveAll(anyList());
+        verify(cacheInvalidationService).ordersAdded();
+        verify(salesRollupService).ordersPlaced(argThat(orders -> orders.size() == 2));
+    }
+
+    @Test
+    void givenPreassignedOrderNo_whenSettle_thenKeepOrderNo() {
+        // Mock repo to return item
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("Item 1");
+        item.setPrice(10.0);
+        OrderNo orderNo = OrderNo.of(YearMonth.now(), 42L);
+
+        doReturn(List.of(item)).when(itemRepository).findAllById(anyCollection());
+
+        // Act
+        List<OrderLineResult> lines = orderSettlementSvc.settle(List.of(new Line(orderNo, 1L, 2)));
+
+        // Assert
+        assertEquals(orderNo.toString(), lines.getFirst().getOrder().getOrderNo());
+        ArgumentCaptor<List<Order>> orderCaptor = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAll(orderCaptor.capture());
+        assertEquals(orderNo, orderCaptor.getValue().getFirst().getOrderNo());
+        verify(orderNoGenerator, never()).nextOrderNos(anyInt());
+    }
+
+    @Test
+    void givenNoLineCanBeFulfilled_whenSettle_thenReturnRejectionsWithoutWrites() {
+        // Mock repo to return no items
+        doReturn(List.of()).when(itemRepository).findAllById(anyCollection());
+
+        // Act
+        List<OrderLineResult> lines = orderSettlementSvc.settle(List.of(new Line(null, 1L, 1)));
+
+        // Assert
+        assertEquals(1, lines.size());
+        assertEquals(404, lines.getFirst().getCode());
+        verify(orderNoGenerator, never()).nextOrderNos(anyInt());
+        verify(orderRepository, never()).saveAll(anyList());
+        verify(inventoryRepository, never()).saveAll(anyList());
+        verifyNoInteractions(cacheInvalidationService, stockReservation);
+    }
+
+    @Test
+    void givenLinesOfSeveralItems_whenSettle_thenReserveInItemOrderAndKeepLineOrder() {
+        // Mock repo to return items
+        Item first = new Item();
+        first.setId(1L);
+        first.setPrice(10.0);
+        Item second = new Item();
+        second.setId(2L);
+        second.setPrice(5.0);
+        doReturn(List.of(first, second)).when(itemRepository).findAllById(anyCollection());
+        doReturn(List.of(OrderNo.of(YearMonth.now(), 7L), OrderNo.of(YearMonth.now(), 8L))).when(orderNoGenerator).nextOrderNos(2);
+
+        // Act
+        List<OrderLineResult> lines = orderSettlementSvc.settle(List.of(new Line(null, 2L, 1), new Line(null, 1L, 4)));
+
+        // Assert
+        InOrder inOrder = inOrder(stockReservation);
+        inOrder.verify(stockReservation).reserve(1L, 4);
+        inOrder.verify(stockReservation).reserve(2L, 1);
+        assertEquals(OrderNo.of(YearMonth.now(), 7L).toString(), lines.get(0).getOrder().getOrderNo());
+        assertEquals(OrderNo.of(YearMonth.now(), 8L).toString(), lines.get(1).getOrder().getOrderNo());
+    }
+}
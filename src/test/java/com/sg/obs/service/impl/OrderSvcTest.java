@@ -3,20 +3,36 @@ package com.sg.obs.service.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sg.obs.config.MapperConfig;
 import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.CursorPage;
 import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.order.AcceptedOrder;
+import com.sg.obs.dto.order.CreateOrderBatchRequest;
 import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderBatchResult;
 import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.dto.order.OrderLineResult;
 import com.sg.obs.dto.order.UpdateOrderRequest;
 import com.sg.obs.enums.InventoryType;
+import com.sg.obs.enums.OrderStatus;
+import com.sg.obs.exception.ApiException;
 import com.sg.obs.exception.DataNotFoundException;
 import com.sg.obs.exception.InsufficientStockException;
 import com.sg.obs.models.Inventory;
 import com.sg.obs.models.Item;
 import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
 import com.sg.obs.repository.InventoryRepository;
 import com.sg.obs.repository.ItemRepository;
 import com.sg.obs.repository.OrderRepository;
-import com.sg.obs.utility.OrderUtil;
+import com.sg.obs.service.OrderOutboxService;
+import com.sg.obs.service.OrderSettlementService;
+import com.sg.obs.service.CacheInvalidationService;
+import com.sg.obs.service.RowCountService;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockService;
+import com.sg.obs.service.reservation.StockReservationStrategy;
+import com.sg.obs.utility.CursorUtil;
+import com.sg.obs.utility.OrderNoGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,12 +40,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -37,15 +55,24 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class OrderSvcTest {
 
+    private static final String ORDER_NO = "202506000000000000001";
+
     @Mock
     private OrderRepository orderRepository;
 
@@ -55,6 +82,27 @@ class OrderSvcTest {
     @Mock
     private InventoryRepository inventoryRepository;
 
+    @Mock
+    private StockService stockService;
+
+    @Mock
+    private StockReservationStrategy stockReservation;
+
+    @Mock
+    private OrderNoGenerator orderNoGenerator;
+
+    @Mock
+    private OrderSettlementService orderSettlementService;
+
+    @Mock
+    private RowCountService rowCountService;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
     private final ObjectMapper mapper = new MapperConfig().objectMapper();
 
     @InjectMocks
@@ -63,13 +111,14 @@ class OrderSvcTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(orderSvc, "mapper", mapper);
+        ReflectionTestUtils.setField(orderSvc, "orderOutbox", Optional.empty());
     }
 
     @Test
     void givenOrdersExist_whenGetOrderList_thenReturnPagedModel() {
         // Mock repo to return a paged model of orders
         Order order = new Order();
-        order.setOrderNo("20250600000001");
+        order.setOrderNo(OrderNo.parse(ORDER_NO));
 
         Item item = new Item();
         item.setName("Item 1");
@@ -81,7 +130,7 @@ class OrderSvcTest {
         doReturn(ordersPage).when(orderRepository).findAll(any(Pageable.class));
 
         // Act
-        ApiResponse<PageWrapper<OrderInfo>> response = orderSvc.getOrderList(PageRequest.ofSize(10));
+        ApiResponse<PageWrapper<OrderInfo>> response = orderSvc.getOrderList(PageRequest.ofSize(10), false);
 
         // Assert
         PageWrapper<OrderInfo> pagedModel = response.getData();
@@ -91,7 +140,7 @@ class OrderSvcTest {
         assertEquals(1, pagedModel.getContent().size());
         OrderInfo orderInfo = pagedModel.getContent().getFirst();
 
-        assertEquals(order.getOrderNo(), orderInfo.getOrderNo());
+        assertEquals(order.getOrderNo().toString(), orderInfo.getOrderNo());
         assertEquals(order.getQty(), orderInfo.getQty());
         assertEquals(order.getPrice(), orderInfo.getPrice());
         assertEquals(order.getItemName(), orderInfo.getItemName());
@@ -107,11 +156,71 @@ class OrderSvcTest {
         verify(orderRepository).findAll(any(Pageable.class));
     }
 
+    @Test
+    void givenEstimateTotal_whenGetOrderList_thenUseMaintainedCountInsteadOfCountQuery() {
+        // Mock repo to return a full page and a maintained count
+        List<Order> orders = new ArrayList<>();
+        for (long seq = 1; seq <= 10; seq++) {
+            Order order = new Order();
+            order.setOrderNo(OrderNo.of(OrderNo.parse(ORDER_NO).month(), seq));
+            order.setQty(1);
+            orders.add(order);
+        }
+        Pageable pageable = PageRequest.of(2, 10);
+        doReturn(orders).when(orderRepository).findAllBy(pageable);
+        doReturn(1234L).when(rowCountService).estimate(Order.class);
+
+        // Act
+        ApiResponse<PageWrapper<OrderInfo>> response = orderSvc.getOrderList(pageable, true);
+
+        // Assert
+        PageWrapper.PageMetadata metadata = response.getData().getMetadata();
+        assertEquals(10, response.getData().getContent().size());
+        assertEquals(1234, metadata.getTotalElements());
+        assertEquals(124, metadata.getTotalPages());
+        assertTrue(metadata.isEstimated());
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void givenCursor_whenScrollOrders_thenSeekPastCursor() {
+        // Mock repo to return size + 1 orders after the cursor
+        OrderNo after = OrderNo.parse(ORDER_NO);
+        List<Order> rows = new ArrayList<>();
+        for (long seq = 2; seq <= 4; seq++) {
+            Order order = new Order();
+            order.setOrderNo(OrderNo.of(after.month(), seq));
+            order.setQty(1);
+            rows.add(order);
+        }
+        doReturn(rows).when(orderRepository).findByOrderNoGreaterThanOrderByOrderNo(after, Limit.of(3));
+
+        // Act
+        ApiResponse<CursorPage<OrderInfo>> response = orderSvc.scrollOrders(CursorUtil.encode(after.value()), 2);
+
+        // Assert
+        CursorPage<OrderInfo> page = response.getData();
+        assertEquals(2, page.getContent().size());
+        assertEquals(rows.get(0).getOrderNo().toString(), page.getContent().getFirst().getOrderNo());
+        assertEquals(rows.get(1).getOrderNo().value(), CursorUtil.decode(page.getNext()));
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void givenInvalidCursor_whenScrollOrders_thenThrowApiException() {
+        // Act
+        ApiException e = assertThrows(ApiException.class, () -> orderSvc.scrollOrders("not-a-cursor", 20));
+
+        // Assert
+        assertEquals(400, e.getHttpCode());
+        assertEquals(CursorUtil.INVALID_CURSOR, e.getMessage());
+    }
+
     @Test
     void givenOrderNo_whenGetOrderByOrderNo_thenReturnOrder() {
         // Mock repo to return an order
         Order order = new Order();
-        order.setOrderNo("20250600000001");
+        order.setOrderNo(OrderNo.parse(ORDER_NO));
         order.setQty(1);
         order.setPrice(1.0);
 
@@ -119,38 +228,38 @@ class OrderSvcTest {
         item.setName("Item 1");
         order.setItem(new Item());
 
-        doReturn(Optional.of(order)).when(orderRepository).findById(any(String.class));
+        doReturn(Optional.of(order)).when(orderRepository).findById(any(OrderNo.class));
 
         // Act
-        ApiResponse<OrderInfo> response = orderSvc.getOrderByOrderNo("20250600000001");
+        ApiResponse<OrderInfo> response = orderSvc.getOrderByOrderNo(ORDER_NO);
 
         // Assert
         OrderInfo orderInfo = response.getData();
 
         assertNotNull(orderInfo);
-        assertEquals(order.getOrderNo(), orderInfo.getOrderNo());
+        assertEquals(order.getOrderNo().toString(), orderInfo.getOrderNo());
         assertEquals(order.getQty(), orderInfo.getQty());
         assertEquals(order.getPrice(), orderInfo.getPrice());
         assertEquals(order.getItemName(), orderInfo.getItemName());
 
-        verify(orderRepository).findById(any(String.class));
+        verify(orderRepository).findById(any(OrderNo.class));
     }
 
 
     @Test
     void givenOrderDoesNotExist_whenGetOrderByOrderNo_thenThrowDataNotFoundException() {
         // Mock repo to return null
-        doReturn(Optional.empty()).when(orderRepository).findById(any(String.class));
+        doReturn(Optional.empty()).when(orderRepository).findById(any(OrderNo.class));
 
         // Act & Assert
         try {
-            orderSvc.getOrderByOrderNo("20250600000001");
+            orderSvc.getOrderByOrderNo(ORDER_NO);
             fail("Expected DataNotFoundException to be thrown");
         } catch (DataNotFoundException e) {
-            assertEquals("Order with orderNo 20250600000001 not found", e.getMessage());
+            assertEquals("Order with orderNo " + ORDER_NO + " not found", e.getMessage());
         }
 
-        verify(orderRepository).findById(any(String.class));
+        verify(orderRepository).findById(any(OrderNo.class));
     }
 
     @Test
@@ -171,12 +280,12 @@ class OrderSvcTest {
         // Mock Inventory
         doReturn(new Inventory()).when(inventoryRepository).save(any(Inventory.class));
 
-        // Mock repo to return sequence
-        doReturn(1L).when(orderRepository).getNextOrderSeq();
+        // Mock order number
+        doReturn(OrderNo.of(YearMonth.now(), 1L)).when(orderNoGenerator).nextOrderNo();
 
         // Mock repo to return order
         Order order = new Order();
-        order.setOrderNo(OrderUtil.generateOrderNo(1L));
+        order.setOrderNo(OrderNo.of(YearMonth.now(), 1L));
         order.setQty(1);
         order.setPrice(item.getPrice());
         order.setItem(item);
@@ -193,7 +302,7 @@ class OrderSvcTest {
         OrderInfo orderInfo = response.getData();
 
         assertNotNull(orderInfo);
-        assertEquals(order.getOrderNo(), orderInfo.getOrderNo());
+        assertEquals(order.getOrderNo().toString(), orderInfo.getOrderNo());
         assertEquals(order.getQty(), orderInfo.getQty());
         assertEquals(order.getPrice(), orderInfo.getPrice());
         assertEquals(order.getItemName(), orderInfo.getItemName());
@@ -207,8 +316,44 @@ class OrderSvcTest {
         assertEquals(payload.getQty(), savedInventory.getQuantity());
         assertEquals(InventoryType.W, savedInventory.getType());
 
+        verify(stockReservation).reserve(1L, 1);
         verify(orderRepository).save(any(Order.class));
-        verify(orderRepository).getNextOrderSeq();
+        verify(orderNoGenerator).nextOrderNo();
+        verify(cacheInvalidationService).ordersAdded();
+        verify(salesRollupService).ordersPlaced(List.of(order));
+        verify(stockService).reserved(1L, 1);
+    }
+
+    @Test
+    void givenOrderOutbox_whenCreateOrder_thenAcceptWithoutWritingRows() {
+        // Prepare params
+        var payload = new CreateOrderRequest();
+        payload.setItemId(1L);
+        payload.setQty(2);
+
+        // Mock repo and outbox
+        Item item = new Item();
+        item.setId(1L);
+        item.setName("Pen");
+        item.setPrice(1.5);
+        doReturn(Optional.of(item)).when(itemRepository).findById(1L);
+        OrderNo orderNo = OrderNo.of(YearMonth.now(), 7);
+        OrderOutboxService outbox = mock(OrderOutboxService.class);
+        doReturn(new AcceptedOrder(orderNo.value(), 1L, 2, 1.5, 0L)).when(outbox).accept(item, 2);
+        ReflectionTestUtils.setField(orderSvc, "orderOutbox", Optional.of(outbox));
+
+        // Act
+        ApiResponse<OrderInfo> response = orderSvc.createOrder(payload);
+
+        // Assert
+        assertEquals(202, response.getCode());
+        assertEquals(orderNo.toString(), response.getData().getOrderNo());
+        assertEquals("Pen", response.getData().getItemName());
+        assertEquals(OrderStatus.CONFIRMED, response.getData().getStatus());
+        verify(stockReservation, never()).reserve(anyLong(), anyInt());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(inventoryRepository, never()).save(any(Inventory.class));
+        verify(stockService, never()).reserved(anyLong(), anyInt());
     }
 
     @Test
@@ -233,6 +378,8 @@ class OrderSvcTest {
     void givenItemInventoryIsEmpty_whenCreateOrder_thenThrowDataNotFoundException() {
         // Mock repo to return dummy item
         doReturn(Optional.of(new Item())).when(itemRepository).findById(any(Long.class));
+        doThrow(new DataNotFoundException("Failed to create order. Item inventory not found"))
+                .when(stockReservation).reserve(any(), anyInt());
 
         // Act & Assert
         try {
@@ -262,6 +409,7 @@ class OrderSvcTest {
         withdrawal.setQuantity(8);
         item.setInventory(List.of(inventory, withdrawal));
         doReturn(Optional.of(item)).when(itemRepository).findById(any(Long.class));
+        doThrow(new InsufficientStockException()).when(stockReservation).reserve(1L, 11);
 
         // Act & Assert
         try {
@@ -276,32 +424,77 @@ class OrderSvcTest {
         verify(itemRepository).findById(any(Long.class));
     }
 
+    @Test
+    void givenMixedBatch_whenCreateOrders_thenReturnPartialContent() {
+        // Mock settlement to accept the first line only
+        OrderInfo accepted = OrderInfo.builder().orderNo(ORDER_NO).itemId(1L).qty(3).build();
+        doReturn(List.of(
+                OrderLineResult.accepted(0, accepted),
+                OrderLineResult.rejected(1, new InsufficientStockException())))
+                .when(orderSettlementService).settle(anyList());
+
+        // Act
+        CreateOrderBatchRequest payload = CreateOrderBatchRequest.builder()
+                .orders(List.of(new CreateOrderRequest(1L, 3), new CreateOrderRequest(1L, 3)))
+                .build();
+        ApiResponse<OrderBatchResult> response = orderSvc.createOrders(payload);
+
+        // Assert
+        assertEquals(207, response.getCode());
+        OrderBatchResult result = response.getData();
+        assertEquals(1, result.getAccepted());
+        assertEquals(1, result.getRejected());
+        assertEquals(2, result.getLines().size());
+
+        ArgumentCaptor<List<OrderSettlementService.Line>> lineCaptor = ArgumentCaptor.forClass(List.class);
+        verify(orderSettlementService).settle(lineCaptor.capture());
+        assertEquals(new OrderSettlementService.Line(null, 1L, 3), lineCaptor.getValue().getFirst());
+    }
+
+    @Test
+    void givenNoLineCanBeFulfilled_whenCreateOrders_thenReturnBadRequest() {
+        // Mock settlement to reject every line
+        doReturn(List.of(OrderLineResult.rejected(0, new DataNotFoundException(OrderSvc.ITEM_NOT_FOUND))))
+                .when(orderSettlementService).settle(anyList());
+
+        // Act
+        CreateOrderBatchRequest payload = CreateOrderBatchRequest.builder()
+                .orders(List.of(new CreateOrderRequest(1L, 1)))
+                .build();
+        ApiResponse<OrderBatchResult> response = orderSvc.createOrders(payload);
+
+        // Assert
+        assertEquals(400, response.getCode());
+        assertEquals(0, response.getData().getAccepted());
+        assertEquals(1, response.getData().getRejected());
+    }
+
     @Test
     void givenOrderNo_whenDeleteByOrderNo_thenShouldSuccess() {
         // Mock repo
-        doReturn(1).when(orderRepository).removeByOrderNo(any(String.class));
+        doReturn(1).when(orderRepository).removeByOrderNo(any(OrderNo.class));
 
         // Act
-        ApiResponse<String> response = orderSvc.deleteOrderByOrderNo("20250600000001");
+        ApiResponse<String> response = orderSvc.deleteOrderByOrderNo(ORDER_NO);
 
         // Assert
-        assertEquals("Order with orderNo 20250600000001 deleted successfully", response.getMessage());
-        verify(orderRepository).removeByOrderNo(any(String.class));
+        assertEquals("Order with orderNo " + ORDER_NO + " deleted successfully", response.getMessage());
+        verify(orderRepository).removeByOrderNo(any(OrderNo.class));
     }
 
     @Test
     void givenOrderNo_whenDeleteByOrderNo_thenShouldThrowDataNotFoundException() {
         // Mock repo
-        doReturn(0).when(orderRepository).removeByOrderNo(any(String.class));
+        doReturn(0).when(orderRepository).removeByOrderNo(any(OrderNo.class));
 
         // Act & Assert
         try {
-            orderSvc.deleteOrderByOrderNo("20250600000001");
+            orderSvc.deleteOrderByOrderNo(ORDER_NO);
             fail("Expected DataNotFoundException to be thrown");
         } catch (DataNotFoundException e) {
-            assertEquals("Order with orderNo 20250600000001 not found", e.getMessage());
+            assertEquals("Order with orderNo " + ORDER_NO + " not found", e.getMessage());
         }
-        verify(orderRepository).removeByOrderNo(any(String.class));
+        verify(orderRepository).removeByOrderNo(any(OrderNo.class));
     }
 
     @Test
@@ -318,20 +511,20 @@ class OrderSvcTest {
         inventory.setType(InventoryType.T);
         item.setInventory(List.of(inventory));
 
-        existingOrder.setOrderNo("20250600000001");
+        existingOrder.setOrderNo(OrderNo.parse(ORDER_NO));
         existingOrder.setItem(item);
         existingOrder.setQty(1);
         existingOrder.setPrice(item.getPrice());
-        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(String.class));
+        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(OrderNo.class));
 
         // Mock order repo
         UpdateOrderRequest payload = new UpdateOrderRequest();
         payload.setQty(2);
-        payload.setOrderNo("20250600000001");
+        payload.setOrderNo(ORDER_NO);
         payload.setPrice(200.0);
 
         Order updatedOrder = new Order();
-        updatedOrder.setOrderNo("20250600000001");
+        updatedOrder.setOrderNo(OrderNo.parse(ORDER_NO));
         updatedOrder.setItem(item);
         updatedOrder.setQty(2);
         updatedOrder.setPrice(payload.getPrice());
@@ -342,14 +535,43 @@ class OrderSvcTest {
 
         // Assert
         OrderInfo actualOrderInfo = response.getData();
-        assertEquals("20250600000001", actualOrderInfo.getOrderNo());
+        assertEquals(ORDER_NO, actualOrderInfo.getOrderNo());
         assertEquals(2, actualOrderInfo.getQty());
         assertEquals(200.0, actualOrderInfo.getPrice());
 
-        verify(orderRepository).findById(any(String.class));
+        verify(stockReservation).reserve(1L, 1);
+        verify(stockService).reserved(1L, 1);
+        verify(stockService, never()).adjust(anyLong(), anyInt());
+        verify(orderRepository).findById(any(OrderNo.class));
         verify(orderRepository).save(any(Order.class));
     }
 
+    @Test
+    void givenLowerQty_whenUpdateOrder_thenReturnUnitsWithoutReserving() {
+        // Mock order repo
+        Item item = new Item();
+        item.setId(1L);
+        item.setPrice(100.0);
+        Order existingOrder = new Order();
+        existingOrder.setOrderNo(OrderNo.parse(ORDER_NO));
+        existingOrder.setItem(item);
+        existingOrder.setQty(3);
+        existingOrder.setPrice(item.getPrice());
+        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(OrderNo.class));
+        doReturn(existingOrder).when(orderRepository).save(any(Order.class));
+
+        UpdateOrderRequest payload = new UpdateOrderRequest();
+        payload.setQty(1);
+        payload.setOrderNo(ORDER_NO);
+
+        // Act
+        orderSvc.updateOrder(payload);
+
+        // Assert
+        verify(stockReservation, never()).reserve(anyLong(), anyInt());
+        verify(stockService).adjust(1L, 2);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void givenOrderNoAndItemId_whenUpdateOrder_thenShouldSuccess() {
@@ -365,11 +587,11 @@ class OrderSvcTest {
         inventory.setType(InventoryType.T);
         item.setInventory(List.of(inventory));
 
-        existingOrder.setOrderNo("20250600000001");
+        existingOrder.setOrderNo(OrderNo.parse(ORDER_NO));
         existingOrder.setItem(item);
         existingOrder.setQty(1);
         existingOrder.setPrice(item.getPrice());
-        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(String.class));
+        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(OrderNo.class));
 
         // Mock item repo
         Item item2 = new Item();
@@ -385,11 +607,11 @@ class OrderSvcTest {
         // Mock order repo
         UpdateOrderRequest payload = new UpdateOrderRequest();
         payload.setQty(1);
-        payload.setOrderNo("20250600000001");
+        payload.setOrderNo(ORDER_NO);
         payload.setItemId(2L);
 
         Order updatedOrder = new Order();
-        updatedOrder.setOrderNo("20250600000001");
+        updatedOrder.setOrderNo(OrderNo.parse(ORDER_NO));
         updatedOrder.setItem(item2);
         updatedOrder.setQty(1);
         updatedOrder.setPrice(item2.getPrice());
@@ -400,7 +622,7 @@ class OrderSvcTest {
 
         // Assert
         OrderInfo actualOrderInfo = response.getData();
-        assertEquals("20250600000001", actualOrderInfo.getOrderNo());
+        assertEquals(ORDER_NO, actualOrderInfo.getOrderNo());
         assertEquals(1, actualOrderInfo.getQty());
         assertEquals(200.0, actualOrderInfo.getPrice());
 
@@ -417,9 +639,12 @@ class OrderSvcTest {
         assertEquals(InventoryType.W, savedInventories.get(1).getType());
         assertEquals(1, savedInventories.get(1).getQuantity());
         assertEquals(item2.hashCode(), savedInventories.get(1).getItem().hashCode());
+        verify(stockReservation).reserve(2L, 1);
+        verify(stockService).reserved(2L, 1);
+        verify(stockService).adjust(1L, 1);
 
         verify(itemRepository).findById(any(Long.class));
-        verify(orderRepository).findById(any(String.class));
+        verify(orderRepository).findById(any(OrderNo.class));
         verify(orderRepository).save(any(Order.class));
     }
 
@@ -437,11 +662,11 @@ class OrderSvcTest {
         inventory.setType(InventoryType.T);
         item.setInventory(List.of(inventory));
 
-        existingOrder.setOrderNo("20250600000001");
+        existingOrder.setOrderNo(OrderNo.parse(ORDER_NO));
         existingOrder.setItem(item);
         existingOrder.setQty(1);
         existingOrder.setPrice(item.getPrice());
-        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(String.class));
+        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(OrderNo.class));
 
         // Mock item repo
         Item item2 = new Item();
@@ -450,11 +675,12 @@ class OrderSvcTest {
         item2.setPrice(200.0);
         item2.setInventory(List.of(inventory));
         doReturn(Optional.of(item2)).when(itemRepository).findById(any(Long.class));
+        doThrow(new InsufficientStockException()).when(stockReservation).reserve(2L, 12);
 
         // Mock order repo
         UpdateOrderRequest payload = new UpdateOrderRequest();
         payload.setQty(12);
-        payload.setOrderNo("20250600000001");
+        payload.setOrderNo(ORDER_NO);
         payload.setItemId(2L);
 
         // Act
@@ -467,7 +693,9 @@ class OrderSvcTest {
 
         // Assert
         verify(itemRepository).findById(any(Long.class));
-        verify(orderRepository).findById(any(String.class));
+        verify(orderRepository).findById(any(OrderNo.class));
+        verify(inventoryRepository, never()).saveAll(anyList());
+        verify(stockService, never()).adjust(anyLong(), anyInt());
     }
 
     @Test
@@ -484,17 +712,17 @@ class OrderSvcTest {
         inventory.setType(InventoryType.T);
         item.setInventory(List.of(inventory));
 
-        existingOrder.setOrderNo("20250600000001");
+        existingOrder.setOrderNo(OrderNo.parse(ORDER_NO));
         existingOrder.setItem(item);
         existingOrder.setQty(1);
         existingOrder.setPrice(item.getPrice());
-        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(String.class));
+        doReturn(Optional.of(existingOrder)).when(orderRepository).findById(any(OrderNo.class));
 
 
         // Mock order repo
         UpdateOrderRequest payload = new UpdateOrderRequest();
         payload.setQty(1);
-        payload.setOrderNo("20250600000001");
+        payload.setOrderNo(ORDER_NO);
 
         doReturn(existingOrder).when(orderRepository).save(any(Order.class));
 
@@ -503,11 +731,11 @@ class OrderSvcTest {
 
         // Assert
         OrderInfo actualOrderInfo = response.getData();
-        assertEquals("20250600000001", actualOrderInfo.getOrderNo());
+        assertEquals(ORDER_NO, actualOrderInfo.getOrderNo());
         assertEquals(1, actualOrderInfo.getQty());
         assertEquals(100.0, actualOrderInfo.getPrice());
 
-        verify(orderRepository).findById(any(String.class));
+        verify(orderRepository).findById(any(OrderNo.class));
         verify(orderRepository).save(any(Order.class));
     }
 }
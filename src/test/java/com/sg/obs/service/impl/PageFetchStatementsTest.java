@@ -0,0 +1,123 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.inventory.InventoryInfo;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import com.sg.obs.service.InventoryService;
+import com.sg.obs.service.OrderService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Pins the statements behind one order page and one inventory page: the rows with their items in one joined
+ * select plus the count, however many distinct items the page shows.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class PageFetchStatementsTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        Optional.ofNullable(cacheManager.getCache(HazelcastConfig.PAGED_ORDER_CACHE)).ifPresent(Cache::clear);
+    }
+
+    @Test
+    void givenOrdersOfDifferentItems_whenGetOrderList_thenLoadItemsWithTheRows() {
+        // Arrange - one order for each of the first six items
+        List<Order> orders = new ArrayList<>();
+        for (long itemId = 1; itemId <= 6; itemId++) {
+            Item item = itemRepository.getReferenceById(itemId);
+            Order order = new Order();
+            order.setOrderNo(OrderNo.of(YearMonth.now(), 900_000 + itemId));
+            order.setItem(item);
+            order.setQty(1);
+            order.setPrice(1.0);
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        ApiResponse<PageWrapper<OrderInfo>> response = orderService.getOrderList(PageRequest.of(0, PAGE_SIZE), false);
+
+        // Assert
+        List<OrderInfo> content = response.getData().getContent();
+        assertEquals(PAGE_SIZE, content.size());
+        content.forEach(order -> assertNotNull(order.getItemName()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    void givenMovementsOfDifferentItems_whenGetInventoryList_thenLoadItemsWithTheRows() {
+        // Arrange - the seeded ledger has one top-up for each of the first seven items
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        ApiResponse<PageWrapper<InventoryInfo>> response = inventoryService.getInventoryList(PageRequest.of(0, PAGE_SIZE), false);
+
+        // Assert
+        List<InventoryInfo> content = response.getData().getContent();
+        assertEquals(PAGE_SIZE, content.size());
+        content.forEach(inventory -> assertNotNull(inventory.getItemName()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+}
@@ -0,0 +1,67 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.dto.ApiResponse;
+import com.sg.obs.dto.order.CreateOrderRequest;
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.exception.ApiException;
+import com.sg.obs.service.pipeline.OrderPipeline;
+import com.sg.obs.service.pipeline.PipelinedOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class PipelinedOrderSvcTest {
+
+    @Mock
+    private OrderSvc orderSvc;
+
+    @Mock
+    private OrderPipeline orderPipeline;
+
+    private PipelinedOrderSvc pipelinedOrderSvc;
+
+    @BeforeEach
+    void setUp() {
+        pipelinedOrderSvc = new PipelinedOrderSvc(orderSvc, orderPipeline, Duration.ofMillis(10));
+    }
+
+    @Test
+    void givenCommittedOrder_whenCreateOrder_thenReturnCreated() {
+        // Mock pipeline
+        PipelinedOrder order = new PipelinedOrder();
+        order.complete(OrderInfo.builder().itemId(1L).qty(2).build());
+        doReturn(order).when(orderPipeline).submit(1L, 2);
+
+        // Act
+        ApiResponse<OrderInfo> response = pipelinedOrderSvc.createOrder(new CreateOrderRequest(1L, 2));
+
+        // Assert
+        assertEquals(201, response.getCode());
+        assertEquals(2, response.getData().getQty());
+    }
+
+    @Test
+    void givenOrderNotClaimedInTime_whenCreateOrder_thenAbandonItAndAskForRetry() {
+        // Mock pipeline: the shard never reaches the order
+        PipelinedOrder order = new PipelinedOrder();
+        doReturn(order).when(orderPipeline).submit(1L, 2);
+
+        // Act
+        ApiException exception = assertThrows(ApiException.class,
+                () -> pipelinedOrderSvc.createOrder(new CreateOrderRequest(1L, 2)));
+
+        // Assert
+        assertEquals(503, exception.getHttpCode());
+        assertFalse(order.abandon());
+    }
+}
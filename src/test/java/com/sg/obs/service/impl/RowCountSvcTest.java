@@ -0,0 +1,90 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import com.sg.obs.repository.InventoryRepository;
+import com.sg.obs.repository.ItemRepository;
+import com.sg.obs.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RowCountSvcTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    private RowCountSvc rowCountSvc;
+
+    @BeforeEach
+    void setUp() {
+        rowCountSvc = new RowCountSvc(itemRepository, orderRepository, inventoryRepository);
+    }
+
+    @Test
+    void givenAdjustments_whenEstimate_thenCountOnceAndApplyDeltas() {
+        // Mock repo
+        doReturn(100L).when(orderRepository).count();
+
+        // Act
+        rowCountSvc.adjust(Order.class, 5);
+        long first = rowCountSvc.estimate(Order.class);
+        rowCountSvc.adjust(Order.class, 3);
+        rowCountSvc.adjust(Order.class, -1);
+        long second = rowCountSvc.estimate(Order.class);
+
+        // Assert
+        assertEquals(100, first);
+        assertEquals(102, second);
+        verify(orderRepository, times(1)).count();
+        verify(inventoryRepository, never()).count();
+    }
+
+    @Test
+    void givenDrift_whenRefreshOrInvalidate_thenRecountFromTable() {
+        // Mock repo
+        doReturn(10L, 20L, 30L).when(itemRepository).count();
+
+        // Act & Assert
+        assertEquals(10, rowCountSvc.estimate(Item.class));
+        rowCountSvc.adjust(Item.class, -50);
+        assertEquals(0, rowCountSvc.estimate(Item.class));
+        rowCountSvc.refresh();
+        assertEquals(20, rowCountSvc.estimate(Item.class));
+        rowCountSvc.invalidate(Item.class);
+        assertEquals(30, rowCountSvc.estimate(Item.class));
+    }
+
+    @Test
+    void givenUntrackedEntity_whenEstimate_thenThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> rowCountSvc.estimate(String.class));
+    }
+
+    @Test
+    void givenInventoryNotLoaded_whenRefresh_thenDoNotCount() {
+        // Act
+        rowCountSvc.adjust(Inventory.class, 1);
+        rowCountSvc.refresh();
+
+        // Assert
+        verify(inventoryRepository, never()).count();
+    }
+}
@@ -0,0 +1,159 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.flakeidgen.FlakeIdGenerator;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.sales.SalesEvent;
+import com.sg.obs.dto.sales.SalesRollup;
+import com.sg.obs.dto.sales.SalesRollupInfo;
+import com.sg.obs.enums.SalesWindow;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupSvcTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private IMap<Long, SalesEvent> events;
+
+    @Mock
+    private IMap<String, SalesRollup> rollups;
+
+    @Mock
+    private FlakeIdGenerator eventIds;
+
+    private SalesRollupSvc salesRollupSvc;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(events).when(hazelcastInstance).getMap(HazelcastConfig.SALES_EVENT_MAP);
+        doReturn(eventIds).when(hazelcastInstance).getFlakeIdGenerator(HazelcastConfig.SALES_EVENT_ID_GENERATOR);
+        salesRollupSvc = new SalesRollupSvc(hazelcastInstance, true, Duration.ofSeconds(2), Duration.ofSeconds(1));
+    }
+
+    @Test
+    void givenHourlyRollups_whenGetSalesRollups_thenReturnWindowsWithSalesNewestFirst() {
+        // Arrange
+        long currentHour = System.currentTimeMillis() / HOUR * HOUR;
+        SalesRollup current = new SalesRollup(1L, currentHour, currentHour + HOUR, 3, 30.0, -3);
+        SalesRollup twoHoursAgo = new SalesRollup(1L, currentHour - 2 * HOUR, currentHour - HOUR, 1, 10.0, 4);
+        doReturn(rollups).when(hazelcastInstance).getMap(SalesWindow.HOUR.getMapName());
+        doReturn(Map.of(SalesRollup.key(1L, currentHour - 2 * HOUR), twoHoursAgo, SalesRollup.key(1L, currentHour), current))
+                .when(rollups).getAll(Set.of(SalesRollup.key(1L, currentHour), SalesRollup.key(1L, currentHour - HOUR),
+                        SalesRollup.key(1L, currentHour - 2 * HOUR)));
+
+        // Act
+        List<SalesRollupInfo> result = salesRollupSvc.getSalesRollups(1L, SalesWindow.HOUR, 3).getData();
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(3L, result.get(0).getUnits());
+        assertEquals(30.0, result.get(0).getRevenue());
+        assertEquals(SalesWindow.HOUR, result.get(0).getWindow());
+        assertEquals(1L, result.get(1).getUnits());
+        assertEquals(4L, result.get(1).getStockDelta());
+        assertEquals(result.get(1).getWindowEnd().minusHours(1), result.get(1).getWindowStart());
+    }
+
+    @Test
+    void givenCountBeyondRetention_whenGetSalesRollups_thenReadOnlyRetainedWindows() {
+        // Arrange
+        doReturn(rollups).when(hazelcastInstance).getMap(SalesWindow.DAY.getMapName());
+        doReturn(Map.of()).when(rollups).getAll(argThat(keys -> keys.size() == 400));
+
+        // Act
+        List<SalesRollupInfo> result = salesRollupSvc.getSalesRollups(1L, SalesWindow.DAY, 10_000).getData();
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void givenTrailingHour_whenGetSalesRollups_thenReadWindowEndingAtNextSlide() {
+        // Arrange
+        long minute = Duration.ofMinutes(1).toMillis();
+        long windowEnd = System.currentTimeMillis() / minute * minute + minute;
+        doReturn(rollups).when(hazelcastInstance).getMap(SalesWindow.TRAILING_HOUR.getMapName());
+        doReturn(new SalesRollup(1L, windowEnd - HOUR, windowEnd, 5, 50.0, 0)).when(rollups).get(SalesRollup.key(1L, windowEnd));
+
+        // Act
+        List<SalesRollupInfo> result = salesRollupSvc.getSalesRollups(1L, SalesWindow.TRAILING_HOUR, 24).getData();
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(5L, result.getFirst().getUnits());
+    }
+
+    @Test
+    void givenActiveTransaction_whenOrdersPlaced_thenPublishSalesAfterCommit() {
+        // Arrange
+        doReturn(CompletableFuture.completedFuture(null)).when(events).setAllAsync(anyMap());
+        doReturn(7L).when(eventIds).newId();
+        Order order = new Order();
+        Item item = new Item();
+        item.setId(1L);
+        order.setItem(item);
+        order.setQty(3);
+        order.setPrice(2.5);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            salesRollupSvc.ordersPlaced(List.of(order));
+
+            // Assert
+            verifyNoMoreInteractions(events);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            ArgumentCaptor<Map<Long, SalesEvent>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(events).setAllAsync(captor.capture());
+            SalesEvent sale = captor.getValue().get(7L);
+            assertEquals(1L, sale.itemId());
+            assertEquals(3, sale.units());
+            assertEquals(7.5, sale.revenue());
+            assertEquals(0, sale.stockDelta());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenRollupsDisabled_whenStockMoved_thenPublishNothing() {
+        // Arrange
+        SalesRollupSvc disabled = new SalesRollupSvc(hazelcastInstance, false, Duration.ofSeconds(2), Duration.ofSeconds(1));
+
+        // Act
+        disabled.stockMoved(1L, 5);
+        disabled.ordersPlaced(List.of(new Order()));
+
+        // Assert
+        verifyNoInteractions(events, eventIds);
+    }
+}
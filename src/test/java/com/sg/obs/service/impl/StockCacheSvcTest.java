@@ -0,0 +1,127 @@
+package com.sg.obs.service.impl;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.repository.projection.ItemStockVersion;
+import com.sg.obs.service.CacheInvalidationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StockCacheSvcTest {
+
+    @Mock
+    private ItemStockRepository itemStockRepository;
+
+    @Mock
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+
+    @Mock
+    private IMap<Long, Integer> stocks;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StockCacheSvc stockCacheSvc;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(stocks).when(hazelcastInstance).getMap(HazelcastConfig.STOCK_CACHE);
+        stockCacheSvc = new StockCacheSvc(itemStockRepository, cacheInvalidationService, hazelcastInstance,
+                meterRegistry);
+    }
+
+    @Test
+    void givenPartlyCachedStock_whenGetRemainingStock_thenLoadOnlyMisses() {
+        // Mock repo
+        doReturn(Map.of(1L, 4)).when(stocks).getAll(Set.of(1L, 2L, 3L));
+        doReturn(List.of(stock(2L, 9, 5L))).when(itemStockRepository).findStockVersions(Set.of(2L, 3L));
+
+        // Act
+        Map<Long, Integer> remaining = stockCacheSvc.getRemainingStock(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(Map.of(1L, 4, 2L, 9, 3L, 0), remaining);
+        verify(stocks).putAll(Map.of(2L, 9, 3L, 0));
+        verify(stocks, never()).delete(any());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").counter().count());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void givenWriteCommittedDuringLoad_whenGetRemainingStock_thenEvictLoadedBalance() {
+        // Mock repo
+        doReturn(Map.of()).when(stocks).getAll(Set.of(2L));
+        doReturn(List.of(stock(2L, 9, 5L)), List.of(stock(2L, 6, 6L)))
+                .when(itemStockRepository).findStockVersions(Set.of(2L));
+
+        // Act
+        int remaining = stockCacheSvc.getRemainingStock(2L);
+
+        // Assert
+        assertEquals(9, remaining);
+        InOrder inOrder = inOrder(stocks);
+        inOrder.verify(stocks).putAll(Map.of(2L, 9));
+        inOrder.verify(stocks).delete(2L);
+    }
+
+    @Test
+    void givenActiveTransaction_whenEvict_thenEvictCachedBalanceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            stockCacheSvc.evict(1L);
+
+            // Assert
+            verifyNoMoreInteractions(stocks);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(stocks).delete(1L);
+            verify(cacheInvalidationService).stockChanged(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ItemStockVersion stock(Long itemId, int quantity, Long version) {
+        return new ItemStockVersion() {
+            @Override
+            public Long getItemId() {
+                return itemId;
+            }
+
+            @Override
+            public Integer getQuantity() {
+                return quantity;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+}
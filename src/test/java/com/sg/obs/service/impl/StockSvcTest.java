@@ -0,0 +1,209 @@
+package com.sg.obs.service.impl;
+
+import com.sg.obs.enums.InventoryType;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.models.Inventory;
+import com.sg.obs.models.Item;
+import com.sg.obs.models.ItemStock;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.service.SalesRollupService;
+import com.sg.obs.service.StockCacheService;
+import com.sg.obs.service.reservation.StockReservationStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class StockSvcTest {
+
+    @Mock
+    private ItemStockRepository itemStockRepository;
+
+    @Mock
+    private StockCacheService stockCacheService;
+
+    @Mock
+    private StockReservationStrategy stockReservation;
+
+    @Mock
+    private SalesRollupService salesRollupService;
+
+    @InjectMocks
+    private StockSvc stockSvc;
+
+    @Test
+    void givenStockExists_whenFindRemainingStock_thenReturnBalance() {
+        // Mock repo
+        doReturn(Optional.of(ItemStock.builder().itemId(1L).quantity(12).build()))
+                .when(itemStockRepository).findById(1L);
+
+        // Act & Assert
+        assertEquals(Optional.of(12), stockSvc.findRemainingStock(1L));
+        assertEquals(12, stockSvc.getRemainingStock(1L));
+    }
+
+    @Test
+    void givenStockDoesNotExist_whenGetRemainingStock_thenReturnZero() {
+        // Mock repo
+        doReturn(Optional.empty()).when(itemStockRepository).findById(1L);
+
+        // Act & Assert
+        assertTrue(stockSvc.findRemainingStock(1L).isEmpty());
+        assertEquals(0, stockSvc.getRemainingStock(1L));
+    }
+
+    @Test
+    void givenItemIds_whenGetRemainingStock_thenReturnBalancesById() {
+        // Mock repo
+        doReturn(List.of(ItemStock.builder().itemId(1L).quantity(5).build(),
+                ItemStock.builder().itemId(2L).quantity(7).build()))
+                .when(itemStockRepository).findAllById(List.of(1L, 2L));
+
+        // Act
+        Map<Long, Integer> stocks = stockSvc.getRemainingStock(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(Map.of(1L, 5, 2L, 7), stocks);
+    }
+
+    @Test
+    void givenWithdrawal_whenApply_thenDecreaseBalance() {
+        // Mock repo
+        doReturn(1).when(itemStockRepository).adjustQuantity(1L, -3);
+
+        // Act
+        stockSvc.apply(movement(1L, 3, InventoryType.W));
+
+        // Assert
+        verify(itemStockRepository).adjustQuantity(1L, -3);
+        verify(itemStockRepository, never()).save(any(ItemStock.class));
+        verify(stockCacheService).evict(1L);
+        verify(stockReservation).stockMoved(1L, -3);
+        verify(salesRollupService).stockMoved(1L, -3);
+    }
+
+    @Test
+    void givenTopUp_whenRevert_thenDecreaseBalance() {
+        // Mock repo
+        doReturn(1).when(itemStockRepository).adjustQuantity(1L, -4);
+
+        // Act
+        stockSvc.revert(movement(1L, 4, InventoryType.T));
+
+        // Assert
+        verify(itemStockRepository).adjustQuantity(1L, -4);
+    }
+
+    @Test
+    void givenStockDoesNotExist_whenApply_thenThrowDataNotFoundException() {
+        // Mock repo
+        doReturn(0).when(itemStockRepository).adjustQuantity(1L, 10);
+
+        // Act & Assert
+        assertThrows(DataNotFoundException.class, () -> stockSvc.apply(movement(1L, 10, InventoryType.T)));
+        verify(itemStockRepository, never()).save(any(ItemStock.class));
+        verifyNoInteractions(stockCacheService, stockReservation, salesRollupService);
+    }
+
+    @Test
+    void givenStock_whenRemoveStock_thenDeleteBalanceAndNotifyReservation() {
+        // Act
+        stockSvc.removeStock(1L);
+
+        // Assert
+        verify(itemStockRepository).deleteById(1L);
+        verify(stockCacheService).evict(1L);
+        verify(stockReservation).stockRemoved(1L);
+    }
+
+    @Test
+    void givenActiveTransaction_whenReserved_thenRecordMovementWithoutNotifyingReservation() {
+        // Mock reservation
+        doReturn(true).when(stockReservation).withdrawsItemStock();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            stockSvc.reserved(1L, 3);
+
+            // Assert
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(stockCacheService).evict(1L);
+            verify(stockReservation, never()).stockMoved(any(), anyInt());
+            verify(salesRollupService).stockMoved(1L, -3);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenReservationWithOwnBalance_whenReserved_thenWithdrawFromItemStock() {
+        // Mock reservation and repo
+        doReturn(false).when(stockReservation).withdrawsItemStock();
+        doReturn(1).when(itemStockRepository).adjustQuantity(1L, -3);
+
+        // Act
+        stockSvc.reserved(1L, 3);
+
+        // Assert
+        verify(itemStockRepository).adjustQuantity(1L, -3);
+        verify(stockCacheService).evict(1L);
+        verify(stockReservation, never()).stockMoved(any(), anyInt());
+        verify(salesRollupService).stockMoved(1L, -3);
+    }
+
+    @Test
+    void givenActiveTransaction_whenWithdrawn_thenNotifyReservationAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            stockSvc.withdrawn(1L, 3);
+
+            // Assert
+            verify(stockReservation, never()).stockMoved(any(), anyInt());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(stockCacheService).evict(1L);
+            verify(stockReservation).stockMoved(1L, -3);
+            verify(salesRollupService).stockMoved(1L, -3);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenNewItem_whenCreateStock_thenSaveZeroBalance() {
+        // Act
+        stockSvc.createStock(1L);
+
+        // Assert
+        ArgumentCaptor<ItemStock> captor = ArgumentCaptor.forClass(ItemStock.class);
+        verify(itemStockRepository).save(captor.capture());
+        assertEquals(1L, captor.getValue().getItemId());
+        assertEquals(0, captor.getValue().getQuantity());
+    }
+
+    private Inventory movement(Long itemId, int qty, InventoryType type) {
+        Item item = new Item();
+        item.setId(itemId);
+        return Inventory.builder().item(item).quantity(qty).type(type).build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.sg.obs.service.pipeline;
+
+import com.sg.obs.dto.order.OrderInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPipelineTest {
+
+    @Mock
+    private OrderBatchWriter writer;
+
+    private OrderPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void givenConcurrentOrders_whenSubmit_thenEveryOrderCompletesThroughItsShard() {
+        // Mock writer
+        doReturn(Optional.of(1_000)).when(writer).findBalance(anyLong());
+        doAnswer(OrderShardHandlerTest.commitAll()).when(writer).write(anyList());
+        pipeline = new OrderPipeline(writer, new SimpleMeterRegistry(), 2, 64, 16);
+
+        // Act
+        List<CompletableFuture<OrderInfo>> results = IntStream.range(0, 200).parallel()
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> pipeline.submit((long) i % 5, 1))
+                        .thenCompose(future -> future))
+                .toList();
+
+        // Assert
+        assertThat(results).allSatisfy(result -> assertThat(result.join().getQty()).isEqualTo(1));
+        verify(writer, atMost(200)).write(anyList());
+    }
+}
@@ -0,0 +1,220 @@
+package com.sg.obs.service.pipeline;
+
+import com.sg.obs.dto.order.OrderInfo;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import com.sg.obs.service.impl.OrderSvc;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderShardHandlerTest {
+
+    @Mock
+    private OrderBatchWriter writer;
+
+    private OrderShardHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new OrderShardHandler(writer, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenEnoughStock_whenRingBufferDrains_thenGroupCommitOnce() {
+        // Mock writer
+        doReturn(Optional.of(10)).when(writer).findBalance(1L);
+        doAnswer(commitAll()).when(writer).write(anyList());
+
+        // Act
+        CompletableFuture<OrderInfo> first = publish(1L, 2, false);
+        CompletableFuture<OrderInfo> second = publish(1L, 3, true);
+
+        // Assert
+        assertThat(first.join().getQty()).isEqualTo(2);
+        assertThat(second.join().getQty()).isEqualTo(3);
+        verify(writer).findBalance(1L);
+        verify(writer).write(anyList());
+    }
+
+    @Test
+    void givenCachedBalanceExhausted_whenOrder_thenReloadBeforeRejecting() {
+        // Mock writer: stock was topped up outside the pipeline after the first order
+        doReturn(Optional.of(5), Optional.of(10)).when(writer).findBalance(1L);
+        doAnswer(commitAll()).when(writer).write(anyList());
+
+        // Act
+        CompletableFuture<OrderInfo> first = publish(1L, 5, true);
+        CompletableFuture<OrderInfo> second = publish(1L, 3, true);
+
+        // Assert
+        assertThat(first).isCompleted();
+        assertThat(second.join().getQty()).isEqualTo(3);
+        verify(writer, times(2)).findBalance(1L);
+    }
+
+    @Test
+    void givenInsufficientStock_whenOrder_thenRejectWithoutWriting() {
+        // Mock writer
+        doReturn(Optional.of(2)).when(writer).findBalance(1L);
+
+        // Act
+        CompletableFuture<OrderInfo> result = publish(1L, 3, true);
+
+        // Assert
+        assertThat(result).failsWithin(Duration.ZERO)
+                .withThrowableThat().withCauseInstanceOf(InsufficientStockException.class);
+        verify(writer, never()).write(anyList());
+    }
+
+    @Test
+    void givenMissingStockRow_whenOrder_thenRejectAsNotFound() {
+        // Mock writer
+        doReturn(Optional.empty()).when(writer).findBalance(1L);
+        doReturn(true).when(writer).itemExists(1L);
+        doReturn(Optional.empty()).when(writer).findBalance(2L);
+        doReturn(false).when(writer).itemExists(2L);
+
+        // Act
+        CompletableFuture<OrderInfo> noInventory = publish(1L, 1, false);
+        CompletableFuture<OrderInfo> noItem = publish(2L, 1, true);
+
+        // Assert
+        assertThat(noInventory.exceptionNow()).isInstanceOf(DataNotFoundException.class)
+                .hasMessage(OrderSvc.INVENTORY_NOT_FOUND);
+        assertThat(noItem.exceptionNow()).isInstanceOf(DataNotFoundException.class)
+                .hasMessage(OrderSvc.ITEM_NOT_FOUND);
+    }
+
+    @Test
+    void givenGuardedWithdrawalConflicts_whenFlush_thenRetryOnceAgainstReloadedBalance() {
+        // Mock writer: cached balance is stale, the database only holds 4
+        doReturn(Optional.of(10), Optional.of(4)).when(writer).findBalance(1L);
+        doAnswer(invocation -> {
+            List<PendingOrder> batch = invocation.getArgument(0);
+            return new BatchWriteResult(Map.of(), List.of(), batch);
+        }).doAnswer(commitAll()).when(writer).write(anyList());
+
+        // Act
+        CompletableFuture<OrderInfo> first = publish(1L, 3, false);
+        CompletableFuture<OrderInfo> second = publish(1L, 3, true);
+
+        // Assert
+        assertThat(first.join().getQty()).isEqualTo(3);
+        assertThat(second.exceptionNow()).isInstanceOf(InsufficientStockException.class);
+        verify(writer, times(2)).write(anyList());
+    }
+
+    @Test
+    void givenRepeatedConflict_whenFlush_thenRejectWithConflict() {
+        // Mock writer
+        doReturn(Optional.of(10)).when(writer).findBalance(1L);
+        doAnswer(invocation -> new BatchWriteResult(Map.of(), List.of(), invocation.getArgument(0)))
+                .when(writer).write(anyList());
+
+        // Act
+        CompletableFuture<OrderInfo> result = publish(1L, 3, true);
+
+        // Assert
+        assertThat(result.exceptionNow()).isInstanceOf(StockConflictException.class);
+        verify(writer, times(2)).write(anyList());
+    }
+
+    @Test
+    void givenCommitFails_whenFlush_thenFailEveryOrderInBatch() {
+        // Mock writer
+        doReturn(Optional.of(10)).when(writer).findBalance(1L);
+        doThrow(new IllegalStateException("db down")).when(writer).write(anyList());
+
+        // Act
+        CompletableFuture<OrderInfo> first = publish(1L, 1, false);
+        CompletableFuture<OrderInfo> second = publish(1L, 1, true);
+
+        // Assert
+        assertThat(first.exceptionNow()).hasMessage("db down");
+        assertThat(second.exceptionNow()).hasMessage("db down");
+    }
+
+    @Test
+    void givenOrderAbandonedBeforeCommit_whenFlush_thenSkipItAndReleaseItsStock() {
+        // Mock writer
+        doReturn(Optional.of(10)).when(writer).findBalance(1L);
+        doAnswer(commitAll()).when(writer).write(anyList());
+
+        // Act - the caller of the first order times out before the ring buffer drains
+        PipelinedOrder abandoned = publish(1L, 2, false);
+        assertThat(abandoned.abandon()).isTrue();
+        PipelinedOrder kept = publish(1L, 3, true);
+        PipelinedOrder rest = publish(1L, 7, true);
+
+        // Assert
+        assertThat(abandoned).isNotDone();
+        assertThat(kept.join().getQty()).isEqualTo(3);
+        assertThat(rest.join().getQty()).isEqualTo(7);
+        ArgumentCaptor<List<PendingOrder>> batches = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(2)).write(batches.capture());
+        assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).singleElement()
+                .satisfies(order -> assertThat(order.result()).isNotSameAs(abandoned)));
+        verify(writer).findBalance(1L);
+    }
+
+    @Test
+    void givenOrderClaimedByCommit_whenAbandon_thenRefuse() {
+        // Mock writer: the caller times out while the group commit is running
+        doReturn(Optional.of(10)).when(writer).findBalance(1L);
+        doAnswer(invocation -> {
+            List<PendingOrder> batch = invocation.getArgument(0);
+            assertThat(batch.getFirst().result().abandon()).isFalse();
+            return commitAll().answer(invocation);
+        }).when(writer).write(anyList());
+
+        // Act
+        PipelinedOrder result = publish(1L, 2, true);
+
+        // Assert
+        assertThat(result.join().getQty()).isEqualTo(2);
+    }
+
+    private PipelinedOrder publish(Long itemId, int qty, boolean endOfBatch) {
+        PipelinedOrder result = new PipelinedOrder();
+        OrderEvent event = new OrderEvent();
+        event.set(itemId, qty, result);
+        handler.onEvent(event, 0, endOfBatch);
+        return result;
+    }
+
+    static Answer<BatchWriteResult> commitAll() {
+        return invocation -> {
+            List<PendingOrder> batch = invocation.getArgument(0);
+            Map<PendingOrder, OrderInfo> committed = new IdentityHashMap<>();
+            batch.forEach(order -> committed.put(order, OrderInfo.builder()
+                    .itemId(order.itemId())
+                    .qty(order.qty())
+                    .build()));
+            return new BatchWriteResult(committed, List.of(), List.of());
+        };
+    }
+}
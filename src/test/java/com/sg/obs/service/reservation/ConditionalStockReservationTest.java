@@ -0,0 +1,68 @@
+package com.sg.obs.service.reservation;
+
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.repository.ItemStockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalStockReservationTest {
+
+    @Mock
+    private ItemStockRepository itemStockRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConditionalStockReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = new ConditionalStockReservation(itemStockRepository, meterRegistry);
+    }
+
+    @Test
+    void givenEnoughStock_whenReserve_thenDecrementInOneStatement() {
+        // Mock repo
+        doReturn(1).when(itemStockRepository).decrementIfAvailable(1L, 3);
+
+        // Act
+        reservation.reserve(1L, 3);
+
+        // Assert
+        verify(itemStockRepository, never()).existsById(1L);
+        assertEquals(1, meterRegistry.get("stock.reservation").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void givenNotEnoughStock_whenReserve_thenThrowInsufficientStockException() {
+        // Mock repo
+        doReturn(0).when(itemStockRepository).decrementIfAvailable(1L, 3);
+        doReturn(true).when(itemStockRepository).existsById(1L);
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class, () -> reservation.reserve(1L, 3));
+        assertEquals(1, meterRegistry.get("stock.reservation").tag("outcome", "insufficient").timer().count());
+    }
+
+    @Test
+    void givenNoStockBalance_whenReserve_thenThrowDataNotFoundException() {
+        // Mock repo
+        doReturn(0).when(itemStockRepository).decrementIfAvailable(1L, 3);
+        doReturn(false).when(itemStockRepository).existsById(1L);
+
+        // Act & Assert
+        DataNotFoundException e = assertThrows(DataNotFoundException.class, () -> reservation.reserve(1L, 3));
+        assertEquals("Failed to create order. Item inventory not found", e.getMessage());
+    }
+}
@@ -0,0 +1,188 @@
+package com.sg.obs.service.reservation;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.exception.DataNotFoundException;
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.repository.projection.StockVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GridStockReservationTest {
+
+    @Mock
+    private ItemStockRepository itemStockRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final HazelcastInstance hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(
+            HazelcastConfig.config(HazelcastConfig.INSTANCE_NAME, HazelcastConfig.ClusterSettings.standalone()));
+
+    private IMap<Long, Integer> balances;
+
+    private GridStockReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        balances = hazelcastInstance.getMap(HazelcastConfig.STOCK_BALANCE_MAP);
+        balances.clear();
+        reservation = new GridStockReservation(itemStockRepository, hazelcastInstance, meterRegistry);
+    }
+
+    @Test
+    void givenBalanceNotInGrid_whenReserve_thenSeedFromItemStockAndWithdrawOnlyInGrid() {
+        // Mock repo
+        doReturn(Optional.of(stock(10, 0L))).when(itemStockRepository).findStockVersion(1L);
+
+        // Act
+        reservation.reserve(1L, 3);
+
+        // Assert
+        assertEquals(7, balances.get(1L));
+        assertFalse(reservation.withdrawsItemStock());
+        verify(itemStockRepository, never()).decrementIfAvailable(eq(1L), anyInt());
+        assertEquals(1, meterRegistry.get("stock.reservation").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void givenNotEnoughStock_whenReserve_thenThrowWithoutReadingItemStock() {
+        // Arrange - ITEM_STOCK still shows units reserved by orders waiting in the outbox
+        balances.set(1L, 2);
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class, () -> reservation.reserve(1L, 3));
+        assertEquals(2, balances.get(1L));
+        verify(itemStockRepository, never()).findStockVersion(1L);
+    }
+
+    @Test
+    void givenMovementCommittedWhileSeeding_whenReserve_thenDropSeedAndThrowConflict() {
+        // Mock repo - a top-up committed between reading the balance and putting it, so its adjustment was lost
+        doReturn(Optional.of(stock(10, 0L)), Optional.of(stock(15, 1L))).when(itemStockRepository).findStockVersion(1L);
+
+        // Act & Assert
+        assertThrows(StockConflictException.class, () -> reservation.reserve(1L, 3));
+        assertNull(balances.get(1L));
+        assertEquals(1, meterRegistry.get("stock.reservation.conflicts").counter().count());
+    }
+
+    @Test
+    void givenNoStockBalance_whenReserve_thenThrowDataNotFoundException() {
+        // Mock repo
+        doReturn(Optional.empty()).when(itemStockRepository).findStockVersion(1L);
+
+        // Act & Assert
+        DataNotFoundException e = assertThrows(DataNotFoundException.class, () -> reservation.reserve(1L, 3));
+        assertEquals("Failed to create order. Item inventory not found", e.getMessage());
+        assertNull(balances.get(1L));
+    }
+
+    @Test
+    void givenConcurrentOrders_whenReserve_thenNeverOversell() throws Exception {
+        // Arrange
+        balances.set(1L, 25);
+        int callers = 40;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        reservation.reserve(1L, 1);
+                        return true;
+                    } catch (InsufficientStockException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int reserved = 0;
+            for (Future<Boolean> result : results) {
+                reserved += result.get() ? 1 : 0;
+            }
+
+            // Assert
+            assertEquals(25, reserved);
+        }
+        assertEquals(0, balances.get(1L));
+    }
+
+    @Test
+    void givenTransactionRolledBack_whenReserved_thenReturnUnitsToGrid() {
+        // Arrange
+        balances.set(1L, 10);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            reservation.reserve(1L, 4);
+            assertEquals(6, balances.get(1L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Assert
+            assertEquals(10, balances.get(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void givenMovementOutsideReservation_whenStockMoved_thenAdjustOnlyLoadedBalances() {
+        // Arrange
+        balances.set(1L, 10);
+
+        // Act
+        reservation.stockMoved(1L, 5);
+        reservation.stockMoved(2L, 5);
+
+        // Assert
+        assertEquals(15, balances.get(1L));
+        assertNull(balances.get(2L));
+    }
+
+    private StockVersion stock(int quantity, Long version) {
+        return new StockVersion() {
+            @Override
+            public Integer getQuantity() {
+                return quantity;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+}
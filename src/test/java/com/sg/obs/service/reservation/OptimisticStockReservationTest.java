@@ -0,0 +1,94 @@
+package com.sg.obs.service.reservation;
+
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.exception.StockConflictException;
+import com.sg.obs.repository.ItemStockRepository;
+import com.sg.obs.repository.projection.StockVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticStockReservationTest {
+
+    @Mock
+    private ItemStockRepository itemStockRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OptimisticStockReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = new OptimisticStockReservation(itemStockRepository, meterRegistry, 3, Duration.ofMillis(1));
+    }
+
+    @Test
+    void givenConcurrentUpdate_whenReserve_thenRetryWithFreshVersion() {
+        // Mock repo
+        doReturn(Optional.of(stock(10, 1L)), Optional.of(stock(8, 2L)))
+                .when(itemStockRepository).findStockVersion(1L);
+        doReturn(0).when(itemStockRepository).compareAndSetQuantity(1L, 7, 1L);
+        doReturn(1).when(itemStockRepository).compareAndSetQuantity(1L, 5, 2L);
+
+        // Act
+        reservation.reserve(1L, 3);
+
+        // Assert
+        verify(itemStockRepository).compareAndSetQuantity(1L, 5, 2L);
+        assertEquals(1, meterRegistry.get("stock.reservation.conflicts").counter().count());
+        assertEquals(1, meterRegistry.get("stock.reservation.retries").counter().count());
+    }
+
+    @Test
+    void givenPersistentConflict_whenReserve_thenThrowStockConflictException() {
+        // Mock repo
+        doReturn(Optional.of(stock(10, 1L))).when(itemStockRepository).findStockVersion(1L);
+        doReturn(0).when(itemStockRepository).compareAndSetQuantity(1L, 7, 1L);
+
+        // Act & Assert
+        assertThrows(StockConflictException.class, () -> reservation.reserve(1L, 3));
+        verify(itemStockRepository, times(3)).compareAndSetQuantity(1L, 7, 1L);
+        assertEquals(3, meterRegistry.get("stock.reservation.conflicts").counter().count());
+        assertEquals(2, meterRegistry.get("stock.reservation.retries").counter().count());
+    }
+
+    @Test
+    void givenNotEnoughStock_whenReserve_thenThrowInsufficientStockException() {
+        // Mock repo
+        doReturn(Optional.of(stock(2, 1L))).when(itemStockRepository).findStockVersion(1L);
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class, () -> reservation.reserve(1L, 3));
+        verify(itemStockRepository, never()).compareAndSetQuantity(anyLong(), anyInt(), anyLong());
+    }
+
+    private StockVersion stock(int quantity, Long version) {
+        return new StockVersion() {
+            @Override
+            public Integer getQuantity() {
+                return quantity;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+}
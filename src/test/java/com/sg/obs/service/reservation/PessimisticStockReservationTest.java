@@ -0,0 +1,58 @@
+package com.sg.obs.service.reservation;
+
+import com.sg.obs.exception.InsufficientStockException;
+import com.sg.obs.models.ItemStock;
+import com.sg.obs.repository.ItemStockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class PessimisticStockReservationTest {
+
+    @Mock
+    private ItemStockRepository itemStockRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PessimisticStockReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = new PessimisticStockReservation(itemStockRepository, meterRegistry);
+    }
+
+    @Test
+    void givenLockedStock_whenReserve_thenDecrementLockedRow() {
+        // Mock repo
+        ItemStock stock = ItemStock.builder().itemId(1L).quantity(10).build();
+        doReturn(Optional.of(stock)).when(itemStockRepository).findByIdForUpdate(1L);
+
+        // Act
+        reservation.reserve(1L, 4);
+
+        // Assert
+        assertEquals(6, stock.getQuantity());
+        assertEquals(1, meterRegistry.get("stock.reservation.wait").timer().count());
+    }
+
+    @Test
+    void givenNotEnoughStock_whenReserve_thenThrowInsufficientStockException() {
+        // Mock repo
+        ItemStock stock = ItemStock.builder().itemId(1L).quantity(2).build();
+        doReturn(Optional.of(stock)).when(itemStockRepository).findByIdForUpdate(1L);
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class, () -> reservation.reserve(1L, 4));
+        assertEquals(2, stock.getQuantity());
+    }
+}
@@ -0,0 +1,111 @@
+package com.sg.obs.service.rollup;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.map.IMap;
+import com.sg.obs.config.HazelcastConfig;
+import com.sg.obs.dto.sales.SalesEvent;
+import com.sg.obs.dto.sales.SalesRollup;
+import com.sg.obs.enums.SalesWindow;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Runs the rollup job on the embedded instance and feeds it through the salesEvents journal.
+ */
+class SalesRollupPipelineTest {
+
+    private static final HazelcastInstance hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(
+            HazelcastConfig.config(HazelcastConfig.INSTANCE_NAME, HazelcastConfig.ClusterSettings.standalone()));
+
+    // Items no other test publishes, so events replayed from the start of the journal do not add up across runs
+    private static final AtomicLong itemIds = new AtomicLong(ThreadLocalRandom.current().nextLong(1_000_000, 1_000_000_000));
+
+    private static Job job;
+
+    @BeforeAll
+    static void startJob() {
+        job = hazelcastInstance.getJet().newJob(SalesRollupPipeline.build(100, 100),
+                new JobConfig().setName(SalesRollupPipeline.JOB_NAME + "-" + UUID.randomUUID()));
+    }
+
+    @AfterAll
+    static void cancelJob() {
+        job.cancel();
+    }
+
+    @Test
+    void givenSalesAndStockMovements_whenPublished_thenRollUpPerItemAndWindow() {
+        // Arrange
+        long itemId = itemIds.incrementAndGet();
+        long otherItemId = itemIds.incrementAndGet();
+        long now = System.currentTimeMillis();
+
+        // Act
+        publish(SalesEvent.sale(itemId, 2, 20.0, now));
+        publish(SalesEvent.sale(itemId, 3, 30.0, now));
+        publish(SalesEvent.stockMoved(itemId, -5, now));
+        publish(SalesEvent.stockMoved(itemId, 10, now));
+        publish(SalesEvent.sale(otherItemId, 1, 7.5, now));
+
+        // Assert
+        for (SalesWindow window : SalesWindow.values()) {
+            SalesRollup rollup = awaitRollup(window, itemId, now, 5);
+            assertNotNull(rollup, window.name());
+            assertEquals(5, rollup.units(), window.name());
+            assertEquals(50.0, rollup.revenue(), window.name());
+            assertEquals(5, rollup.stockDelta(), window.name());
+        }
+        SalesRollup other = awaitRollup(SalesWindow.HOUR, otherItemId, now, 1);
+        assertNotNull(other);
+        assertEquals(7.5, other.revenue());
+    }
+
+    @Test
+    void givenTumblingWindow_whenRolledUp_thenWindowIsAlignedToItsSize() {
+        // Arrange
+        long itemId = itemIds.incrementAndGet();
+        long now = System.currentTimeMillis();
+
+        // Act
+        publish(SalesEvent.sale(itemId, 1, 1.0, now));
+
+        // Assert
+        SalesRollup minute = awaitRollup(SalesWindow.MINUTE, itemId, now, 1);
+        assertNotNull(minute);
+        assertEquals(now - now % 60_000, minute.windowStart());
+        assertEquals(minute.windowStart() + 60_000, minute.windowEnd());
+    }
+
+    private static void publish(SalesEvent event) {
+        IMap<Long, SalesEvent> events = hazelcastInstance.getMap(HazelcastConfig.SALES_EVENT_MAP);
+        events.set(hazelcastInstance.getFlakeIdGenerator(HazelcastConfig.SALES_EVENT_ID_GENERATOR).newId(), event);
+    }
+
+    // Open windows are written as early results, so wait for the one that has seen every event
+    private static SalesRollup awaitRollup(SalesWindow window, long itemId, long timestamp, long units) {
+        IMap<String, SalesRollup> rollups = hazelcastInstance.getMap(window.getMapName());
+        String key = window.isSliding()
+                ? SalesRollup.key(itemId, timestamp - timestamp % window.getSlide().toMillis() + window.getSlide().toMillis())
+                : SalesRollup.key(itemId, timestamp - timestamp % window.getSize().toMillis());
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        SalesRollup rollup = rollups.get(key);
+        while ((rollup == null || rollup.units() != units) && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(Duration.ofMillis(20).toNanos());
+            rollup = rollups.get(key);
+        }
+        return rollup;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sg.obs.utility;
+
+import com.sg.obs.exception.ApiException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilTest {
+
+    @Test
+    void givenKey_whenEncodeAndDecode_thenShouldRoundTrip() {
+        // Act
+        String cursor = CursorUtil.encode(Long.MAX_VALUE);
+
+        // Assert
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorUtil.decode(cursor)).isEqualTo(Long.MAX_VALUE);
+        assertThat(CursorUtil.decode(CursorUtil.encode(0L))).isZero();
+    }
+
+    @Test
+    void givenBlankCursor_whenDecode_thenShouldReturnNull() {
+        // Assert
+        assertThat(CursorUtil.decode(null)).isNull();
+        assertThat(CursorUtil.decode(" ")).isNull();
+    }
+
+    @Test
+    void givenMalformedCursor_whenDecode_thenShouldThrowBadRequest() {
+        // Assert
+        assertThatThrownBy(() -> CursorUtil.decode("zz!"))
+                .isInstanceOf(ApiException.class)
+                .hasMessage(CursorUtil.INVALID_CURSOR);
+        assertThatThrownBy(() -> CursorUtil.decode("AAAA"))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> CursorUtil.decode(CursorUtil.encode(-1L)))
+                .isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void givenOutOfRangeSize_whenLimit_thenShouldClamp() {
+        // Assert
+        assertThat(CursorUtil.limit(0)).isEqualTo(1);
+        assertThat(CursorUtil.limit(50)).isEqualTo(50);
+        assertThat(CursorUtil.limit(100_000)).isEqualTo(CursorUtil.MAX_SIZE);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sg.obs.utility;
+
+import com.sg.obs.dto.PageWrapper;
+import com.sg.obs.dto.item.ItemInfo;
+import com.sg.obs.dto.order.OrderInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagUtilTest {
+
+    @Test
+    void givenSameVersionAndStock_whenOf_thenShouldReturnSameStrongTag() {
+        // Act
+        String tag = ETagUtil.of(item(1L, 3L, 5));
+
+        // Assert
+        assertThat(tag).matches("\"[0-9a-f]{32}\"");
+        assertThat(ETagUtil.of(item(1L, 3L, 5))).isEqualTo(tag);
+        assertThat(ETagUtil.of(item(1L, 4L, 5))).isNotEqualTo(tag);
+        assertThat(ETagUtil.of(item(1L, 3L, 4))).isNotEqualTo(tag);
+    }
+
+    @Test
+    void givenOrderWithRenamedItem_whenOf_thenShouldChangeTag() {
+        // Arrange
+        OrderInfo order = OrderInfo.builder().orderNo("O1").itemName("Pen").version(0L).build();
+
+        // Assert
+        assertThat(ETagUtil.of(order.toBuilder().itemName("Pencil").build())).isNotEqualTo(ETagUtil.of(order));
+    }
+
+    @Test
+    void givenPage_whenOf_thenShouldCoverRowsAndMetadata() {
+        // Arrange
+        PageWrapper<ItemInfo> page = page(List.of(item(1L, 0L, 5), item(2L, 0L, 5)), 2);
+
+        // Assert
+        assertThat(ETagUtil.of(page(List.of(item(1L, 0L, 5), item(2L, 0L, 5)), 2))).isEqualTo(ETagUtil.of(page));
+        assertThat(ETagUtil.of(page(List.of(item(1L, 0L, 5), item(2L, 1L, 5)), 2))).isNotEqualTo(ETagUtil.of(page));
+        assertThat(ETagUtil.of(page(List.of(item(1L, 0L, 5), item(2L, 0L, 5)), 3))).isNotEqualTo(ETagUtil.of(page));
+    }
+
+    @Test
+    void givenUnversionedData_whenOf_thenShouldReturnNull() {
+        // Assert
+        assertThat(ETagUtil.of(item(1L, null, 5))).isNull();
+        assertThat(ETagUtil.of("Item deleted")).isNull();
+        assertThat(ETagUtil.of(null)).isNull();
+    }
+
+    private static ItemInfo item(Long id, Long version, int remainingStock) {
+        return ItemInfo.builder().id(id).name("Item " + id).version(version).remainingStock(remainingStock).build();
+    }
+
+    private static PageWrapper<ItemInfo> page(List<ItemInfo> items, long total) {
+        return PageWrapper.of(new PagedModel<>(new PageImpl<>(items, PageRequest.of(0, 2), total)));
+    }
+}
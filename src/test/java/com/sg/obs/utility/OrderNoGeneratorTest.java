@@ -0,0 +1,78 @@
+package com.sg.obs.utility;
+
+import com.sg.obs.models.OrderNo;
+import com.sg.obs.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class OrderNoGeneratorTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderNoGenerator orderNoGenerator;
+
+    @BeforeEach
+    void setUp() {
+        orderNoGenerator = new OrderNoGenerator(orderRepository, 3);
+    }
+
+    @Test
+    void givenBlockAllocated_whenNextOrderNo_thenHandOutBlockBeforeHittingSequence() {
+        // Mock repo
+        doReturn(List.of(1L)).when(orderRepository).getNextOrderSeqs(1);
+
+        // Act
+        List<OrderNo> orderNos = List.of(
+                orderNoGenerator.nextOrderNo(),
+                orderNoGenerator.nextOrderNo(),
+                orderNoGenerator.nextOrderNo());
+
+        // Assert
+        assertThat(orderNos).containsExactly(
+                orderNo(1L),
+                orderNo(2L),
+                orderNo(3L));
+        verify(orderRepository).getNextOrderSeqs(1);
+        verifyNoMoreInteractions(orderRepository);
+    }
+
+    @Test
+    void givenPartiallyUsedBlock_whenNextOrderNos_thenDrainBlockAndFetchRemainingBlocksAtOnce() {
+        // Mock repo
+        doReturn(List.of(1L)).when(orderRepository).getNextOrderSeqs(1);
+        doReturn(List.of(10L, 40L)).when(orderRepository).getNextOrderSeqs(2);
+        orderNoGenerator.nextOrderNo();
+
+        // Act
+        List<OrderNo> orderNos = orderNoGenerator.nextOrderNos(6);
+        OrderNo next = orderNoGenerator.nextOrderNo();
+
+        // Assert
+        assertThat(orderNos).containsExactly(
+                orderNo(2L),
+                orderNo(3L),
+                orderNo(10L),
+                orderNo(11L),
+                orderNo(12L),
+                orderNo(40L));
+        assertThat(next).isEqualTo(orderNo(41L));
+        verify(orderRepository).getNextOrderSeqs(2);
+    }
+
+    private static OrderNo orderNo(long sequence) {
+        return OrderNo.of(YearMonth.now(), sequence);
+    }
+}